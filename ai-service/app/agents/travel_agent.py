@@ -235,7 +235,8 @@ class TravelAgent:
 
         return {
             "schedules": schedules,
-            "summary": f"{destination}에서 {days}일간의 {theme_labels.get(theme, theme)} 여행 일정입니다."
+            "summary": f"{destination}에서 {days}일간의 {theme_labels.get(theme, theme)} 여행 일정입니다.",
+            "fallback": True
         }
 
     async def recommend_places(
@@ -31,6 +31,7 @@ class Schedule(BaseModel):
 class ScheduleResponse(BaseModel):
     schedules: List[Schedule]
     summary: str
+    fallback: bool = False  # AI 없이 만든 임시 일정 (캐시하지 않음)
 
 class PlaceRequest(BaseModel):
     destination: str
@@ -0,0 +1,143 @@
+package com.tripmate.cache;
+
+import com.fasterxml.jackson.databind.BeanDescription;
+import com.fasterxml.jackson.databind.JavaType;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.introspect.BeanPropertyDefinition;
+import com.fasterxml.jackson.databind.util.ByteBufferBackedInputStream;
+import com.fasterxml.jackson.dataformat.smile.SmileFactory;
+import com.fasterxml.jackson.dataformat.smile.SmileGenerator;
+
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.nio.ByteBuffer;
+import java.nio.charset.StandardCharsets;
+import java.util.HashSet;
+import java.util.Set;
+import java.util.zip.CRC32;
+import java.util.zip.Deflater;
+import java.util.zip.DeflaterOutputStream;
+import java.util.zip.InflaterInputStream;
+
+/**
+ * L2 저장용 바이너리 코덱
+ * 본문은 Smile(바이너리 JSON)로, 필드 이름과 반복되는 짧은 값(cat1~3, areaCode 등)은 처음 이후 참조 번호로만 쓴다.
+ * 본문이 compressThreshold 보다 크면 deflate 로 압축한다.
+ * 앞 7바이트 헤더에 포맷 버전과 값 타입의 스키마 지문을 넣어, 형식이나 DTO 필드가 바뀌면 이전 값은 캐시 미스로 처리한다.
+ */
+public class CacheCodec<T> {
+
+    private static final byte MAGIC = (byte) 0xC7;
+    private static final byte FORMAT_VERSION = 1;
+    private static final byte FLAG_DEFLATE = 1;
+    private static final int HEADER_SIZE = 7;
+
+    private final ObjectMapper smileMapper;
+    private final JavaType type;
+    private final int schema;
+    private final int compressThreshold;
+
+    public CacheCodec(ObjectMapper objectMapper, JavaType type, int compressThreshold) {
+        this.smileMapper = objectMapper.copyWith(SmileFactory.builder()
+                .enable(SmileGenerator.Feature.CHECK_SHARED_STRING_VALUES)
+                .build());
+        this.type = type;
+        this.schema = fingerprint(objectMapper, type);
+        this.compressThreshold = compressThreshold;
+    }
+
+    public byte[] encode(T value) throws IOException {
+        byte[] body = smileMapper.writerFor(type).writeValueAsBytes(value);
+        byte flags = 0;
+        if (body.length > compressThreshold) {
+            byte[] compressed = deflate(body);
+            if (compressed.length < body.length) {
+                body = compressed;
+                flags |= FLAG_DEFLATE;
+            }
+        }
+
+        return ByteBuffer.allocate(HEADER_SIZE + body.length)
+                .put(MAGIC)
+                .put(FORMAT_VERSION)
+                .put(flags)
+                .putInt(schema)
+                .put(body)
+                .array();
+    }
+
+    /**
+     * 다른 버전이나 스키마로 저장된 값(이전 JSON 포함)이면 null
+     */
+    public T decode(byte[] data) throws IOException {
+        return decode(ByteBuffer.wrap(data));
+    }
+
+    /**
+     * 메모리 매핑한 파일 등 ByteBuffer 에서 바로 읽는다.
+     */
+    public T decode(ByteBuffer data) throws IOException {
+        if (data.remaining() < HEADER_SIZE
+                || data.get(data.position()) != MAGIC
+                || data.get(data.position() + 1) != FORMAT_VERSION) {
+            return null;
+        }
+        byte flags = data.get(data.position() + 2);
+        if (data.getInt(data.position() + 3) != schema) {
+            return null;
+        }
+
+        InputStream in = new ByteBufferBackedInputStream(data.duplicate().position(data.position() + HEADER_SIZE));
+        try (InputStream body = (flags & FLAG_DEFLATE) != 0 ? new InflaterInputStream(in) : in) {
+            return smileMapper.readValue(body, type);
+        }
+    }
+
+    private static byte[] deflate(byte[] body) throws IOException {
+        ByteArrayOutputStream out = new ByteArrayOutputStream(body.length / 2);
+        Deflater deflater = new Deflater(Deflater.BEST_SPEED);
+        try (DeflaterOutputStream deflating = new DeflaterOutputStream(out, deflater)) {
+            deflating.write(body);
+        } finally {
+            deflater.end();
+        }
+        return out.toByteArray();
+    }
+
+    /**
+     * 값 타입이 직렬화하는 속성 이름과 타입을 재귀적으로 모아 만든 CRC32
+     */
+    static int fingerprint(ObjectMapper objectMapper, JavaType type) {
+        StringBuilder sb = new StringBuilder();
+        describe(objectMapper, type, sb, new HashSet<>());
+        CRC32 crc = new CRC32();
+        crc.update(sb.toString().getBytes(StandardCharsets.UTF_8));
+        return (int) crc.getValue();
+    }
+
+    private static void describe(ObjectMapper objectMapper, JavaType type, StringBuilder sb, Set<JavaType> visited) {
+        sb.append(type.getRawClass().getName());
+        if (type.isContainerType()) {
+            sb.append('<');
+            describe(objectMapper, type.getContentType(), sb, visited);
+            sb.append('>');
+            return;
+        }
+        if (type.isPrimitive() || type.getRawClass().getName().startsWith("java.") || !visited.add(type)) {
+            return;
+        }
+
+        BeanDescription bean = objectMapper.getSerializationConfig().introspect(type);
+        sb.append('{');
+        for (BeanPropertyDefinition property : bean.findProperties()) {
+            if (!property.couldSerialize()) {
+                continue;
+            }
+            sb.append(property.getName()).append(':');
+            describe(objectMapper, property.getPrimaryType(), sb, visited);
+            sb.append(',');
+        }
+        sb.append('}');
+    }
+}
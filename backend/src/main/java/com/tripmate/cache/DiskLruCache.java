@@ -0,0 +1,256 @@
+package com.tripmate.cache;
+
+import lombok.extern.slf4j.Slf4j;
+
+import java.io.Closeable;
+import java.io.EOFException;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.OutputStream;
+import java.io.UncheckedIOException;
+import java.nio.ByteBuffer;
+import java.nio.channels.Channels;
+import java.nio.channels.FileChannel;
+import java.nio.channels.WritableByteChannel;
+import java.nio.file.Files;
+import java.nio.file.NoSuchFileException;
+import java.nio.file.Path;
+import java.nio.file.StandardCopyOption;
+import java.nio.file.StandardOpenOption;
+import java.nio.file.attribute.FileTime;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.Iterator;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.stream.Stream;
+
+/**
+ * 디렉터리 하나를 이름(해시) 기준 파일 저장소로 쓰고, 전체 크기가 한도를 넘으면 가장 오래 쓰지 않은 파일부터 지운다.
+ * 시작 시 기존 파일을 수정 시각 순으로 읽어 들이므로 재시작 후에도 캐시가 유지된다.
+ * open 으로 연 파일은 닫을 때까지 지우지 않는다. (그동안 한도를 넘으면 닫은 뒤에 지운다)
+ */
+@Slf4j
+public class DiskLruCache {
+
+    private final Path directory;
+    private final long maxBytes;
+
+    // 접근 순서 유지, this 로 동기화
+    private final LinkedHashMap<String, Long> entries = new LinkedHashMap<>(256, 0.75f, true);
+    private final Map<String, Integer> pins = new HashMap<>();
+    private long totalBytes;
+
+    public DiskLruCache(Path directory, long maxBytes) {
+        this.directory = directory;
+        this.maxBytes = maxBytes;
+        try {
+            Files.createDirectories(directory);
+            loadExisting();
+        } catch (IOException e) {
+            throw new UncheckedIOException("Failed to open disk cache at " + directory, e);
+        }
+    }
+
+    /**
+     * 저장된 파일을 연다. 없으면 null. 돌려받은 Snapshot 을 닫을 때까지 파일은 지워지지 않는다.
+     */
+    public Snapshot open(String name) {
+        synchronized (this) {
+            if (entries.get(name) == null) {
+                return null;
+            }
+            pins.merge(name, 1, Integer::sum);
+        }
+        try {
+            FileChannel channel = FileChannel.open(directory.resolve(name), StandardOpenOption.READ);
+            return new Snapshot(name, channel, channel.size());
+        } catch (NoSuchFileException e) {
+            // 밖에서 지워진 파일
+            synchronized (this) {
+                unpin(name);
+                Long size = entries.remove(name);
+                totalBytes -= size != null ? size : 0;
+            }
+            return null;
+        } catch (IOException e) {
+            synchronized (this) {
+                unpin(name);
+            }
+            throw new UncheckedIOException("Failed to open " + name + " in disk cache", e);
+        }
+    }
+
+    /**
+     * 임시 파일에 쓴 뒤 이름을 바꿔 넣으므로, 읽는 쪽은 항상 완성된 파일만 본다.
+     */
+    public Path put(String name, byte[] data) {
+        Path target = directory.resolve(name);
+        try {
+            Path temp = Files.createTempFile(directory, name, ".tmp");
+            Files.write(temp, data);
+            Files.move(temp, target, StandardCopyOption.REPLACE_EXISTING, StandardCopyOption.ATOMIC_MOVE);
+        } catch (IOException e) {
+            throw new UncheckedIOException("Failed to write " + name + " to disk cache", e);
+        }
+
+        synchronized (this) {
+            Long previous = entries.put(name, (long) data.length);
+            totalBytes += data.length - (previous != null ? previous : 0);
+            evict();
+        }
+        return target;
+    }
+
+    public synchronized long size() {
+        return totalBytes;
+    }
+
+    synchronized int pinned() {
+        return pins.size();
+    }
+
+    private void unpin(String name) {
+        pins.computeIfPresent(name, (key, count) -> count > 1 ? count - 1 : null);
+    }
+
+    private void evict() {
+        Iterator<Map.Entry<String, Long>> iterator = entries.entrySet().iterator();
+        while (totalBytes > maxBytes && iterator.hasNext()) {
+            Map.Entry<String, Long> eldest = iterator.next();
+            if (pins.containsKey(eldest.getKey())) {
+                continue;
+            }
+            try {
+                Files.deleteIfExists(directory.resolve(eldest.getKey()));
+            } catch (IOException e) {
+                log.warn("Failed to evict {} from disk cache: {}", eldest.getKey(), e.getMessage());
+                continue;
+            }
+            totalBytes -= eldest.getValue();
+            iterator.remove();
+        }
+    }
+
+    private synchronized void release(String name) {
+        unpin(name);
+        if (totalBytes > maxBytes) {
+            evict();
+        }
+    }
+
+    private void loadExisting() throws IOException {
+        List<Path> files;
+        try (Stream<Path> stream = Files.list(directory)) {
+            files = stream.filter(Files::isRegularFile).toList();
+        }
+
+        Map<Path, FileTime> modified = new LinkedHashMap<>();
+        for (Path file : files) {
+            if (file.getFileName().toString().endsWith(".tmp")) {
+                Files.deleteIfExists(file);
+            } else {
+                modified.put(file, Files.getLastModifiedTime(file));
+            }
+        }
+
+        synchronized (this) {
+            modified.keySet().stream()
+                    .sorted(Comparator.comparing(modified::get))
+                    .forEach(file -> {
+                        try {
+                            long size = Files.size(file);
+                            entries.put(file.getFileName().toString(), size);
+                            totalBytes += size;
+                        } catch (IOException e) {
+                            log.warn("Skipping unreadable cache file {}: {}", file, e.getMessage());
+                        }
+                    });
+            evict();
+        }
+        log.info("Disk cache {}: {} files, {} bytes", directory, entries.size(), totalBytes);
+    }
+
+    /**
+     * 열어 둔 캐시 파일. 닫으면 다시 지울 수 있게 된다.
+     */
+    public final class Snapshot implements Closeable {
+
+        private final String name;
+        private final FileChannel channel;
+        private final long size;
+        private boolean closed;
+
+        private Snapshot(String name, FileChannel channel, long size) {
+            this.name = name;
+            this.channel = channel;
+            this.size = size;
+        }
+
+        public long size() {
+            return size;
+        }
+
+        public byte[] readAllBytes() throws IOException {
+            ByteBuffer buffer = ByteBuffer.allocate(Math.toIntExact(size));
+            while (buffer.hasRemaining()) {
+                if (channel.read(buffer, buffer.position()) < 0) {
+                    throw new EOFException(name + " is shorter than " + size + " bytes");
+                }
+            }
+            return buffer.array();
+        }
+
+        /**
+         * 내용을 읽는 스트림. transferTo 는 FileChannel.transferTo 로 보내고, 스트림을 닫으면 Snapshot 도 닫힌다.
+         */
+        public InputStream inputStream() {
+            InputStream in = Channels.newInputStream(channel);
+            return new InputStream() {
+                @Override
+                public int read() throws IOException {
+                    return in.read();
+                }
+
+                @Override
+                public int read(byte[] b, int off, int len) throws IOException {
+                    return in.read(b, off, len);
+                }
+
+                @Override
+                public long transferTo(OutputStream out) throws IOException {
+                    WritableByteChannel target = Channels.newChannel(out);
+                    long start = channel.position();
+                    long position = start;
+                    while (position < size) {
+                        position += channel.transferTo(position, size - position, target);
+                    }
+                    channel.position(position);
+                    return position - start;
+                }
+
+                @Override
+                public void close() {
+                    Snapshot.this.close();
+                }
+            };
+        }
+
+        @Override
+        public void close() {
+            synchronized (this) {
+                if (closed) {
+                    return;
+                }
+                closed = true;
+            }
+            try {
+                channel.close();
+            } catch (IOException e) {
+                log.warn("Failed to close {} in disk cache: {}", name, e.getMessage());
+            }
+            release(name);
+        }
+    }
+}
@@ -0,0 +1,300 @@
+package com.tripmate.cache;
+
+import com.fasterxml.jackson.databind.JavaType;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import com.github.benmanes.caffeine.cache.Expiry;
+import com.github.benmanes.caffeine.cache.RemovalCause;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.DistributionSummary;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.data.redis.core.ReactiveRedisTemplate;
+import reactor.core.publisher.Mono;
+
+import java.time.Duration;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.concurrent.TimeUnit;
+import java.util.function.Predicate;
+import java.util.function.Supplier;
+
+/**
+ * 2단계 캐시 (L1: 프로세스 내 Caffeine, L2: Redis)
+ * Redis 장애 시에는 L1과 원본 조회만으로 동작한다. L2 에는 CacheCodec 으로 인코딩한 바이트를 저장한다.
+ * softTtl 을 주면 그 시간이 지난 값도 ttl 까지는 바로 반환하고, 뒤에서 한 번만 새로 읽어 교체한다.
+ * 빈 결과 등은 negativeCaching 으로 지정한 짧은 TTL 동안만 보관할 수 있다.
+ */
+@Slf4j
+public class TieredCache<T> {
+
+    private static final String KEY_PREFIX = "tripmate:cache:";
+    private static final Duration REDIS_TIMEOUT = Duration.ofMillis(300);
+    static final int COMPRESS_THRESHOLD = 512;
+
+    private final String name;
+    private final Duration ttl;
+    private final Duration softTtl;
+    private final Cache<String, Entry<T>> local;
+    private final ReactiveRedisTemplate<String, byte[]> redisTemplate;
+    private final CacheCodec<Entry<T>> codec;
+    private Predicate<T> negative = value -> false;
+    private Duration negativeTtl;
+
+    private final Counter l1Hits;
+    private final Counter l2Hits;
+    private final Counter misses;
+    private final Counter staleHits;
+    private final Counter refreshFailures;
+    private final DistributionSummary payloadBytes;
+    private final SingleFlight<T> refreshes;
+
+    public TieredCache(String name, Duration ttl, long maxSize,
+                       ReactiveRedisTemplate<String, byte[]> redisTemplate,
+                       ObjectMapper objectMapper,
+                       JavaType valueType,
+                       MeterRegistry meterRegistry) {
+        this(name, ttl, null, maxSize, redisTemplate, objectMapper, valueType, meterRegistry);
+    }
+
+    public TieredCache(String name, Duration ttl, Duration softTtl, long maxSize,
+                       ReactiveRedisTemplate<String, byte[]> redisTemplate,
+                       ObjectMapper objectMapper,
+                       JavaType valueType,
+                       MeterRegistry meterRegistry) {
+        this.name = name;
+        this.ttl = ttl;
+        this.softTtl = softTtl;
+        this.redisTemplate = redisTemplate;
+        this.codec = new CacheCodec<>(objectMapper,
+                objectMapper.getTypeFactory().constructParametricType(Entry.class, valueType), COMPRESS_THRESHOLD);
+
+        Counter sizeEvictions = evictionCounter(meterRegistry, "size");
+        Counter expiredEvictions = evictionCounter(meterRegistry, "expired");
+        this.local = Caffeine.newBuilder()
+                .maximumSize(maxSize)
+                .expireAfter(new Expiry<String, Entry<T>>() {
+                    @Override
+                    public long expireAfterCreate(String key, Entry<T> entry, long currentTime) {
+                        return remaining(entry);
+                    }
+
+                    @Override
+                    public long expireAfterUpdate(String key, Entry<T> entry, long currentTime, long currentDuration) {
+                        return remaining(entry);
+                    }
+
+                    @Override
+                    public long expireAfterRead(String key, Entry<T> entry, long currentTime, long currentDuration) {
+                        return currentDuration;
+                    }
+                })
+                .removalListener((String key, Entry<T> entry, RemovalCause cause) -> {
+                    if (cause == RemovalCause.SIZE) {
+                        sizeEvictions.increment();
+                    } else if (cause == RemovalCause.EXPIRED) {
+                        expiredEvictions.increment();
+                    }
+                })
+                .build();
+
+        this.l1Hits = requestCounter(meterRegistry, "l1", "hit");
+        this.l2Hits = requestCounter(meterRegistry, "l2", "hit");
+        this.misses = requestCounter(meterRegistry, "none", "miss");
+        this.staleHits = requestCounter(meterRegistry, "any", "stale");
+        this.refreshFailures = Counter.builder("cache.refresh.failures")
+                .tag("cache", name)
+                .register(meterRegistry);
+        this.payloadBytes = DistributionSummary.builder("cache.l2.payload")
+                .baseUnit("bytes")
+                .tag("cache", name)
+                .register(meterRegistry);
+        this.refreshes = new SingleFlight<>("cache-refresh:" + name, meterRegistry);
+        Gauge.builder("cache.size", local, Cache::estimatedSize)
+                .tag("cache", name)
+                .register(meterRegistry);
+    }
+
+    /**
+     * negative 를 만족하는 값(빈 결과 등)은 ttl 대신 negativeTtl 동안만 보관하고, 백그라운드 갱신도 하지 않는다.
+     */
+    public TieredCache<T> negativeCaching(Predicate<T> negative, Duration negativeTtl) {
+        this.negative = negative;
+        this.negativeTtl = negativeTtl;
+        return this;
+    }
+
+    /**
+     * L1 → L2 → loader 순으로 조회하고, 원본에서 읽은 값은 두 계층에 모두 저장한다.
+     * loader 가 실패하거나 비어 있으면 캐시하지 않는다.
+     */
+    public Mono<T> get(String key, Supplier<Mono<T>> loader) {
+        return get(key, loader, value -> true);
+    }
+
+    /**
+     * cacheable 을 만족하는 값만 저장한다. (일부만 조회된 응답 등을 걸러낼 때 사용)
+     */
+    public Mono<T> get(String key, Supplier<Mono<T>> loader, Predicate<T> cacheable) {
+        Entry<T> cached = local.getIfPresent(key);
+        if (cached != null) {
+            l1Hits.increment();
+            return Mono.just(serve(key, cached, loader, cacheable));
+        }
+
+        return readRemote(key)
+                .filter(entry -> entry.expiresAt() > System.currentTimeMillis())
+                .doOnNext(entry -> {
+                    l2Hits.increment();
+                    local.put(key, entry);
+                })
+                .map(entry -> serve(key, entry, loader, cacheable))
+                .switchIfEmpty(Mono.defer(() -> {
+                    misses.increment();
+                    return load(key, loader, cacheable);
+                }));
+    }
+
+    /**
+     * L1 에 있는 값만 즉시 반환한다. 없으면 null.
+     */
+    public T getIfPresent(String key) {
+        Entry<T> entry = local.getIfPresent(key);
+        return entry != null ? entry.value() : null;
+    }
+
+    public void put(String key, T value) {
+        long now = System.currentTimeMillis();
+        long refreshAt = softTtl != null && !negative.test(value)
+                ? now + softTtl.toMillis()
+                : Long.MAX_VALUE;
+        Entry<T> entry = new Entry<>(value, refreshAt, now + ttlOf(value).toMillis());
+        local.put(key, entry);
+        writeRemote(key, entry);
+    }
+
+    /**
+     * 자주 쓰인 순으로 L1 항목을 최대 limit 개 (negative 값 제외)
+     */
+    public Map<String, Entry<T>> hottest(int limit) {
+        Map<String, Entry<T>> result = new LinkedHashMap<>();
+        local.policy().eviction().ifPresent(eviction -> eviction.hottest(limit).forEach((key, entry) -> {
+            if (!negative.test(entry.value())) {
+                result.put(key, entry);
+            }
+        }));
+        return result;
+    }
+
+    /**
+     * 스냅숏 등에서 읽은 항목을 L1 에만 넣는다. 이미 있는 키와 만료된 항목은 두고,
+     * 넣은 값은 원래 만료 시각까지만 보관하며 처음 조회될 때 새로 읽는다.
+     */
+    public void warm(String key, Entry<T> entry) {
+        if (entry.expiresAt() > System.currentTimeMillis()) {
+            local.asMap().putIfAbsent(key, new Entry<>(entry.value(), 0, entry.expiresAt()));
+        }
+    }
+
+    public String getName() {
+        return name;
+    }
+
+    private T serve(String key, Entry<T> entry, Supplier<Mono<T>> loader, Predicate<T> cacheable) {
+        if (System.currentTimeMillis() >= entry.refreshAt()) {
+            staleHits.increment();
+            refreshes.execute(key, () -> load(key, loader, cacheable))
+                    .subscribe(
+                            value -> {},
+                            e -> {
+                                refreshFailures.increment();
+                                log.warn("Cache [{}] refresh failed for key {}: {}", name, key, e.getMessage());
+                            });
+        }
+        return entry.value();
+    }
+
+    private Mono<T> load(String key, Supplier<Mono<T>> loader, Predicate<T> cacheable) {
+        return loader.get().doOnNext(value -> {
+            if (cacheable.test(value)) {
+                put(key, value);
+            }
+        });
+    }
+
+    /**
+     * 만료까지 남은 시간 (L2 나 스냅숏에서 읽은 값도 처음 저장한 시각 기준으로 만료된다)
+     */
+    private static long remaining(Entry<?> entry) {
+        return TimeUnit.MILLISECONDS.toNanos(Math.max(0, entry.expiresAt() - System.currentTimeMillis()));
+    }
+
+    private Duration ttlOf(T value) {
+        return negativeTtl != null && negative.test(value) ? negativeTtl : ttl;
+    }
+
+    private Mono<Entry<T>> readRemote(String key) {
+        return redisTemplate.opsForValue().get(redisKey(key))
+                .timeout(REDIS_TIMEOUT)
+                .mapNotNull(this::decode)
+                .onErrorResume(e -> {
+                    log.warn("Cache [{}] L2 read failed for key {}: {}", name, key, e.getMessage());
+                    return Mono.empty();
+                });
+    }
+
+    private void writeRemote(String key, Entry<T> entry) {
+        byte[] payload;
+        try {
+            payload = codec.encode(entry);
+        } catch (Exception e) {
+            log.warn("Cache [{}] failed to serialize key {}: {}", name, key, e.getMessage());
+            return;
+        }
+
+        payloadBytes.record(payload.length);
+        redisTemplate.opsForValue().set(redisKey(key), payload, ttlOf(entry.value()))
+                .timeout(REDIS_TIMEOUT)
+                .subscribe(
+                        ok -> {},
+                        e -> log.warn("Cache [{}] L2 write failed for key {}: {}", name, key, e.getMessage()));
+    }
+
+    /**
+     * 다른 버전/스키마로 저장된 값은 null (미스로 처리되고 원본에서 다시 읽어 덮어쓴다)
+     */
+    private Entry<T> decode(byte[] payload) {
+        try {
+            return codec.decode(payload);
+        } catch (Exception e) {
+            throw new IllegalStateException("Invalid cached value in " + name, e);
+        }
+    }
+
+    private String redisKey(String key) {
+        return KEY_PREFIX + name + ":" + key;
+    }
+
+    private Counter requestCounter(MeterRegistry registry, String tier, String result) {
+        return Counter.builder("cache.requests")
+                .tag("cache", name)
+                .tag("tier", tier)
+                .tag("result", result)
+                .register(registry);
+    }
+
+    private Counter evictionCounter(MeterRegistry registry, String cause) {
+        return Counter.builder("cache.evictions")
+                .tag("cache", name)
+                .tag("cause", cause)
+                .register(registry);
+    }
+
+    /**
+     * 저장 값, 새로 읽어야 하는 시각 (softTtl 이 없으면 Long.MAX_VALUE), 만료 시각 (epoch ms)
+     */
+    public record Entry<T>(T value, long refreshAt, long expiresAt) {
+    }
+}
@@ -0,0 +1,31 @@
+package com.tripmate.config;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.type.TypeFactory;
+import com.tripmate.cache.TieredCache;
+import io.micrometer.core.instrument.MeterRegistry;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.data.redis.core.ReactiveRedisTemplate;
+
+import java.time.Duration;
+import java.util.Map;
+
+@Configuration
+public class AICacheConfig {
+
+    /**
+     * AI 일정 추천 결과 (키: 여행 조건 지문)
+     */
+    @Bean
+    public TieredCache<Map<String, Object>> recommendationCache(
+            ReactiveRedisTemplate<String, byte[]> redisTemplate,
+            ObjectMapper objectMapper,
+            MeterRegistry meterRegistry,
+            @Value("${ai-service.recommendation-cache.ttl}") Duration ttl,
+            @Value("${ai-service.recommendation-cache.max-size}") long maxSize) {
+        return new TieredCache<>("ai-recommendation", ttl, maxSize, redisTemplate, objectMapper,
+                TypeFactory.defaultInstance().constructMapType(Map.class, String.class, Object.class), meterRegistry);
+    }
+}
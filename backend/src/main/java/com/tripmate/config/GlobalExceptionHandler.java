@@ -1,11 +1,16 @@
 package com.tripmate.config;
 
 import com.tripmate.dto.ApiResponse;
+import com.tripmate.service.AIServiceBusyException;
+import com.tripmate.service.TourApiUnavailableException;
+import jakarta.servlet.http.HttpServletResponse;
 import lombok.extern.slf4j.Slf4j;
+import org.springframework.http.HttpHeaders;
 import org.springframework.http.HttpStatus;
 import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.annotation.ExceptionHandler;
 import org.springframework.web.bind.annotation.RestControllerAdvice;
+import org.springframework.web.server.ResponseStatusException;
 
 @Slf4j
 @RestControllerAdvice
@@ -27,8 +32,38 @@ public class GlobalExceptionHandler {
                 .body(ApiResponse.error(e.getMessage()));
     }
 
+    @ExceptionHandler(TourApiUnavailableException.class)
+    public ResponseEntity<ApiResponse<Void>> handleTourApiUnavailable(TourApiUnavailableException e) {
+        log.warn("TourApiUnavailableException: {}", e.getMessage());
+        return ResponseEntity
+                .status(HttpStatus.SERVICE_UNAVAILABLE)
+                .body(ApiResponse.error("관광 정보 서비스를 일시적으로 사용할 수 없습니다."));
+    }
+
+    @ExceptionHandler(AIServiceBusyException.class)
+    public ResponseEntity<ApiResponse<Void>> handleAIServiceBusy(AIServiceBusyException e) {
+        log.warn("AIServiceBusyException: {}", e.getMessage());
+        return ResponseEntity
+                .status(HttpStatus.TOO_MANY_REQUESTS)
+                .header(HttpHeaders.RETRY_AFTER, String.valueOf(Math.max(1, e.getRetryAfter().toSeconds())))
+                .body(ApiResponse.error(e.getMessage()));
+    }
+
+    @ExceptionHandler(ResponseStatusException.class)
+    public ResponseEntity<ApiResponse<Void>> handleResponseStatus(ResponseStatusException e) {
+        log.warn("ResponseStatusException: {}", e.getMessage());
+        return ResponseEntity
+                .status(e.getStatusCode())
+                .body(ApiResponse.error(e.getReason()));
+    }
+
     @ExceptionHandler(Exception.class)
-    public ResponseEntity<ApiResponse<Void>> handleException(Exception e) {
+    public ResponseEntity<ApiResponse<Void>> handleException(Exception e, HttpServletResponse response) throws Exception {
+        if (response.isCommitted()) {
+            // 이미 보내기 시작한 응답 뒤에 오류 본문을 잇지 않고, 컨테이너가 연결을 끊도록 그대로 던진다
+            log.warn("Aborting committed response: {}", e.getMessage());
+            throw e;
+        }
         log.error("Unexpected error", e);
         return ResponseEntity
                 .status(HttpStatus.INTERNAL_SERVER_ERROR)
@@ -3,6 +3,7 @@ package com.tripmate.config;
 import com.fasterxml.jackson.databind.ObjectMapper;
 import com.tripmate.dto.ApiResponse;
 import com.tripmate.security.JwtAuthenticationFilter;
+import jakarta.servlet.DispatcherType;
 import jakarta.servlet.http.HttpServletResponse;
 import lombok.RequiredArgsConstructor;
 import org.springframework.context.annotation.Bean;
@@ -41,6 +42,8 @@ public class SecurityConfig {
                 .authenticationEntryPoint(authenticationEntryPoint())
             )
             .authorizeHttpRequests(auth -> auth
+                // 비동기 응답(SSE 등)의 후속 디스패치는 최초 요청에서 이미 인증됨
+                .dispatcherTypeMatchers(DispatcherType.ASYNC).permitAll()
                 .requestMatchers("/api/auth/**").permitAll()
                 .requestMatchers("/api/tour/**").permitAll()
                 .requestMatchers(HttpMethod.GET, "/api/companions/**").permitAll()
@@ -0,0 +1,82 @@
+package com.tripmate.config;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.type.TypeFactory;
+import com.tripmate.cache.TieredCache;
+import com.tripmate.dto.TourApiDto.AreaCode;
+import com.tripmate.dto.TourApiDto.PageResponse;
+import com.tripmate.dto.TourApiDto.TourDetail;
+import com.tripmate.dto.TourApiDto.TourPlace;
+import io.micrometer.core.instrument.MeterRegistry;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.data.redis.core.ReactiveRedisTemplate;
+
+import java.time.Duration;
+import java.util.List;
+
+@Configuration
+public class TourCacheConfig {
+
+    private final ReactiveRedisTemplate<String, byte[]> redisTemplate;
+    private final ObjectMapper objectMapper;
+    private final MeterRegistry meterRegistry;
+
+    @Value("${tour-api.cache.negative-ttl}")
+    private Duration negativeTtl;
+
+    public TourCacheConfig(ReactiveRedisTemplate<String, byte[]> redisTemplate,
+                           ObjectMapper objectMapper,
+                           MeterRegistry meterRegistry) {
+        this.redisTemplate = redisTemplate;
+        this.objectMapper = objectMapper;
+        this.meterRegistry = meterRegistry;
+    }
+
+    @Bean
+    public TieredCache<List<AreaCode>> areaCodeCache(
+            @Value("${tour-api.cache.area-codes.ttl}") Duration ttl,
+            @Value("${tour-api.cache.area-codes.max-size}") long maxSize) {
+        return new TieredCache<List<AreaCode>>("area-codes", ttl, maxSize, redisTemplate, objectMapper,
+                TypeFactory.defaultInstance().constructCollectionType(List.class, AreaCode.class), meterRegistry)
+                .negativeCaching(List::isEmpty, negativeTtl);
+    }
+
+    @Bean
+    public TieredCache<List<AreaCode>> sigunguCodeCache(
+            @Value("${tour-api.cache.sigungu-codes.ttl}") Duration ttl,
+            @Value("${tour-api.cache.sigungu-codes.max-size}") long maxSize) {
+        return new TieredCache<List<AreaCode>>("sigungu-codes", ttl, maxSize, redisTemplate, objectMapper,
+                TypeFactory.defaultInstance().constructCollectionType(List.class, AreaCode.class), meterRegistry)
+                .negativeCaching(List::isEmpty, negativeTtl);
+    }
+
+    @Bean
+    public TieredCache<TourDetail> detailCache(
+            @Value("${tour-api.cache.detail.ttl}") Duration ttl,
+            @Value("${tour-api.cache.detail.max-size}") long maxSize) {
+        return new TieredCache<TourDetail>("detail", ttl, maxSize, redisTemplate, objectMapper,
+                TypeFactory.defaultInstance().constructType(TourDetail.class), meterRegistry)
+                .negativeCaching(detail -> detail.getContentId() == null, negativeTtl);
+    }
+
+    @Bean
+    public TieredCache<PageResponse<TourPlace>> areaListCache(
+            @Value("${tour-api.cache.area-list.ttl}") Duration ttl,
+            @Value("${tour-api.cache.area-list.soft-ttl}") Duration softTtl,
+            @Value("${tour-api.cache.area-list.max-size}") long maxSize) {
+        return new TieredCache<PageResponse<TourPlace>>("area-list", ttl, softTtl, maxSize, redisTemplate, objectMapper,
+                TypeFactory.defaultInstance().constructParametricType(PageResponse.class, TourPlace.class), meterRegistry)
+                .negativeCaching(page -> page.getItems().isEmpty(), negativeTtl);
+    }
+
+    @Bean
+    public TieredCache<PageResponse<TourPlace>> searchCache(
+            @Value("${tour-api.cache.search.ttl}") Duration ttl,
+            @Value("${tour-api.cache.search.max-size}") long maxSize) {
+        return new TieredCache<PageResponse<TourPlace>>("search", ttl, maxSize, redisTemplate, objectMapper,
+                TypeFactory.defaultInstance().constructParametricType(PageResponse.class, TourPlace.class), meterRegistry)
+                .negativeCaching(page -> page.getItems().isEmpty(), negativeTtl);
+    }
+}
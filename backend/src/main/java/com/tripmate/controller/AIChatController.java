@@ -1,20 +1,45 @@
 package com.tripmate.controller;
 
+import com.fasterxml.jackson.databind.ObjectMapper;
 import com.tripmate.dto.AIChatDto;
+import com.tripmate.dto.AIPlanJobDto;
 import com.tripmate.dto.ApiResponse;
+import com.tripmate.dto.JsonEnvelope;
+import com.tripmate.entity.User;
+import com.tripmate.service.AIPlanJobService;
 import com.tripmate.service.AIService;
-import lombok.RequiredArgsConstructor;
+import com.tripmate.service.AIServiceBusyException;
+import org.springframework.core.io.buffer.DataBuffer;
+import org.springframework.core.io.buffer.DefaultDataBufferFactory;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.MediaType;
 import org.springframework.http.ResponseEntity;
+import org.springframework.http.codec.ServerSentEvent;
+import org.springframework.security.core.annotation.AuthenticationPrincipal;
 import org.springframework.web.bind.annotation.*;
+import org.springframework.web.server.ResponseStatusException;
+import org.springframework.web.servlet.mvc.method.annotation.ResponseBodyEmitter;
+import reactor.core.publisher.Flux;
+import reactor.core.publisher.Mono;
 
+import java.nio.charset.StandardCharsets;
 import java.util.Map;
 
 @RestController
 @RequestMapping("/api/ai")
-@RequiredArgsConstructor
 public class AIChatController {
 
+    private static final byte[] NULL = "null".getBytes(StandardCharsets.UTF_8);
+
     private final AIService aiService;
+    private final AIPlanJobService aiPlanJobService;
+    private final JsonEnvelope planEnvelope;
+
+    public AIChatController(AIService aiService, AIPlanJobService aiPlanJobService, ObjectMapper objectMapper) {
+        this.aiService = aiService;
+        this.aiPlanJobService = aiPlanJobService;
+        this.planEnvelope = JsonEnvelope.of(objectMapper, ApiResponse.success(JsonEnvelope.PLACEHOLDER));
+    }
 
     @PostMapping("/chat")
     public ResponseEntity<ApiResponse<AIChatDto.Response>> chat(@RequestBody AIChatDto.Request request) {
@@ -22,6 +47,14 @@ public class AIChatController {
         return ResponseEntity.ok(ApiResponse.success(response));
     }
 
+    /**
+     * AI 대화형 플래너 - 스트리밍 채팅 (token 이벤트 여러 개 뒤에 done 또는 error 이벤트 하나)
+     */
+    @PostMapping(value = "/chat/stream", produces = MediaType.TEXT_EVENT_STREAM_VALUE)
+    public Flux<ServerSentEvent<Object>> chatStream(@RequestBody AIChatDto.Request request) {
+        return aiService.chatStream(request.getSessionId(), request.getMessage());
+    }
+
     @PostMapping("/chat/clear")
     public ResponseEntity<ApiResponse<AIChatDto.ClearResponse>> clearSession(@RequestBody AIChatDto.ClearRequest request) {
         AIChatDto.ClearResponse response = aiService.clearSession(request.getSessionId());
@@ -36,11 +69,53 @@ public class AIChatController {
 
     /**
      * 다중 에이전트 여행 플래너
+     * 첫 조각을 받기 전에 실패하면 오류 응답을 보내고, 보내기 시작한 뒤에 실패하면 응답을 끝맺지 않고 연결을 끊는다.
      */
     @PostMapping("/multi-agent-plan")
-    public ResponseEntity<ApiResponse<Map<String, Object>>> multiAgentPlan(@RequestBody Map<String, Object> request) {
-        Map<String, Object> response = aiService.multiAgentPlan(request);
-        return ResponseEntity.ok(ApiResponse.success(response));
+    public ResponseEntity<ResponseBodyEmitter> multiAgentPlan(@RequestBody Map<String, Object> request) {
+        // 계획 본문은 ai-service 응답 조각을 그대로 ApiResponse 의 data 로 보낸다
+        Flux<DataBuffer> body = aiService.multiAgentPlanBody(request)
+                .switchOnFirst((first, plan) -> first.isOnError()
+                        ? plan.onErrorMap(e -> !(e instanceof AIServiceBusyException), AIChatController::planFailed)
+                        : planEnvelope.wrap(plan.switchIfEmpty(
+                                Mono.fromSupplier(() -> DefaultDataBufferFactory.sharedInstance.wrap(NULL)))));
+        return ResponseEntity.ok()
+                .contentType(MediaType.APPLICATION_JSON)
+                .body(DataBufferEmitter.of(body));
+    }
+
+    private static ResponseStatusException planFailed(Throwable e) {
+        return new ResponseStatusException(HttpStatus.BAD_GATEWAY, "AI 플래너 요청에 실패했습니다: " + e.getMessage(), e);
+    }
+
+    /**
+     * 다중 에이전트 여행 플래너 - 작업 등록 (결과는 작업 조회로 가져간다)
+     */
+    @PostMapping("/multi-agent-plan/jobs")
+    public ResponseEntity<ApiResponse<AIPlanJobDto.Job>> submitMultiAgentPlan(
+            @AuthenticationPrincipal User user,
+            @RequestBody Map<String, Object> request) {
+        AIPlanJobDto.Job job = aiPlanJobService.submit(user.getId(), request);
+        return ResponseEntity.status(HttpStatus.ACCEPTED).body(ApiResponse.success(job));
+    }
+
+    @GetMapping("/multi-agent-plan/jobs/{jobId}")
+    public ResponseEntity<ApiResponse<AIPlanJobDto.Job>> getMultiAgentPlanJob(
+            @AuthenticationPrincipal User user,
+            @PathVariable String jobId) {
+        AIPlanJobDto.Job job = aiPlanJobService.getJob(user.getId(), jobId);
+        return ResponseEntity.ok(ApiResponse.success(job));
+    }
+
+    /**
+     * 작업 상태가 바뀔 때마다 status 이벤트를 보내고, 작업이 끝나면 닫는다.
+     */
+    @GetMapping(value = "/multi-agent-plan/jobs/{jobId}/events", produces = MediaType.TEXT_EVENT_STREAM_VALUE)
+    public Flux<ServerSentEvent<AIPlanJobDto.Job>> watchMultiAgentPlanJob(
+            @AuthenticationPrincipal User user,
+            @PathVariable String jobId) {
+        return aiPlanJobService.watch(user.getId(), jobId)
+                .map(job -> ServerSentEvent.builder(job).event("status").build());
     }
 
     /**
@@ -0,0 +1,56 @@
+package com.tripmate.controller;
+
+import org.springframework.core.io.buffer.DataBuffer;
+import org.springframework.core.io.buffer.DataBufferUtils;
+import org.springframework.web.servlet.mvc.method.annotation.ResponseBodyEmitter;
+import reactor.core.Disposable;
+import reactor.core.publisher.Flux;
+import reactor.core.scheduler.Schedulers;
+
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.util.concurrent.atomic.AtomicBoolean;
+
+/**
+ * Flux&lt;DataBuffer&gt; 를 응답 본문으로 흘려보낸다. 조각을 받는 대로 쓰고, 조각을 기다리는 동안에는 스레드를 잡지 않는다.
+ * (MVC 는 application/json 인 Flux 반환값을 모두 모은 뒤에 쓰므로 ResponseBodyEmitter 로 잇는다)
+ * 첫 조각 전의 실패는 일반 오류 응답이 되고, 보내기 시작한 뒤의 실패는 응답을 끝맺지 않고 연결을 끊는다.
+ * 클라이언트가 끊거나 시간이 초과되면 구독을 취소한다.
+ */
+final class DataBufferEmitter extends ResponseBodyEmitter {
+
+    private DataBufferEmitter() {
+    }
+
+    static DataBufferEmitter of(Flux<DataBuffer> body) {
+        DataBufferEmitter emitter = new DataBufferEmitter();
+        AtomicBoolean started = new AtomicBoolean();
+        Disposable subscription = body
+                .publishOn(Schedulers.boundedElastic())  // 응답 쓰기는 블로킹 I/O
+                .doOnDiscard(DataBuffer.class, DataBufferUtils::release)
+                .subscribe(
+                        buffer -> {
+                            started.set(true);
+                            emitter.write(buffer);
+                        },
+                        e -> emitter.completeWithError(started.get()
+                                ? new IOException("Response stream aborted", e)
+                                : e),
+                        emitter::complete);
+        emitter.onTimeout(subscription::dispose);
+        emitter.onError(e -> subscription.dispose());
+        emitter.onCompletion(subscription::dispose);
+        return emitter;
+    }
+
+    private void write(DataBuffer buffer) {
+        byte[] bytes = new byte[buffer.readableByteCount()];
+        buffer.read(bytes);
+        DataBufferUtils.release(buffer);
+        try {
+            send(bytes);
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+    }
+}
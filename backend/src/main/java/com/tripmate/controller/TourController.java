@@ -4,10 +4,18 @@ import com.tripmate.dto.ApiResponse;
 import com.tripmate.dto.TourApiDto;
 import com.tripmate.dto.TourApiDto.*;
 import com.tripmate.service.TourApiService;
+import com.tripmate.service.TourImageService;
 import lombok.RequiredArgsConstructor;
+import org.springframework.core.io.buffer.DataBuffer;
+import org.springframework.http.MediaType;
+import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.annotation.*;
+import org.springframework.web.servlet.mvc.method.annotation.ResponseBodyEmitter;
+import reactor.core.publisher.Flux;
+import reactor.core.publisher.Mono;
 
 import java.util.List;
+import java.util.Map;
 
 @RestController
 @RequestMapping("/api/tour")
@@ -15,44 +23,77 @@ import java.util.List;
 public class TourController {
 
     private final TourApiService tourApiService;
+    private final TourImageService tourImageService;
 
     /**
      * 지역(시도) 코드 목록 조회
      */
     @GetMapping("/areas")
-    public ApiResponse<List<AreaCode>> getAreaCodes() {
-        return ApiResponse.success(tourApiService.getAreaCodes());
+    public Mono<ApiResponse<List<AreaCode>>> getAreaCodes() {
+        return tourApiService.getAreaCodes().map(ApiResponse::success);
     }
 
     /**
      * 시군구 코드 목록 조회
      */
     @GetMapping("/areas/{areaCode}/sigungu")
-    public ApiResponse<List<AreaCode>> getSigunguCodes(@PathVariable String areaCode) {
-        return ApiResponse.success(tourApiService.getSigunguCodes(areaCode));
+    public Mono<ApiResponse<List<AreaCode>>> getSigunguCodes(@PathVariable String areaCode) {
+        return tourApiService.getSigunguCodes(areaCode).map(ApiResponse::success);
+    }
+
+    /**
+     * 지역 개요 (관광지/음식점/숙박/축제 상위 목록 한 번에 조회)
+     */
+    @GetMapping("/areas/{areaCode}/overview")
+    public Mono<ApiResponse<AreaOverview>> getAreaOverview(
+            @PathVariable String areaCode,
+            @RequestParam(required = false) String sigunguCode,
+            @RequestParam(defaultValue = "5") int numOfRows) {
+        return tourApiService.getAreaOverview(areaCode, sigunguCode, numOfRows)
+                .map(tourImageService::withThumbnails)
+                .map(ApiResponse::success);
     }
 
     /**
      * 지역 기반 관광정보 조회
      */
     @GetMapping("/places")
-    public ApiResponse<PageResponse<TourPlace>> getPlaces(
+    public Mono<ApiResponse<PageResponse<TourPlace>>> getPlaces(
             @RequestParam(required = false) String areaCode,
             @RequestParam(required = false) String sigunguCode,
             @RequestParam(required = false) Integer contentTypeId,
             @RequestParam(defaultValue = "1") int pageNo,
             @RequestParam(defaultValue = "10") int numOfRows) {
 
-        return ApiResponse.success(
-                tourApiService.getAreaBasedList(areaCode, sigunguCode, contentTypeId, pageNo, numOfRows)
-        );
+        return tourApiService.getAreaBasedList(areaCode, sigunguCode, contentTypeId, pageNo, numOfRows)
+                .map(tourImageService::withThumbnails)
+                .map(ApiResponse::success);
+    }
+
+    /**
+     * 지역 기반 관광정보 스트리밍 조회 (많은 행을 원본 응답에서 바로 변환해 전송)
+     */
+    @GetMapping("/places/stream")
+    public ResponseEntity<ResponseBodyEmitter> streamPlaces(
+            @RequestParam(required = false) String areaCode,
+            @RequestParam(required = false) String sigunguCode,
+            @RequestParam(required = false) Integer contentTypeId,
+            @RequestParam(defaultValue = "1") int pageNo,
+            @RequestParam(defaultValue = "100") int numOfRows) {
+
+        Flux<DataBuffer> body = tourApiService.streamAreaBasedList(areaCode, sigunguCode, contentTypeId, pageNo, numOfRows,
+                source -> tourImageService.thumbnailUrl(source, TourImageService.LIST_WIDTH));
+
+        return ResponseEntity.ok()
+                .contentType(MediaType.APPLICATION_JSON)
+                .body(DataBufferEmitter.of(body));
     }
 
     /**
      * 관광지 검색
      */
     @GetMapping("/search")
-    public ApiResponse<PageResponse<TourPlace>> search(
+    public Mono<ApiResponse<PageResponse<TourPlace>>> search(
             @RequestParam String keyword,
             @RequestParam(required = false) String areaCode,
             @RequestParam(required = false) String sigunguCode,
@@ -69,14 +110,16 @@ public class TourController {
                 .numOfRows(numOfRows)
                 .build();
 
-        return ApiResponse.success(tourApiService.searchByKeyword(request));
+        return tourApiService.searchByKeyword(request)
+                .map(tourImageService::withThumbnails)
+                .map(ApiResponse::success);
     }
 
     /**
      * 위치 기반 관광정보 조회
      */
     @GetMapping("/nearby")
-    public ApiResponse<PageResponse<TourPlace>> getNearbyPlaces(
+    public Mono<ApiResponse<PageResponse<TourPlace>>> getNearbyPlaces(
             @RequestParam Double mapX,
             @RequestParam Double mapY,
             @RequestParam(defaultValue = "5000") Integer radius,
@@ -93,76 +136,121 @@ public class TourController {
                 .numOfRows(numOfRows)
                 .build();
 
-        return ApiResponse.success(tourApiService.getLocationBasedList(request));
+        return tourApiService.getLocationBasedList(request)
+                .map(tourImageService::withThumbnails)
+                .map(ApiResponse::success);
+    }
+
+    /**
+     * 지도 영역 내 관광정보 조회
+     */
+    @GetMapping("/nearby/bounds")
+    public Mono<ApiResponse<PageResponse<TourPlace>>> getPlacesInBounds(
+            @RequestParam Double minX,
+            @RequestParam Double minY,
+            @RequestParam Double maxX,
+            @RequestParam Double maxY,
+            @RequestParam(required = false) Integer contentTypeId,
+            @RequestParam(defaultValue = "1") int pageNo,
+            @RequestParam(defaultValue = "10") int numOfRows) {
+
+        BoundsRequest request = BoundsRequest.builder()
+                .minX(minX)
+                .minY(minY)
+                .maxX(maxX)
+                .maxY(maxY)
+                .contentTypeId(contentTypeId)
+                .pageNo(pageNo)
+                .numOfRows(numOfRows)
+                .build();
+
+        return tourApiService.getPlacesInBounds(request)
+                .map(tourImageService::withThumbnails)
+                .map(ApiResponse::success);
     }
 
     /**
      * 관광 상세 정보 조회
      */
     @GetMapping("/places/{contentId}")
-    public ApiResponse<TourDetail> getPlaceDetail(
+    public Mono<ApiResponse<TourDetail>> getPlaceDetail(
             @PathVariable String contentId,
             @RequestParam(required = false) Integer contentTypeId) {
-        return ApiResponse.success(tourApiService.getDetailInfo(contentId, contentTypeId));
+        return tourApiService.getDetailInfo(contentId, contentTypeId)
+                .map(tourImageService::withThumbnail)
+                .map(ApiResponse::success);
+    }
+
+    /**
+     * 관광 상세 정보 일괄 조회
+     */
+    @PostMapping("/places/details")
+    public Mono<ApiResponse<Map<String, TourDetail>>> getPlaceDetails(@RequestBody List<DetailRequest> requests) {
+        return tourApiService.getDetailInfos(requests)
+                .map(details -> {
+                    details.replaceAll((contentId, detail) -> tourImageService.withThumbnail(detail));
+                    return details;
+                })
+                .map(ApiResponse::success);
     }
 
     /**
      * 관광지 목록 (타입: 12)
      */
     @GetMapping("/attractions")
-    public ApiResponse<PageResponse<TourPlace>> getAttractions(
+    public Mono<ApiResponse<PageResponse<TourPlace>>> getAttractions(
             @RequestParam(required = false) String areaCode,
             @RequestParam(required = false) String sigunguCode,
             @RequestParam(defaultValue = "1") int pageNo,
             @RequestParam(defaultValue = "10") int numOfRows) {
 
-        return ApiResponse.success(
-                tourApiService.getAreaBasedList(areaCode, sigunguCode, TourApiDto.TYPE_ATTRACTION, pageNo, numOfRows)
-        );
+        return tourApiService.getAreaBasedList(areaCode, sigunguCode, TourApiDto.TYPE_ATTRACTION, pageNo, numOfRows)
+                .map(tourImageService::withThumbnails)
+                .map(ApiResponse::success);
     }
 
     /**
      * 음식점 목록 (타입: 39)
      */
     @GetMapping("/restaurants")
-    public ApiResponse<PageResponse<TourPlace>> getRestaurants(
+    public Mono<ApiResponse<PageResponse<TourPlace>>> getRestaurants(
             @RequestParam(required = false) String areaCode,
             @RequestParam(required = false) String sigunguCode,
             @RequestParam(defaultValue = "1") int pageNo,
             @RequestParam(defaultValue = "10") int numOfRows) {
 
-        return ApiResponse.success(
-                tourApiService.getAreaBasedList(areaCode, sigunguCode, TourApiDto.TYPE_RESTAURANT, pageNo, numOfRows)
-        );
+        return tourApiService.getAreaBasedList(areaCode, sigunguCode, TourApiDto.TYPE_RESTAURANT, pageNo, numOfRows)
+                .map(tourImageService::withThumbnails)
+                .map(ApiResponse::success);
     }
 
     /**
      * 숙박 목록 (타입: 32)
      */
     @GetMapping("/accommodations")
-    public ApiResponse<PageResponse<TourPlace>> getAccommodations(
+    public Mono<ApiResponse<PageResponse<TourPlace>>> getAccommodations(
             @RequestParam(required = false) String areaCode,
             @RequestParam(required = false) String sigunguCode,
             @RequestParam(defaultValue = "1") int pageNo,
             @RequestParam(defaultValue = "10") int numOfRows) {
 
-        return ApiResponse.success(
-                tourApiService.getAreaBasedList(areaCode, sigunguCode, TourApiDto.TYPE_ACCOMMODATION, pageNo, numOfRows)
-        );
+        return tourApiService.getAreaBasedList(areaCode, sigunguCode, TourApiDto.TYPE_ACCOMMODATION, pageNo, numOfRows)
+                .map(tourImageService::withThumbnails)
+                .map(ApiResponse::success);
     }
 
     /**
      * 축제/행사 목록 (타입: 15)
      */
     @GetMapping("/festivals")
-    public ApiResponse<PageResponse<TourPlace>> getFestivals(
+    public Mono<ApiResponse<PageResponse<TourPlace>>> getFestivals(
             @RequestParam(required = false) String areaCode,
             @RequestParam(required = false) String sigunguCode,
             @RequestParam(defaultValue = "1") int pageNo,
             @RequestParam(defaultValue = "10") int numOfRows) {
 
-        return ApiResponse.success(
-                tourApiService.getAreaBasedList(areaCode, sigunguCode, TourApiDto.TYPE_FESTIVAL, pageNo, numOfRows)
-        );
+        return tourApiService.getAreaBasedList(areaCode, sigunguCode, TourApiDto.TYPE_FESTIVAL, pageNo, numOfRows)
+                .map(tourImageService::withThumbnails)
+                .map(ApiResponse::success);
     }
 }
@@ -0,0 +1,60 @@
+package com.tripmate.controller;
+
+import com.tripmate.service.TourImageService;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.core.io.Resource;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.MediaType;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.GetMapping;
+import org.springframework.web.bind.annotation.PathVariable;
+import org.springframework.web.bind.annotation.RequestHeader;
+import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RequestParam;
+import org.springframework.web.bind.annotation.RestController;
+import reactor.core.publisher.Mono;
+
+@Slf4j
+@RestController
+@RequestMapping("/api/tour/images")
+@RequiredArgsConstructor
+public class TourImageController {
+
+    private static final String CACHE_CONTROL = "public, max-age=31536000, immutable";
+
+    private final TourImageService tourImageService;
+
+    /**
+     * 관광지 이미지 썸네일 (해시와 폭이 같으면 내용이 바뀌지 않으므로 영구 캐시)
+     * 디스크에 있으면 파일을 FileChannel.transferTo 로 보내고, 없으면 원본을 받아 만드는 동안 요청 스레드를 잡지 않는다.
+     */
+    @GetMapping("/{hash}")
+    public Mono<ResponseEntity<Resource>> getImage(
+            @PathVariable String hash,
+            @RequestParam(defaultValue = "" + TourImageService.LIST_WIDTH) int w,
+            @RequestHeader(value = HttpHeaders.IF_NONE_MATCH, required = false) String ifNoneMatch) {
+
+        String etag = "\"" + hash + "-" + TourImageService.snapWidth(w) + "\"";
+        if (etag.equals(ifNoneMatch)) {
+            return Mono.just(ResponseEntity.status(HttpStatus.NOT_MODIFIED)
+                    .header(HttpHeaders.CACHE_CONTROL, CACHE_CONTROL)
+                    .eTag(etag)
+                    .build());
+        }
+
+        return tourImageService.resolve(hash, w)
+                .map(thumbnail -> ResponseEntity.ok()
+                        .contentType(MediaType.IMAGE_JPEG)
+                        .contentLength(thumbnail.size())
+                        .header(HttpHeaders.CACHE_CONTROL, CACHE_CONTROL)
+                        .eTag(etag)
+                        .body(thumbnail.body()))
+                .defaultIfEmpty(ResponseEntity.notFound().build())
+                .onErrorResume(e -> {
+                    log.warn("Failed to load image {}: {}", hash, e.getMessage());
+                    return Mono.just(ResponseEntity.status(HttpStatus.BAD_GATEWAY).build());
+                });
+    }
+}
@@ -77,7 +77,9 @@ public class TripController {
     }
 
     @PostMapping("/{id}/ai-recommend")
-    public ApiResponse<Map<String, Object>> getAIRecommendation(@PathVariable Long id) {
-        return ApiResponse.success(aiService.getRecommendation(id));
+    public ApiResponse<Map<String, Object>> getAIRecommendation(
+            @PathVariable Long id,
+            @RequestParam(defaultValue = "false") boolean regenerate) {
+        return ApiResponse.success(aiService.getRecommendation(id, regenerate));
     }
 }
@@ -1,5 +1,7 @@
 package com.tripmate.dto;
 
+import com.fasterxml.jackson.annotation.JsonAlias;
+import com.fasterxml.jackson.annotation.JsonIgnoreProperties;
 import lombok.AllArgsConstructor;
 import lombok.Builder;
 import lombok.Data;
@@ -8,6 +10,10 @@ import lombok.NoArgsConstructor;
 import java.util.List;
 import java.util.Map;
 
+/**
+ * AI 대화형 플래너 DTO
+ * 응답 DTO 는 ai-service 의 snake_case 응답도 @JsonAlias 로 바로 읽는다. (보낼 때는 camelCase)
+ */
 public class AIChatDto {
 
     @Data
@@ -22,9 +28,12 @@ public class AIChatDto {
     @NoArgsConstructor
     @AllArgsConstructor
     @Builder
+    @JsonIgnoreProperties(ignoreUnknown = true)
     public static class Response {
+        @JsonAlias("session_id")
         private String sessionId;
         private String response;
+        @JsonAlias("collected_info")
         private CollectedInfo collectedInfo;
         private String phase;
         private Map<String, Object> schedule;
@@ -34,9 +43,12 @@ public class AIChatDto {
     @NoArgsConstructor
     @AllArgsConstructor
     @Builder
+    @JsonIgnoreProperties(ignoreUnknown = true)
     public static class CollectedInfo {
         private String destination;
+        @JsonAlias("start_date")
         private String startDate;
+        @JsonAlias("end_date")
         private String endDate;
         private String theme;
         private Integer budget;
@@ -63,11 +75,15 @@ public class AIChatDto {
     @NoArgsConstructor
     @AllArgsConstructor
     @Builder
+    @JsonIgnoreProperties(ignoreUnknown = true)
     public static class StatusResponse {
+        @JsonAlias("session_id")
         private String sessionId;
         private boolean exists;
+        @JsonAlias("message_count")
         private int messageCount;
         private String phase;
+        @JsonAlias("collected_info")
         private CollectedInfo collectedInfo;
     }
 }
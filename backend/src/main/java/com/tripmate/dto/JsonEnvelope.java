@@ -0,0 +1,82 @@
+package com.tripmate.dto;
+
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import org.springframework.core.io.buffer.DataBuffer;
+import org.springframework.core.io.buffer.DefaultDataBufferFactory;
+import reactor.core.publisher.Flux;
+import reactor.core.publisher.Mono;
+
+import java.util.Arrays;
+
+/**
+ * DTO 를 직렬화한 JSON 을 자리표시 값 앞뒤로 나눈 것. 스트리밍 응답을 DTO 와 같은 모양으로 감쌀 때 쓴다.
+ * 앞뒤 부분을 ObjectMapper 로 만들므로 DTO 필드나 직렬화 설정이 바뀌어도 그대로 따라간다.
+ */
+public final class JsonEnvelope {
+
+    /**
+     * 직렬화할 DTO 에서 스트리밍할 본문 자리에 넣는 값
+     */
+    public static final String PLACEHOLDER = "\u0000stream\u0000";
+
+    private final byte[] prefix;
+    private final byte[] suffix;
+
+    private JsonEnvelope(byte[] prefix, byte[] suffix) {
+        this.prefix = prefix;
+        this.suffix = suffix;
+    }
+
+    /**
+     * value 에는 PLACEHOLDER 가 한 번 들어 있어야 한다.
+     */
+    public static JsonEnvelope of(ObjectMapper objectMapper, Object value) {
+        try {
+            byte[] json = objectMapper.writeValueAsBytes(value);
+            byte[] marker = objectMapper.writeValueAsBytes(PLACEHOLDER);
+            int at = indexOf(json, marker);
+            if (at < 0) {
+                throw new IllegalArgumentException("No placeholder in " + value.getClass().getSimpleName());
+            }
+            return new JsonEnvelope(Arrays.copyOfRange(json, 0, at),
+                    Arrays.copyOfRange(json, at + marker.length, json.length));
+        } catch (JsonProcessingException e) {
+            throw new IllegalStateException("Failed to serialize envelope", e);
+        }
+    }
+
+    public byte[] prefix() {
+        return prefix.clone();
+    }
+
+    public byte[] suffix() {
+        return suffix.clone();
+    }
+
+    public boolean hasPrefix(JsonEnvelope other) {
+        return Arrays.equals(prefix, other.prefix);
+    }
+
+    /**
+     * 본문 앞뒤에 감싸는 부분을 붙인다.
+     */
+    public Flux<DataBuffer> wrap(Flux<DataBuffer> body) {
+        return Flux.concat(Mono.fromSupplier(() -> DefaultDataBufferFactory.sharedInstance.wrap(prefix)),
+                body,
+                Mono.fromSupplier(() -> DefaultDataBufferFactory.sharedInstance.wrap(suffix)));
+    }
+
+    private static int indexOf(byte[] source, byte[] target) {
+        outer:
+        for (int i = 0; i <= source.length - target.length; i++) {
+            for (int j = 0; j < target.length; j++) {
+                if (source[i + j] != target[j]) {
+                    continue outer;
+                }
+            }
+            return i;
+        }
+        return -1;
+    }
+}
@@ -1,5 +1,6 @@
 package com.tripmate.dto;
 
+import com.fasterxml.jackson.annotation.JsonIgnore;
 import com.fasterxml.jackson.annotation.JsonIgnoreProperties;
 import lombok.AllArgsConstructor;
 import lombok.Builder;
@@ -23,7 +24,7 @@ public class TourApiDto {
     @Data
     @NoArgsConstructor
     @AllArgsConstructor
-    @Builder
+    @Builder(toBuilder = true)
     public static class TourPlace {
         private String contentId;
         private String contentTypeId;
@@ -42,12 +43,13 @@ public class TourApiDto {
         private String tel;
         private String overview;
         private Double dist;  // 거리 (위치 기반 검색시)
+        private String thumbnail;  // 이미지 프록시 썸네일 주소
     }
 
     @Data
     @NoArgsConstructor
     @AllArgsConstructor
-    @Builder
+    @Builder(toBuilder = true)
     public static class TourDetail {
         private String contentId;
         private String contentTypeId;
@@ -61,6 +63,7 @@ public class TourApiDto {
         private String tel;
         private String firstImage;
         private String firstImage2;
+        private String thumbnail;  // 이미지 프록시 썸네일 주소
 
         // 상세 정보
         private String useTime;       // 이용시간
@@ -79,6 +82,10 @@ public class TourApiDto {
         private String checkOutTime;
         private String roomCount;
         private String reservationUrl;
+
+        // 소개 정보 조회가 실패해 공통 정보만 채워진 경우 (캐시하지 않음)
+        @JsonIgnore
+        private boolean partial;
     }
 
     @Data
@@ -116,6 +123,29 @@ public class TourApiDto {
         private Integer numOfRows;
     }
 
+    @Data
+    @NoArgsConstructor
+    @AllArgsConstructor
+    @Builder
+    public static class BoundsRequest {
+        private Double minX;  // 경도
+        private Double minY;  // 위도
+        private Double maxX;
+        private Double maxY;
+        private Integer contentTypeId;
+        private Integer pageNo;
+        private Integer numOfRows;
+    }
+
+    @Data
+    @NoArgsConstructor
+    @AllArgsConstructor
+    @Builder
+    public static class DetailRequest {
+        private String contentId;
+        private Integer contentTypeId;
+    }
+
     @Data
     @NoArgsConstructor
     @AllArgsConstructor
@@ -127,6 +157,18 @@ public class TourApiDto {
         private int numOfRows;
     }
 
+    @Data
+    @NoArgsConstructor
+    @AllArgsConstructor
+    @Builder(toBuilder = true)
+    public static class AreaOverview {
+        private PageResponse<TourPlace> attractions;
+        private PageResponse<TourPlace> restaurants;
+        private PageResponse<TourPlace> accommodations;
+        private PageResponse<TourPlace> festivals;
+        private List<Integer> unavailableTypes;  // 시간 안에 조회하지 못한 콘텐츠 타입 (해당 목록은 null)
+    }
+
     // API 응답 매핑용 내부 클래스들
     @Data
     @JsonIgnoreProperties(ignoreUnknown = true)
@@ -184,6 +226,8 @@ public class TourApiDto {
         private String overview;
         private String dist;
         private String homepage;
+        private String modifiedtime;
+        private String showflag;  // 동기화 목록용 (0: 비표출)
 
         // 상세 정보
         private String usetime;
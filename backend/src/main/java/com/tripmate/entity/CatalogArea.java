@@ -0,0 +1,34 @@
+package com.tripmate.entity;
+
+import jakarta.persistence.*;
+import lombok.*;
+
+/**
+ * Tour API 지역(시도) / 시군구 코드
+ */
+@Entity
+@Table(name = "catalog_areas")
+@Getter
+@Setter
+@NoArgsConstructor
+@AllArgsConstructor
+@Builder
+public class CatalogArea {
+    // 시도는 "{areaCode}", 시군구는 "{areaCode}-{sigunguCode}"
+    @Id
+    @Column(length = 30)
+    private String id;
+
+    @Column(nullable = false, length = 10)
+    private String areaCode;
+
+    @Column(length = 10)
+    private String sigunguCode;
+
+    @Column(nullable = false)
+    private String name;
+
+    public static String idOf(String areaCode, String sigunguCode) {
+        return sigunguCode == null ? areaCode : areaCode + "-" + sigunguCode;
+    }
+}
@@ -0,0 +1,30 @@
+package com.tripmate.entity;
+
+import jakarta.persistence.*;
+import lombok.*;
+
+/**
+ * Tour API 서비스 분류 코드 (대/중/소분류)
+ */
+@Entity
+@Table(name = "catalog_categories")
+@Getter
+@Setter
+@NoArgsConstructor
+@AllArgsConstructor
+@Builder
+public class CatalogCategory {
+    @Id
+    @Column(length = 20)
+    private String code;
+
+    @Column(nullable = false)
+    private String name;
+
+    @Column(length = 20)
+    private String parentCode;
+
+    // 1: 대분류, 2: 중분류, 3: 소분류
+    @Column(nullable = false)
+    private Integer level;
+}
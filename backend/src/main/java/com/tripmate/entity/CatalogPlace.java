@@ -0,0 +1,78 @@
+package com.tripmate.entity;
+
+import jakarta.persistence.*;
+import lombok.*;
+import java.time.LocalDateTime;
+
+/**
+ * Tour API 관광정보 로컬 미러
+ */
+@Entity
+@Table(name = "catalog_places")
+@Getter
+@Setter
+@NoArgsConstructor
+@AllArgsConstructor
+@Builder
+public class CatalogPlace {
+    @Id
+    @Column(length = 20)
+    private String contentId;
+
+    @Column(nullable = false, length = 10)
+    private String contentTypeId;
+
+    @Column(nullable = false)
+    private String title;
+
+    private String addr1;
+
+    private String addr2;
+
+    @Column(length = 10)
+    private String areaCode;
+
+    @Column(length = 10)
+    private String sigunguCode;
+
+    @Column(length = 10)
+    private String cat1;
+
+    @Column(length = 10)
+    private String cat2;
+
+    @Column(length = 20)
+    private String cat3;
+
+    @Column(length = 500)
+    private String firstImage;
+
+    @Column(length = 500)
+    private String firstImage2;
+
+    private Double mapX;  // 경도
+
+    private Double mapY;  // 위도
+
+    private String tel;
+
+    @Column(columnDefinition = "TEXT")
+    private String overview;
+
+    // 조회순 정렬 기준 순위 (작을수록 인기)
+    @Column(nullable = false)
+    private Integer popularity;
+
+    // Tour API 수정일 (yyyyMMddHHmmss)
+    @Column(length = 14)
+    private String modifiedTime;
+
+    @Column(nullable = false)
+    private LocalDateTime syncedAt;
+
+    @PrePersist
+    @PreUpdate
+    protected void onSync() {
+        this.syncedAt = LocalDateTime.now();
+    }
+}
@@ -0,0 +1,11 @@
+package com.tripmate.repository;
+
+import com.tripmate.entity.CatalogArea;
+import org.springframework.data.jpa.repository.JpaRepository;
+import java.util.List;
+
+public interface CatalogAreaRepository extends JpaRepository<CatalogArea, String> {
+    List<CatalogArea> findBySigunguCodeIsNullOrderByAreaCodeAsc();
+
+    List<CatalogArea> findByAreaCodeAndSigunguCodeIsNotNullOrderBySigunguCodeAsc(String areaCode);
+}
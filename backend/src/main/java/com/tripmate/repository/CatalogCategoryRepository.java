@@ -0,0 +1,7 @@
+package com.tripmate.repository;
+
+import com.tripmate.entity.CatalogCategory;
+import org.springframework.data.jpa.repository.JpaRepository;
+
+public interface CatalogCategoryRepository extends JpaRepository<CatalogCategory, String> {
+}
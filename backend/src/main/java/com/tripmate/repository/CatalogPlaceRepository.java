@@ -0,0 +1,71 @@
+package com.tripmate.repository;
+
+import com.tripmate.entity.CatalogPlace;
+import org.springframework.data.domain.Page;
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.Locale;
+
+public interface CatalogPlaceRepository extends JpaRepository<CatalogPlace, String> {
+
+    @Query("SELECT p FROM CatalogPlace p " +
+           "WHERE (:areaCode IS NULL OR p.areaCode = :areaCode) " +
+           "AND (:sigunguCode IS NULL OR p.sigunguCode = :sigunguCode) " +
+           "AND (:contentTypeId IS NULL OR p.contentTypeId = :contentTypeId) " +
+           "ORDER BY p.popularity ASC")
+    Page<CatalogPlace> findByArea(@Param("areaCode") String areaCode,
+                                  @Param("sigunguCode") String sigunguCode,
+                                  @Param("contentTypeId") String contentTypeId,
+                                  Pageable pageable);
+
+    /**
+     * 제목 부분 일치 검색. pattern 은 containsPattern 으로 만든다.
+     */
+    @Query("SELECT p FROM CatalogPlace p " +
+           "WHERE LOWER(p.title) LIKE :pattern ESCAPE '\\' " +
+           "AND (:areaCode IS NULL OR p.areaCode = :areaCode) " +
+           "AND (:sigunguCode IS NULL OR p.sigunguCode = :sigunguCode) " +
+           "AND (:contentTypeId IS NULL OR p.contentTypeId = :contentTypeId) " +
+           "ORDER BY p.popularity ASC")
+    Page<CatalogPlace> searchByTitle(@Param("pattern") String pattern,
+                                     @Param("areaCode") String areaCode,
+                                     @Param("sigunguCode") String sigunguCode,
+                                     @Param("contentTypeId") String contentTypeId,
+                                     Pageable pageable);
+
+    @Query("SELECT p FROM CatalogPlace p " +
+           "WHERE p.mapX BETWEEN :minX AND :maxX " +
+           "AND p.mapY BETWEEN :minY AND :maxY " +
+           "AND (:contentTypeId IS NULL OR p.contentTypeId = :contentTypeId)")
+    List<CatalogPlace> findInBounds(@Param("minX") double minX,
+                                    @Param("maxX") double maxX,
+                                    @Param("minY") double minY,
+                                    @Param("maxY") double maxY,
+                                    @Param("contentTypeId") String contentTypeId);
+
+    @Query("SELECT MAX(p.modifiedTime) FROM CatalogPlace p")
+    String findLatestModifiedTime();
+
+    @Query("SELECT COALESCE(MAX(p.popularity), 0) FROM CatalogPlace p")
+    int findMaxPopularity();
+
+    @Modifying
+    @Query("DELETE FROM CatalogPlace p WHERE p.syncedAt < :syncedAt")
+    int deleteBySyncedAtBefore(@Param("syncedAt") LocalDateTime syncedAt);
+
+    /**
+     * 키워드를 그대로 포함하는 LIKE 패턴 (소문자로 바꾸고 %, _, \ 는 와일드카드가 아닌 문자로 찾는다)
+     */
+    static String containsPattern(String keyword) {
+        String escaped = keyword.toLowerCase(Locale.ROOT)
+                .replace("\\", "\\\\")
+                .replace("%", "\\%")
+                .replace("_", "\\_");
+        return "%" + escaped + "%";
+    }
+}
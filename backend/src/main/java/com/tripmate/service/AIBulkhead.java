@@ -0,0 +1,184 @@
+package com.tripmate.service;
+
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.core.env.Environment;
+import org.springframework.stereotype.Component;
+import reactor.core.publisher.Flux;
+import reactor.core.publisher.Mono;
+import reactor.core.publisher.MonoSink;
+
+import java.time.Duration;
+import java.util.ArrayDeque;
+import java.util.EnumMap;
+import java.util.Map;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * AI 서비스 호출 종류별 격벽
+ * 종류마다 max-concurrent 건까지만 동시에 보내고, max-queue 건까지 max-wait 동안 기다리게 한다.
+ * 대기열이 가득 찼거나 오래 기다린 요청은 AIServiceBusyException 으로 바로 실패시킨다.
+ * (대기는 스레드를 잡지 않고 구독 단위로 한다)
+ */
+@Slf4j
+@Component
+public class AIBulkhead {
+
+    private final Map<AIOperation, Compartment> compartments = new EnumMap<>(AIOperation.class);
+
+    public AIBulkhead(Environment environment, MeterRegistry meterRegistry) {
+        for (AIOperation operation : AIOperation.values()) {
+            String prefix = "ai-service.bulkhead." + operation.name().toLowerCase() + ".";
+            compartments.put(operation, new Compartment(operation,
+                    environment.getRequiredProperty(prefix + "max-concurrent", Integer.class),
+                    environment.getRequiredProperty(prefix + "max-queue", Integer.class),
+                    environment.getRequiredProperty(prefix + "max-wait", Duration.class),
+                    meterRegistry));
+        }
+    }
+
+    public int maxConcurrent(AIOperation operation) {
+        return compartments.get(operation).maxConcurrent;
+    }
+
+    /**
+     * 자리를 얻은 뒤 call 을 구독하고, call 이 끝나거나 취소되면 자리를 돌려준다.
+     */
+    public <T> Mono<T> protect(AIOperation operation, Mono<T> call) {
+        Compartment compartment = compartments.get(operation);
+        return Mono.defer(() -> {
+            Permit permit = new Permit();
+            return compartment.acquire(permit)
+                    .then(call)
+                    .doFinally(signal -> compartment.release(permit));
+        });
+    }
+
+    public <T> Flux<T> protect(AIOperation operation, Flux<T> call) {
+        Compartment compartment = compartments.get(operation);
+        return Flux.defer(() -> {
+            Permit permit = new Permit();
+            return compartment.acquire(permit)
+                    .thenMany(call)
+                    .doFinally(signal -> compartment.release(permit));
+        });
+    }
+
+    private enum PermitState { WAITING, HELD, RELEASED }
+
+    private static final class Permit {
+        // Compartment 로 동기화
+        private PermitState state = PermitState.WAITING;
+        private MonoSink<Void> sink;
+    }
+
+    private static final class Compartment {
+
+        private final AIOperation operation;
+        private final int maxConcurrent;
+        private final int maxQueue;
+        private final Duration maxWait;
+        private final Timer waitTime;
+        private final Counter rejected;
+
+        // this 로 동기화
+        private final ArrayDeque<Permit> queue = new ArrayDeque<>();
+        private int active;
+
+        Compartment(AIOperation operation, int maxConcurrent, int maxQueue, Duration maxWait,
+                    MeterRegistry meterRegistry) {
+            this.operation = operation;
+            this.maxConcurrent = maxConcurrent;
+            this.maxQueue = maxQueue;
+            this.maxWait = maxWait;
+
+            String tag = operation.name().toLowerCase();
+            this.waitTime = Timer.builder("ai.bulkhead.wait")
+                    .tag("operation", tag)
+                    .register(meterRegistry);
+            this.rejected = Counter.builder("ai.bulkhead.rejected")
+                    .tag("operation", tag)
+                    .register(meterRegistry);
+            Gauge.builder("ai.bulkhead.active", this, Compartment::activeCount)
+                    .tag("operation", tag)
+                    .register(meterRegistry);
+            Gauge.builder("ai.bulkhead.queued", this, Compartment::queueSize)
+                    .tag("operation", tag)
+                    .register(meterRegistry);
+        }
+
+        Mono<Void> acquire(Permit permit) {
+            Mono<Void> acquired = Mono.create(sink -> {
+                boolean ready = false;
+                boolean full = false;
+                synchronized (this) {
+                    if (active < maxConcurrent && queue.isEmpty()) {
+                        active++;
+                        permit.state = PermitState.HELD;
+                        ready = true;
+                    } else if (queue.size() >= maxQueue) {
+                        full = true;
+                    } else {
+                        permit.sink = sink;
+                        queue.add(permit);
+                    }
+                }
+
+                if (ready) {
+                    sink.success();
+                } else if (full) {
+                    sink.error(busy("queue full"));
+                }
+            });
+
+            long startTime = System.nanoTime();
+            return acquired
+                    .doOnSuccess(ignored -> waitTime.record(System.nanoTime() - startTime, TimeUnit.NANOSECONDS))
+                    .timeout(maxWait, Mono.defer(() -> Mono.error(busy("waited " + maxWait.toMillis() + "ms"))));
+        }
+
+        /**
+         * 쥐고 있던 자리는 다음 대기 요청에 넘기고, 아직 기다리던 요청은 대기열에서 뺀다.
+         */
+        void release(Permit permit) {
+            Permit next = null;
+            synchronized (this) {
+                PermitState previous = permit.state;
+                permit.state = PermitState.RELEASED;
+                if (previous == PermitState.WAITING) {
+                    queue.remove(permit);
+                    return;
+                }
+                if (previous != PermitState.HELD) {
+                    return;
+                }
+                next = queue.poll();
+                if (next != null) {
+                    next.state = PermitState.HELD;  // active 는 그대로 넘긴다
+                } else {
+                    active--;
+                }
+            }
+            if (next != null) {
+                next.sink.success();
+            }
+        }
+
+        private synchronized int activeCount() {
+            return active;
+        }
+
+        private synchronized int queueSize() {
+            return queue.size();
+        }
+
+        private AIServiceBusyException busy(String reason) {
+            rejected.increment();
+            log.warn("AI {} call rejected: {}", operation, reason);
+            return new AIServiceBusyException("AI 서비스 요청이 많아요. 잠시 후 다시 시도해주세요.", maxWait);
+        }
+    }
+}
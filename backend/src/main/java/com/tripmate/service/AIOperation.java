@@ -0,0 +1,11 @@
+package com.tripmate.service;
+
+/**
+ * AI 서비스 호출 종류 (종류마다 동시 실행 한도를 따로 둔다)
+ */
+public enum AIOperation {
+    CHAT,            // 대화형 플래너 채팅 (스트리밍 포함)
+    RECOMMENDATION,  // 일정 추천
+    PLAN,            // 다중 에이전트 계획
+    SESSION          // 세션 상태 조회/초기화 등 짧은 호출
+}
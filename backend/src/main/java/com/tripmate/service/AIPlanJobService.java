@@ -0,0 +1,270 @@
+package com.tripmate.service;
+
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.tripmate.dto.AIPlanJobDto.Job;
+import com.tripmate.dto.AIPlanJobDto.Status;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import jakarta.annotation.PostConstruct;
+import jakarta.annotation.PreDestroy;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.data.redis.core.StringRedisTemplate;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Service;
+import reactor.core.publisher.Flux;
+import reactor.core.scheduler.Schedulers;
+
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.UUID;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.ThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+/**
+ * 다중 에이전트 여행 계획을 작업으로 받아 정해진 수의 스레드에서 실행한다.
+ * 요청은 작업 ID 를 바로 돌려받고, 진행 상태와 결과는 Redis 에 저장해 두었다가 조회(또는 SSE)로 가져간다.
+ * 대기열이 가득 차면 AIServiceBusyException.
+ * 인스턴스마다 Redis 에 생존 신호를 남기며, 생존 신호가 끊긴 인스턴스의 끝나지 않은 작업은 조회할 때 실패로 처리한다.
+ */
+@Slf4j
+@Service
+public class AIPlanJobService {
+
+    private static final String KEY_PREFIX = "tripmate:ai-plan-job:";
+    private static final String OWNER_PREFIX = KEY_PREFIX + "owner:";
+    private static final String ORPHANED = "AI 플래너 작업이 중단됐어요. 다시 시도해주세요.";
+
+    private final AIService aiService;
+    private final StringRedisTemplate redisTemplate;
+    private final ObjectMapper objectMapper;
+    private final ThreadPoolExecutor executor;
+    private final Duration pendingTtl;
+    private final Duration resultTtl;
+    private final Duration pollInterval;
+    private final Duration heartbeatTtl;
+    private final String instanceId = UUID.randomUUID().toString();
+    private final Map<String, StoredJob> active = new ConcurrentHashMap<>();
+    private final Counter rejected;
+    private final Counter orphaned;
+
+    public AIPlanJobService(
+            AIService aiService,
+            StringRedisTemplate redisTemplate,
+            ObjectMapper objectMapper,
+            @Value("${ai-service.plan-jobs.concurrency}") int concurrency,
+            @Value("${ai-service.plan-jobs.queue-capacity}") int queueCapacity,
+            @Value("${ai-service.plan-jobs.pending-ttl}") Duration pendingTtl,
+            @Value("${ai-service.plan-jobs.result-ttl}") Duration resultTtl,
+            @Value("${ai-service.plan-jobs.poll-interval}") Duration pollInterval,
+            @Value("${ai-service.plan-jobs.heartbeat-ttl}") Duration heartbeatTtl,
+            MeterRegistry meterRegistry) {
+        this.aiService = aiService;
+        this.redisTemplate = redisTemplate;
+        this.objectMapper = objectMapper;
+        this.pendingTtl = pendingTtl;
+        this.resultTtl = resultTtl;
+        this.pollInterval = pollInterval;
+        this.heartbeatTtl = heartbeatTtl;
+
+        AtomicInteger threadCount = new AtomicInteger();
+        this.executor = new ThreadPoolExecutor(concurrency, concurrency, 0, TimeUnit.MILLISECONDS,
+                new ArrayBlockingQueue<>(queueCapacity),
+                runnable -> {
+                    Thread thread = new Thread(runnable, "ai-plan-job-" + threadCount.incrementAndGet());
+                    thread.setDaemon(true);
+                    return thread;
+                });
+
+        this.rejected = Counter.builder("ai.plan.jobs.rejected").register(meterRegistry);
+        this.orphaned = Counter.builder("ai.plan.jobs.orphaned").register(meterRegistry);
+        Gauge.builder("ai.plan.jobs.queued", executor, e -> e.getQueue().size())
+                .register(meterRegistry);
+        Gauge.builder("ai.plan.jobs.running", executor, ThreadPoolExecutor::getActiveCount)
+                .register(meterRegistry);
+    }
+
+    /**
+     * 생존 신호 갱신. 작업은 이 인스턴스의 ID 를 함께 저장하므로, 신호가 heartbeat-ttl 동안 없으면 중단된 것으로 본다.
+     */
+    @PostConstruct
+    @Scheduled(initialDelayString = "${ai-service.plan-jobs.heartbeat-interval}",
+            fixedDelayString = "${ai-service.plan-jobs.heartbeat-interval}")
+    public void heartbeat() {
+        try {
+            redisTemplate.opsForValue().set(OWNER_PREFIX + instanceId, "", heartbeatTtl);
+        } catch (Exception e) {
+            log.warn("Failed to refresh plan job heartbeat: {}", e.getMessage());
+        }
+    }
+
+    /**
+     * 종료 시 끝나지 않은 작업을 실패로 기록한다. (재시작 후 조회해도 pending-ttl 동안 대기 중으로 남지 않도록)
+     */
+    @PreDestroy
+    public void shutdown() {
+        executor.shutdownNow();
+        active.values().forEach(stored -> {
+            try {
+                save(failed(stored), resultTtl);
+            } catch (Exception e) {
+                log.warn("Failed to mark plan job {} as failed: {}", stored.job().getJobId(), e.getMessage());
+            }
+        });
+        try {
+            redisTemplate.delete(OWNER_PREFIX + instanceId);
+        } catch (Exception e) {
+            log.warn("Failed to remove plan job heartbeat: {}", e.getMessage());
+        }
+    }
+
+    /**
+     * 작업 등록. 대기열에 자리가 없으면 AIServiceBusyException.
+     */
+    public Job submit(Long userId, Map<String, Object> request) {
+        Job job = Job.builder()
+                .jobId(UUID.randomUUID().toString())
+                .status(Status.QUEUED)
+                .createdAt(LocalDateTime.now())
+                .build();
+        StoredJob queued = new StoredJob(userId, instanceId, job);
+        save(queued, pendingTtl);
+        active.put(job.getJobId(), queued);
+
+        try {
+            executor.execute(() -> {
+                try {
+                    run(queued, request);
+                } catch (Exception e) {
+                    log.error("Multi-Agent Plan job error: jobId={}, {}", job.getJobId(), e.getMessage());
+                } finally {
+                    active.remove(job.getJobId());
+                }
+            });
+        } catch (RejectedExecutionException e) {
+            active.remove(job.getJobId());
+            redisTemplate.delete(KEY_PREFIX + job.getJobId());
+            rejected.increment();
+            throw new AIServiceBusyException("AI 플래너 요청이 많아요. 잠시 후 다시 시도해주세요.", pollInterval.multipliedBy(5));
+        }
+        log.info("Multi-Agent Plan job queued: jobId={}, queued={}", job.getJobId(), executor.getQueue().size());
+        return job;
+    }
+
+    /**
+     * 작업 조회. 없거나(만료 포함) 다른 사용자의 작업이면 IllegalArgumentException.
+     */
+    public Job getJob(Long userId, String jobId) {
+        StoredJob stored = load(jobId);
+        if (stored == null || !Objects.equals(stored.userId(), userId)) {
+            throw new IllegalArgumentException("Job not found");
+        }
+        return stored.job();
+    }
+
+    /**
+     * 상태가 바뀔 때마다 작업을 내보내고, 끝나면(또는 만료되면) 완료된다.
+     */
+    public Flux<Job> watch(Long userId, String jobId) {
+        Job first = getJob(userId, jobId);
+        if (first.isDone()) {
+            return Flux.just(first);
+        }
+        return Flux.interval(pollInterval, Schedulers.boundedElastic())
+                .map(tick -> {
+                    StoredJob stored = load(jobId);
+                    return stored != null ? stored.job() : first.toBuilder().status(Status.FAILED).build();
+                })
+                .startWith(first)
+                .distinctUntilChanged(Job::getStatus)
+                .takeUntil(Job::isDone)
+                .take(pendingTtl);
+    }
+
+    private void run(StoredJob queued, Map<String, Object> request) {
+        Job running = queued.job().toBuilder()
+                .status(Status.RUNNING)
+                .startedAt(LocalDateTime.now())
+                .build();
+        StoredJob stored = queued.with(running);
+        save(stored, pendingTtl);
+        active.put(running.getJobId(), stored);
+
+        Map<String, Object> result;
+        try {
+            result = aiService.multiAgentPlan(request);
+        } catch (AIServiceBusyException e) {
+            result = Map.of("success", false, "errors", List.of(e.getMessage()));
+        }
+        boolean failed = result == null || Boolean.FALSE.equals(result.get("success"));
+        Job finished = running.toBuilder()
+                .status(failed ? Status.FAILED : Status.SUCCEEDED)
+                .result(result)
+                .finishedAt(LocalDateTime.now())
+                .build();
+        save(stored.with(finished), resultTtl);
+        log.info("Multi-Agent Plan job {}: jobId={}", finished.getStatus(), finished.getJobId());
+    }
+
+    private void save(StoredJob stored, Duration ttl) {
+        try {
+            redisTemplate.opsForValue().set(KEY_PREFIX + stored.job().getJobId(),
+                    objectMapper.writeValueAsString(stored), ttl);
+        } catch (JsonProcessingException e) {
+            throw new IllegalStateException("Failed to serialize plan job", e);
+        }
+    }
+
+    /**
+     * 작업 조회. 끝나지 않았는데 실행 중인 인스턴스의 생존 신호가 없으면 실패로 바꿔 저장한다.
+     */
+    private StoredJob load(String jobId) {
+        String json = redisTemplate.opsForValue().get(KEY_PREFIX + jobId);
+        if (json == null) {
+            return null;
+        }
+        StoredJob stored;
+        try {
+            stored = objectMapper.readValue(json, StoredJob.class);
+        } catch (JsonProcessingException e) {
+            log.warn("Corrupted plan job {}: {}", jobId, e.getMessage());
+            return null;
+        }
+        if (stored.job().isDone() || instanceId.equals(stored.owner())
+                || Boolean.TRUE.equals(redisTemplate.hasKey(OWNER_PREFIX + stored.owner()))) {
+            return stored;
+        }
+        log.warn("Multi-Agent Plan job orphaned: jobId={}, owner={}", jobId, stored.owner());
+        orphaned.increment();
+        StoredJob failed = failed(stored);
+        save(failed, resultTtl);
+        return failed;
+    }
+
+    private static StoredJob failed(StoredJob stored) {
+        return stored.with(stored.job().toBuilder()
+                .status(Status.FAILED)
+                .result(Map.of("success", false, "errors", List.of(ORPHANED)))
+                .finishedAt(LocalDateTime.now())
+                .build());
+    }
+
+    /**
+     * Redis 에 저장하는 형태. 요청한 사용자와 실행 인스턴스는 응답에 내보내지 않는다.
+     */
+    private record StoredJob(Long userId, String owner, Job job) {
+
+        StoredJob with(Job job) {
+            return new StoredJob(userId, owner, job);
+        }
+    }
+}
@@ -1,32 +1,97 @@
 package com.tripmate.service;
 
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.tripmate.cache.SingleFlight;
+import com.tripmate.cache.TieredCache;
 import com.tripmate.dto.AIChatDto;
 import com.tripmate.dto.TripScheduleDto;
 import com.tripmate.entity.Trip;
 import com.tripmate.repository.TripRepository;
-import lombok.RequiredArgsConstructor;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.netty.channel.ChannelOption;
 import lombok.extern.slf4j.Slf4j;
 import org.springframework.beans.factory.annotation.Value;
+import org.springframework.core.ParameterizedTypeReference;
+import org.springframework.core.io.buffer.DataBuffer;
+import org.springframework.http.MediaType;
+import org.springframework.http.client.reactive.ReactorClientHttpConnector;
+import org.springframework.http.codec.ServerSentEvent;
 import org.springframework.stereotype.Service;
 import org.springframework.web.reactive.function.client.WebClient;
+import reactor.core.publisher.Flux;
+import reactor.core.publisher.Mono;
+import reactor.netty.http.client.HttpClient;
+import reactor.netty.resources.ConnectionProvider;
 
 import java.time.Duration;
+import java.time.temporal.ChronoUnit;
 import java.util.HashMap;
 import java.util.List;
+import java.util.Locale;
 import java.util.Map;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.stream.Collectors;
 
 @Slf4j
 @Service
-@RequiredArgsConstructor
 public class AIService {
 
+    private static final Duration STREAM_IDLE_TIMEOUT = Duration.ofSeconds(60);
+    private static final Duration PLAN_TIMEOUT = Duration.ofSeconds(180);  // 여러 에이전트가 동작하므로 타임아웃 늘림
+    private static final String REGENERATE_PREFIX = "regenerate:";
+
     private final TripRepository tripRepository;
-    private final WebClient webClient = WebClient.create();
+    private final ObjectMapper objectMapper;
+    private final TieredCache<Map<String, Object>> recommendationCache;
+    private final SingleFlight<Map<String, Object>> recommendations;
+    private final long budgetBucket;
+    private final AIBulkhead bulkhead;
+    private final WebClient webClient;
+    private final WebClient sessionClient;  // 상태 조회/초기화 전용 (긴 호출에 연결을 뺏기지 않도록)
 
     @Value("${ai-service.url}")
     private String aiServiceUrl;
 
-    public Map<String, Object> getRecommendation(Long tripId) {
+    public AIService(TripRepository tripRepository,
+                     ObjectMapper objectMapper,
+                     TieredCache<Map<String, Object>> recommendationCache,
+                     @Value("${ai-service.recommendation-cache.budget-bucket}") long budgetBucket,
+                     @Value("${ai-service.connect-timeout}") Duration connectTimeout,
+                     AIBulkhead bulkhead,
+                     MeterRegistry meterRegistry) {
+        this.tripRepository = tripRepository;
+        this.objectMapper = objectMapper;
+        this.recommendationCache = recommendationCache;
+        this.budgetBucket = budgetBucket;
+        this.recommendations = new SingleFlight<>("ai-recommendation", meterRegistry);
+        this.bulkhead = bulkhead;
+        this.webClient = createClient("ai-service", connectTimeout, bulkhead.maxConcurrent(AIOperation.CHAT)
+                + bulkhead.maxConcurrent(AIOperation.RECOMMENDATION) + bulkhead.maxConcurrent(AIOperation.PLAN));
+        this.sessionClient = createClient("ai-service-session", connectTimeout,
+                bulkhead.maxConcurrent(AIOperation.SESSION));
+    }
+
+    /**
+     * 격벽 한도만큼 연결을 가진 WebClient
+     */
+    private static WebClient createClient(String name, Duration connectTimeout, int maxConnections) {
+        ConnectionProvider connectionProvider = ConnectionProvider.builder(name)
+                .maxConnections(maxConnections)
+                .maxIdleTime(Duration.ofSeconds(4))  // uvicorn 기본 keep-alive(5초)보다 먼저 닫는다
+                .build();
+        return WebClient.builder()
+                .clientConnector(new ReactorClientHttpConnector(HttpClient.create(connectionProvider)
+                        .option(ChannelOption.CONNECT_TIMEOUT_MILLIS, (int) connectTimeout.toMillis())))
+                .codecs(configurer -> configurer.defaultCodecs().maxInMemorySize(10 * 1024 * 1024))
+                .build();
+    }
+
+    /**
+     * AI 일정 추천. 여행지/일수/테마/예산 구간이 같은 요청은 캐시된 추천을 돌려주고,
+     * 동시에 들어온 같은 요청은 한 번만 호출한다. regenerate 면 캐시를 건너뛰고 새로 받아 교체한다.
+     */
+    public Map<String, Object> getRecommendation(Long tripId, boolean regenerate) {
         Trip trip = tripRepository.findById(tripId)
                 .orElseThrow(() -> new IllegalArgumentException("Trip not found"));
 
@@ -40,28 +105,69 @@ public class AIService {
                 .toList();
         request.put("themes", themeNames);
 
-        try {
-            log.info("Calling AI service: {} with destination={}", aiServiceUrl, trip.getDestination());
-            long startTime = System.currentTimeMillis();
+        String fingerprint = recommendationFingerprint(trip);
+        Mono<Map<String, Object>> recommendation = regenerate
+                ? recommendations.execute(REGENERATE_PREFIX + fingerprint, () -> requestRecommendation(trip, request)
+                        .doOnNext(value -> {
+                            if (isCacheable(value)) {
+                                recommendationCache.put(fingerprint, value);
+                            }
+                        }))
+                : recommendations.execute(fingerprint, () -> recommendationCache.get(fingerprint,
+                        () -> requestRecommendation(trip, request), AIService::isCacheable));
 
-            @SuppressWarnings("unchecked")
-            Map<String, Object> response = webClient.post()
-                    .uri(aiServiceUrl + "/ai/recommend-schedule")
-                    .bodyValue(request)
-                    .retrieve()
-                    .bodyToMono(Map.class)
-                    .block();
-
-            log.info("AI service responded in {}ms", System.currentTimeMillis() - startTime);
-            return response;
+        try {
+            Map<String, Object> response = recommendation.block();
+            if (response != null) {
+                return response;
+            }
+        } catch (AIServiceBusyException e) {
+            throw e;
         } catch (Exception e) {
             log.error("AI service error: {}", e.getMessage());
-            return generateMockRecommendation(trip);
         }
+        return generateMockRecommendation(trip);
+    }
+
+    private Mono<Map<String, Object>> requestRecommendation(Trip trip, Map<String, Object> request) {
+        log.info("Calling AI service: {} with destination={}", aiServiceUrl, trip.getDestination());
+        long startTime = System.currentTimeMillis();
+
+        return bulkhead.protect(AIOperation.RECOMMENDATION, webClient.post()
+                .uri(aiServiceUrl + "/ai/recommend-schedule")
+                .bodyValue(request)
+                .retrieve()
+                .bodyToMono(new ParameterizedTypeReference<Map<String, Object>>() {}))
+                .doOnNext(response -> log.info("AI service responded in {}ms", System.currentTimeMillis() - startTime));
+    }
+
+    /**
+     * 일정이 비었거나 AI 서비스가 AI 없이 만든 임시 일정(fallback)이면 캐시하지 않는다.
+     */
+    private static boolean isCacheable(Map<String, Object> recommendation) {
+        return !Boolean.TRUE.equals(recommendation.get("fallback"))
+                && recommendation.get("schedules") instanceof List<?> schedules
+                && !schedules.isEmpty();
+    }
+
+    /**
+     * 추천 캐시 키: 여행지(공백/대소문자 정리), 일수, 정렬한 테마, 예산 구간
+     * 날짜 자체는 넣지 않으므로 기간만 같으면 같은 추천을 쓴다.
+     */
+    private String recommendationFingerprint(Trip trip) {
+        String destination = trip.getDestination().strip().replaceAll("\\s+", " ").toLowerCase(Locale.ROOT);
+        long days = ChronoUnit.DAYS.between(trip.getStartDate(), trip.getEndDate()) + 1;
+        String themes = trip.getThemes().stream()
+                .distinct()
+                .sorted()
+                .map(Enum::name)
+                .collect(Collectors.joining(","));
+        String budget = trip.getBudget() != null ? String.valueOf(trip.getBudget() / budgetBucket) : "-";
+        return destination + "|" + days + "|" + themes + "|" + budget;
     }
 
     private Map<String, Object> generateMockRecommendation(Trip trip) {
-        long days = java.time.temporal.ChronoUnit.DAYS.between(trip.getStartDate(), trip.getEndDate()) + 1;
+        long days = ChronoUnit.DAYS.between(trip.getStartDate(), trip.getEndDate()) + 1;
 
         List<TripScheduleDto.CreateRequest> schedules = new java.util.ArrayList<>();
 
@@ -134,7 +240,6 @@ public class AIService {
     /**
      * AI 대화형 플래너 - 채팅
      */
-    @SuppressWarnings("unchecked")
     public AIChatDto.Response chat(String sessionId, String message) {
         Map<String, Object> request = new HashMap<>();
         request.put("session_id", sessionId);
@@ -144,44 +249,88 @@ public class AIService {
             log.info("AI Chat request: sessionId={}, message={}", sessionId, message.substring(0, Math.min(50, message.length())));
             long startTime = System.currentTimeMillis();
 
-            Map<String, Object> response = webClient.post()
+            AIChatDto.Response response = bulkhead.protect(AIOperation.CHAT, webClient.post()
                     .uri(aiServiceUrl + "/ai/chat")
                     .bodyValue(request)
                     .retrieve()
-                    .bodyToMono(Map.class)
-                    .timeout(Duration.ofSeconds(120))
+                    .bodyToMono(AIChatDto.Response.class)
+                    .timeout(Duration.ofSeconds(120)))
                     .block();
 
             log.info("AI Chat responded in {}ms", System.currentTimeMillis() - startTime);
 
-            if (response == null) {
-                return createErrorResponse(sessionId);
-            }
-
-            Map<String, Object> collectedInfoMap = (Map<String, Object>) response.get("collected_info");
-            AIChatDto.CollectedInfo collectedInfo = AIChatDto.CollectedInfo.builder()
-                    .destination((String) collectedInfoMap.get("destination"))
-                    .startDate((String) collectedInfoMap.get("start_date"))
-                    .endDate((String) collectedInfoMap.get("end_date"))
-                    .theme((String) collectedInfoMap.get("theme"))
-                    .budget(collectedInfoMap.get("budget") != null ? ((Number) collectedInfoMap.get("budget")).intValue() : null)
-                    .preferences((List<String>) collectedInfoMap.get("preferences"))
-                    .build();
-
-            return AIChatDto.Response.builder()
-                    .sessionId((String) response.get("session_id"))
-                    .response((String) response.get("response"))
-                    .collectedInfo(collectedInfo)
-                    .phase((String) response.get("phase"))
-                    .schedule((Map<String, Object>) response.get("schedule"))
-                    .build();
+            return response != null ? response : createErrorResponse(sessionId);
 
+        } catch (AIServiceBusyException e) {
+            throw e;
         } catch (Exception e) {
             log.error("AI Chat error: {}", e.getMessage());
             return createErrorResponse(sessionId);
         }
     }
 
+    /**
+     * AI 대화형 플래너 - 스트리밍 채팅
+     * ai-service 의 SSE 응답을 그대로 넘긴다. 답변 조각은 token 이벤트로, 수집 정보/단계/일정은 마지막 done 이벤트로 보낸다.
+     */
+    public Flux<ServerSentEvent<Object>> chatStream(String sessionId, String message) {
+        Map<String, Object> request = new HashMap<>();
+        request.put("session_id", sessionId);
+        request.put("message", message);
+
+        log.info("AI Chat stream request: sessionId={}, message={}", sessionId, message.substring(0, Math.min(50, message.length())));
+        long startTime = System.currentTimeMillis();
+        AtomicBoolean firstToken = new AtomicBoolean(true);
+
+        return bulkhead.protect(AIOperation.CHAT, webClient.post()
+                .uri(aiServiceUrl + "/ai/chat/stream")
+                .accept(MediaType.TEXT_EVENT_STREAM)
+                .bodyValue(request)
+                .retrieve()
+                .bodyToFlux(new ParameterizedTypeReference<ServerSentEvent<String>>() {})
+                .timeout(STREAM_IDLE_TIMEOUT))  // 이벤트 사이 대기 시간
+                .concatMap(event -> {
+                    if ("done".equals(event.event())) {
+                        log.info("AI Chat stream finished in {}ms", System.currentTimeMillis() - startTime);
+                        return Mono.just(ServerSentEvent.builder()
+                                .event("done")
+                                .data((Object) parseDone(event.data()))
+                                .build());
+                    }
+                    if (event.data() == null || (event.event() != null && !"token".equals(event.event()))) {
+                        return Mono.empty();
+                    }
+                    if (firstToken.compareAndSet(true, false)) {
+                        log.info("AI Chat first token in {}ms", System.currentTimeMillis() - startTime);
+                    }
+                    return Mono.just(ServerSentEvent.builder()
+                            .event("token")
+                            .data((Object) Map.of("text", event.data()))
+                            .build());
+                })
+                .takeUntil(event -> "done".equals(event.event()))
+                .onErrorResume(e -> {
+                    log.error("AI Chat stream error: {}", e.getMessage());
+                    // 스트림은 이미 시작했으므로 429 대신 error 이벤트로 알린다
+                    AIChatDto.Response error = createErrorResponse(sessionId);
+                    if (e instanceof AIServiceBusyException) {
+                        error.setResponse(e.getMessage());
+                    }
+                    return Mono.just(ServerSentEvent.builder()
+                            .event("error")
+                            .data((Object) error)
+                            .build());
+                });
+    }
+
+    private AIChatDto.Response parseDone(String data) {
+        try {
+            return objectMapper.readValue(data, AIChatDto.Response.class);
+        } catch (JsonProcessingException e) {
+            throw new IllegalStateException("Malformed AI chat done event", e);
+        }
+    }
+
     /**
      * AI 대화형 플래너 - 세션 초기화
      */
@@ -190,11 +339,11 @@ public class AIService {
         request.put("session_id", sessionId);
 
         try {
-            webClient.post()
+            bulkhead.protect(AIOperation.SESSION, sessionClient.post()
                     .uri(aiServiceUrl + "/ai/chat/clear")
                     .bodyValue(request)
                     .retrieve()
-                    .bodyToMono(Map.class)
+                    .bodyToMono(Map.class))
                     .block();
 
             log.info("AI Chat session cleared: {}", sessionId);
@@ -204,6 +353,8 @@ public class AIService {
                     .sessionId(sessionId)
                     .build();
 
+        } catch (AIServiceBusyException e) {
+            throw e;
         } catch (Exception e) {
             log.error("AI Chat clear error: {}", e.getMessage());
             return AIChatDto.ClearResponse.builder()
@@ -216,13 +367,12 @@ public class AIService {
     /**
      * AI 대화형 플래너 - 세션 상태 조회
      */
-    @SuppressWarnings("unchecked")
     public AIChatDto.StatusResponse getSessionStatus(String sessionId) {
         try {
-            Map<String, Object> response = webClient.get()
+            AIChatDto.StatusResponse response = bulkhead.protect(AIOperation.SESSION, sessionClient.get()
                     .uri(aiServiceUrl + "/ai/chat/status/" + sessionId)
                     .retrieve()
-                    .bodyToMono(Map.class)
+                    .bodyToMono(AIChatDto.StatusResponse.class))
                     .block();
 
             if (response == null) {
@@ -231,26 +381,10 @@ public class AIService {
                         .exists(false)
                         .build();
             }
+            return response;
 
-            Map<String, Object> collectedInfoMap = (Map<String, Object>) response.get("collected_info");
-            AIChatDto.CollectedInfo collectedInfo = null;
-            if (collectedInfoMap != null) {
-                collectedInfo = AIChatDto.CollectedInfo.builder()
-                        .destination((String) collectedInfoMap.get("destination"))
-                        .startDate((String) collectedInfoMap.get("start_date"))
-                        .endDate((String) collectedInfoMap.get("end_date"))
-                        .theme((String) collectedInfoMap.get("theme"))
-                        .build();
-            }
-
-            return AIChatDto.StatusResponse.builder()
-                    .sessionId((String) response.get("session_id"))
-                    .exists((Boolean) response.get("exists"))
-                    .messageCount(((Number) response.get("message_count")).intValue())
-                    .phase((String) response.get("phase"))
-                    .collectedInfo(collectedInfo)
-                    .build();
-
+        } catch (AIServiceBusyException e) {
+            throw e;
         } catch (Exception e) {
             log.error("AI Chat status error: {}", e.getMessage());
             return AIChatDto.StatusResponse.builder()
@@ -279,37 +413,67 @@ public class AIService {
             log.info("Multi-Agent Plan request: destination={}", request.get("destination"));
             long startTime = System.currentTimeMillis();
 
-            Map<String, Object> response = webClient.post()
+            Map<String, Object> response = bulkhead.protect(AIOperation.PLAN, webClient.post()
                     .uri(aiServiceUrl + "/ai/multi-agent-plan")
                     .bodyValue(request)
                     .retrieve()
                     .bodyToMono(Map.class)
-                    .timeout(Duration.ofSeconds(180))  // 여러 에이전트가 동작하므로 타임아웃 늘림
+                    .timeout(PLAN_TIMEOUT))
                     .block();
 
             log.info("Multi-Agent Plan responded in {}ms", System.currentTimeMillis() - startTime);
             return response;
 
+        } catch (AIServiceBusyException e) {
+            throw e;
         } catch (Exception e) {
             log.error("Multi-Agent Plan error: {}", e.getMessage());
-            Map<String, Object> errorResponse = new HashMap<>();
-            errorResponse.put("success", false);
-            errorResponse.put("errors", List.of("서버 오류가 발생했습니다: " + e.getMessage()));
-            return errorResponse;
+            return planError(e);
         }
     }
 
+    /**
+     * 다중 에이전트 여행 플래너 - 응답을 디코딩하지 않고 받은 조각 그대로 넘긴다.
+     * 첫 조각은 PLAN_TIMEOUT, 이후 조각 사이는 STREAM_IDLE_TIMEOUT 안에 와야 하며,
+     * PLAN 자리는 본문이 끝나거나 구독이 취소될 때까지 쥐고 있는다.
+     */
+    public Flux<DataBuffer> multiAgentPlanBody(Map<String, Object> request) {
+        return Flux.defer(() -> {
+            log.info("Multi-Agent Plan request: destination={}", request.get("destination"));
+            long startTime = System.currentTimeMillis();
+
+            return bulkhead.protect(AIOperation.PLAN, webClient.post()
+                            .uri(aiServiceUrl + "/ai/multi-agent-plan")
+                            .bodyValue(request)
+                            .retrieve()
+                            .bodyToFlux(DataBuffer.class)
+                            .timeout(Mono.delay(PLAN_TIMEOUT), buffer -> Mono.delay(STREAM_IDLE_TIMEOUT)))
+                    .doOnComplete(() -> log.info("Multi-Agent Plan responded in {}ms",
+                            System.currentTimeMillis() - startTime))
+                    .doOnError(e -> log.error("Multi-Agent Plan error: {}", e.getMessage()));
+        });
+    }
+
+    private static Map<String, Object> planError(Throwable e) {
+        Map<String, Object> errorResponse = new HashMap<>();
+        errorResponse.put("success", false);
+        errorResponse.put("errors", List.of("서버 오류가 발생했습니다: " + e.getMessage()));
+        return errorResponse;
+    }
+
     /**
      * 다중 에이전트 플래너 상태 조회
      */
     @SuppressWarnings("unchecked")
     public Map<String, Object> getMultiAgentStatus() {
         try {
-            return webClient.get()
+            return bulkhead.protect(AIOperation.SESSION, sessionClient.get()
                     .uri(aiServiceUrl + "/ai/multi-agent-plan/status")
                     .retrieve()
-                    .bodyToMono(Map.class)
+                    .bodyToMono(Map.class))
                     .block();
+        } catch (AIServiceBusyException e) {
+            throw e;
         } catch (Exception e) {
             log.error("Multi-Agent Status error: {}", e.getMessage());
             Map<String, Object> errorResponse = new HashMap<>();
@@ -0,0 +1,19 @@
+package com.tripmate.service;
+
+import lombok.Getter;
+
+import java.time.Duration;
+
+/**
+ * AI 서비스 요청이 한도를 넘어 받지 않았을 때 (retryAfter 뒤에 다시 시도)
+ */
+@Getter
+public class AIServiceBusyException extends RuntimeException {
+
+    private final Duration retryAfter;
+
+    public AIServiceBusyException(String message, Duration retryAfter) {
+        super(message);
+        this.retryAfter = retryAfter;
+    }
+}
@@ -0,0 +1,183 @@
+package com.tripmate.service;
+
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+import reactor.core.publisher.Flux;
+import reactor.core.publisher.Mono;
+
+import java.time.Duration;
+
+/**
+ * Tour API 회로 차단기
+ * 최근 window-size 건 중 실패 비율이 failure-rate 이상이면 open-duration 동안 호출을 바로 실패시키고,
+ * 이후 half-open-calls 건을 시험 삼아 보내 모두 성공하면 다시 닫는다.
+ */
+@Slf4j
+@Component
+public class TourApiCircuitBreaker {
+
+    enum State { CLOSED, OPEN, HALF_OPEN }
+
+    private enum Outcome { SUCCESS, FAILURE, IGNORED }
+
+    private final int windowSize;
+    private final int minCalls;
+    private final double failureRate;
+    private final long openDurationNanos;
+    private final int halfOpenCalls;
+    private final Counter rejected;
+
+    // this 로 동기화
+    private State state = State.CLOSED;
+    private final boolean[] outcomes;   // true: 실패
+    private int recorded;
+    private int next;
+    private int failures;
+    private long openedAt;
+    private int halfOpenInFlight;
+    private int halfOpenSuccesses;
+
+    public TourApiCircuitBreaker(
+            @Value("${tour-api.circuit-breaker.window-size}") int windowSize,
+            @Value("${tour-api.circuit-breaker.min-calls}") int minCalls,
+            @Value("${tour-api.circuit-breaker.failure-rate}") double failureRate,
+            @Value("${tour-api.circuit-breaker.open-duration}") Duration openDuration,
+            @Value("${tour-api.circuit-breaker.half-open-calls}") int halfOpenCalls,
+            MeterRegistry meterRegistry) {
+        this.windowSize = windowSize;
+        this.minCalls = minCalls;
+        this.failureRate = failureRate;
+        this.openDurationNanos = openDuration.toNanos();
+        this.halfOpenCalls = halfOpenCalls;
+        this.outcomes = new boolean[windowSize];
+
+        this.rejected = Counter.builder("tour.api.circuit.rejected").register(meterRegistry);
+        Gauge.builder("tour.api.circuit.state", this, breaker -> breaker.getState().ordinal())
+                .description("0: closed, 1: open, 2: half-open")
+                .register(meterRegistry);
+        Gauge.builder("tour.api.circuit.failure-rate", this, TourApiCircuitBreaker::currentFailureRate)
+                .register(meterRegistry);
+    }
+
+    /**
+     * 회로가 열려 있으면 TourApiCircuitOpenException 으로 바로 실패하고, 아니면 call 의 결과를 기록한다.
+     * 호출 한도로 보내지 않았거나 키 문제로 거절된 요청(TourApiThrottledException)과 취소된 요청은 기록하지 않는다.
+     */
+    public <T> Mono<T> protect(Mono<T> call) {
+        return Mono.defer(() -> {
+            if (!tryPermit()) {
+                return Mono.error(rejection());
+            }
+            return call
+                    .doOnSuccess(value -> record(Outcome.SUCCESS))
+                    .doOnError(e -> record(outcomeOf(e)))
+                    .doOnCancel(() -> record(Outcome.IGNORED));
+        });
+    }
+
+    /**
+     * 스트리밍 호출용. 끝까지 받으면 성공으로 기록한다.
+     */
+    public <T> Flux<T> protect(Flux<T> call) {
+        return Flux.defer(() -> {
+            if (!tryPermit()) {
+                return Flux.error(rejection());
+            }
+            return call
+                    .doOnComplete(() -> record(Outcome.SUCCESS))
+                    .doOnError(e -> record(outcomeOf(e)))
+                    .doOnCancel(() -> record(Outcome.IGNORED));
+        });
+    }
+
+    public synchronized State getState() {
+        return state;
+    }
+
+    private TourApiCircuitOpenException rejection() {
+        rejected.increment();
+        return new TourApiCircuitOpenException("Tour API circuit open");
+    }
+
+    private static Outcome outcomeOf(Throwable e) {
+        return e instanceof TourApiThrottledException ? Outcome.IGNORED : Outcome.FAILURE;
+    }
+
+    private synchronized double currentFailureRate() {
+        return recorded == 0 ? 0 : (double) failures / recorded;
+    }
+
+    private synchronized boolean tryPermit() {
+        if (state == State.OPEN) {
+            if (System.nanoTime() - openedAt < openDurationNanos) {
+                return false;
+            }
+            transition(State.HALF_OPEN);
+        }
+        if (state == State.HALF_OPEN) {
+            if (halfOpenInFlight >= halfOpenCalls) {
+                return false;
+            }
+            halfOpenInFlight++;
+        }
+        return true;
+    }
+
+    private synchronized void record(Outcome outcome) {
+        boolean failed = outcome == Outcome.FAILURE;
+        switch (state) {
+            case HALF_OPEN -> {
+                halfOpenInFlight = Math.max(0, halfOpenInFlight - 1);
+                if (outcome == Outcome.IGNORED) {
+                    return;
+                }
+                if (failed) {
+                    transition(State.OPEN);
+                } else if (++halfOpenSuccesses >= halfOpenCalls) {
+                    transition(State.CLOSED);
+                }
+            }
+            case CLOSED -> {
+                if (outcome == Outcome.IGNORED) {
+                    return;
+                }
+                if (recorded == windowSize && outcomes[next]) {
+                    failures--;
+                }
+                outcomes[next] = failed;
+                next = (next + 1) % windowSize;
+                recorded = Math.min(recorded + 1, windowSize);
+                if (failed) {
+                    failures++;
+                }
+                if (recorded >= minCalls && (double) failures / recorded >= failureRate) {
+                    transition(State.OPEN);
+                }
+            }
+            case OPEN -> {
+                // 열리기 전에 보낸 호출의 결과는 무시
+            }
+        }
+    }
+
+    private void transition(State to) {
+        log.warn("Tour API circuit {} -> {} (failures {}/{})", state, to, failures, recorded);
+        state = to;
+        if (to == State.OPEN) {
+            openedAt = System.nanoTime();
+        }
+        if (to == State.HALF_OPEN) {
+            halfOpenInFlight = 0;
+            halfOpenSuccesses = 0;
+        }
+        if (to == State.CLOSED) {
+            recorded = 0;
+            next = 0;
+            failures = 0;
+        }
+    }
+}
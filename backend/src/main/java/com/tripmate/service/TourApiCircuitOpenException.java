@@ -0,0 +1,11 @@
+package com.tripmate.service;
+
+/**
+ * 최근 실패율이 높아 회로가 열려 Tour API 호출을 보내지 않았을 때
+ */
+public class TourApiCircuitOpenException extends TourApiUnavailableException {
+
+    public TourApiCircuitOpenException(String message) {
+        super(message);
+    }
+}
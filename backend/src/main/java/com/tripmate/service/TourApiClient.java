@@ -0,0 +1,299 @@
+package com.tripmate.service;
+
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import com.tripmate.cache.SingleFlight;
+import com.tripmate.dto.TourApiDto.ApiResponse;
+import com.tripmate.dto.TourApiDto.Header;
+import com.tripmate.dto.TourApiDto.PageResponse;
+import com.tripmate.dto.TourApiDto.TourPlace;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.netty.channel.ChannelOption;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.core.env.Environment;
+import org.springframework.core.io.buffer.DataBuffer;
+import org.springframework.http.MediaType;
+import org.springframework.http.client.reactive.ReactorClientHttpConnector;
+import org.springframework.stereotype.Component;
+import org.springframework.util.unit.DataSize;
+import org.springframework.web.reactive.function.client.ClientResponse;
+import org.springframework.web.reactive.function.client.ExchangeFilterFunction;
+import org.springframework.web.reactive.function.client.WebClient;
+import reactor.core.publisher.Flux;
+import reactor.core.publisher.Mono;
+import reactor.netty.http.client.HttpClient;
+
+import java.net.URI;
+import java.net.URLEncoder;
+import java.nio.charset.StandardCharsets;
+import java.time.Duration;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.function.Function;
+import java.util.function.Supplier;
+
+/**
+ * 한국관광공사 Tour API 호출 담당
+ */
+@Slf4j
+@Component
+public class TourApiClient {
+
+    static final String RESULT_OK = "0000";
+
+    private final WebClient webClient;
+    private final String baseUrl;
+    private final TourApiKeyPool keyPool;
+    private final SingleFlight<ApiResponse> inFlightRequests;
+    private final SingleFlight<PageResponse<TourPlace>> inFlightPages;
+    private final TourApiRateLimiter rateLimiter;
+    private final TourApiCircuitBreaker circuitBreaker;
+    private final TourApiHedging hedging;
+    private final Environment environment;
+    private final Duration defaultTimeout;
+    private final Duration backgroundTimeout;
+    private final Map<String, Duration> endpointTimeouts = new ConcurrentHashMap<>();
+    private final Cache<String, String> recentFailures;
+    private final Counter failureHits;
+
+    public TourApiClient(
+            @Value("${tour-api.base-url}") String baseUrl,
+            @Value("${tour-api.error-ttl}") Duration errorTtl,
+            @Value("${tour-api.max-buffered-body}") DataSize maxBufferedBody,
+            @Value("${tour-api.timeouts.connect}") Duration connectTimeout,
+            @Value("${tour-api.timeouts.default}") Duration defaultTimeout,
+            @Value("${tour-api.timeouts.background}") Duration backgroundTimeout,
+            TourApiKeyPool keyPool,
+            TourApiRateLimiter rateLimiter,
+            TourApiCircuitBreaker circuitBreaker,
+            TourApiHedging hedging,
+            Environment environment,
+            MeterRegistry meterRegistry) {
+        this.baseUrl = baseUrl;
+        this.rateLimiter = rateLimiter;
+        this.circuitBreaker = circuitBreaker;
+        this.hedging = hedging;
+        this.environment = environment;
+        this.defaultTimeout = defaultTimeout;
+        this.backgroundTimeout = backgroundTimeout;
+        this.keyPool = keyPool;
+        this.inFlightRequests = new SingleFlight<>("tour-api", meterRegistry);
+        this.inFlightPages = new SingleFlight<>("tour-api-page", meterRegistry);
+        this.recentFailures = Caffeine.newBuilder()
+                .maximumSize(10_000)
+                .expireAfterWrite(errorTtl)
+                .build();
+        this.failureHits = Counter.builder("tour.api.failure-cache.hits").register(meterRegistry);
+        this.webClient = WebClient.builder()
+                .clientConnector(new ReactorClientHttpConnector(HttpClient.create()
+                        .option(ChannelOption.CONNECT_TIMEOUT_MILLIS, (int) connectTimeout.toMillis())))
+                // 목록 조회는 버퍼링하지 않으므로, 한 번에 읽는 상세/코드 조회와 동기화 페이지만큼만 허용
+                .codecs(configurer -> configurer.defaultCodecs().maxInMemorySize((int) maxBufferedBody.toBytes()))
+                .filter(ExchangeFilterFunction.ofResponseProcessor(TourApiClient::rejectNonJson))
+                .build();
+    }
+
+    public boolean isConfigured() {
+        return keyPool.size() > 0;
+    }
+
+    /**
+     * 서비스 키를 제외한 요청 경로를 만든다. 같은 요청은 항상 같은 문자열이 되므로 중복 호출 판별 키로도 쓴다.
+     */
+    public String buildUrl(String endpoint, String... params) {
+        StringBuilder sb = new StringBuilder(endpoint)
+                .append("?MobileOS=ETC")
+                .append("&MobileApp=TripMate")
+                .append("&_type=json");
+
+        for (int i = 0; i < params.length; i += 2) {
+            if (params[i + 1] != null && !params[i + 1].isEmpty()) {
+                sb.append("&").append(params[i]).append("=");
+                if (params[i].equals("keyword")) {
+                    sb.append(URLEncoder.encode(params[i + 1], StandardCharsets.UTF_8));
+                } else {
+                    sb.append(params[i + 1]);
+                }
+            }
+        }
+        return sb.toString();
+    }
+
+    /**
+     * Tour API 호출. 동일한 요청이 진행 중이면 그 결과를 함께 받고, 호출 한도는 실제로 보낼 때만 쓴다.
+     * 실패하면 TourApiUnavailableException 이며, 같은 요청은 error-ttl 동안 보내지 않고 바로 실패한다.
+     */
+    public Mono<ApiResponse> call(String url, TourApiPriority priority) {
+        return guarded(url, () -> inFlightRequests.execute(url, () -> send(url, priority,
+                response -> response.bodyToMono(ApiResponse.class).map(TourApiClient::checkResult))));
+    }
+
+    /**
+     * 목록 API 호출. 응답을 받는 대로 TourPlace 로 디코딩해 본문 전체를 버퍼링하지 않는다.
+     */
+    public Mono<PageResponse<TourPlace>> callPage(String url, int pageNo, int numOfRows, TourApiPriority priority) {
+        return guarded(url, () -> inFlightPages.execute(url, () -> send(url, priority,
+                response -> response.bodyToFlux(DataBuffer.class)
+                        .collect(() -> new TourPageDecoder(pageNo, numOfRows), TourPageDecoder::feed)
+                        .map(TourPageDecoder::finish))));
+    }
+
+    /**
+     * 목록 API 응답 본문을 받는 그대로 흘려보낸다. (변환은 받는 쪽에서 하며, 조각 사이 간격이 제한 시간을 넘기면 실패)
+     */
+    public Flux<DataBuffer> stream(String url, TourApiPriority priority) {
+        Duration timeout = timeoutOf(endpointOf(url), priority);
+        return Flux.defer(() -> {
+            TourApiUnavailableException failure = recentFailure(url);
+            if (failure != null) {
+                return Flux.error(failure);
+            }
+            AtomicBoolean received = new AtomicBoolean();
+            Flux<DataBuffer> body = Flux.defer(() -> {
+                TourApiKeyPool.ServiceKey key = keyPool.next();
+                return request(url, key).bodyToFlux(DataBuffer.class)
+                        .timeout(timeout)
+                        .doOnNext(buffer -> received.set(true))
+                        .doOnComplete(() -> keyPool.succeeded(key))
+                        .doOnError(e -> keyPool.failed(key, e));
+            });
+            // 본문을 받기 전에 키 문제로 실패했으면 다른 키로 한 번 더 보낸다
+            return circuitBreaker.protect(rateLimiter.acquire(priority)
+                            .thenMany(body.onErrorResume(e -> !received.get() && TourApiKeyPool.isKeyFailure(e), e -> body))
+                            .onErrorMap(TourApiKeyPool::isKeyFailure, TourApiClient::keyRejected))
+                    .onErrorMap(TourApiClient::unavailable)
+                    .doOnError(e -> recordFailure(url, e));
+        });
+    }
+
+    /**
+     * 회로 차단기 → 호출 한도 → (헤지) 요청 순으로 보낸다. 각 요청은 엔드포인트별 제한 시간을 넘기면 실패한다.
+     */
+    private <T> Mono<T> send(String url, TourApiPriority priority, Function<WebClient.ResponseSpec, Mono<T>> decode) {
+        String endpoint = endpointOf(url);
+        Duration timeout = timeoutOf(endpoint, priority);
+        return circuitBreaker.protect(rateLimiter.acquire(priority)
+                .then(hedging.execute(endpoint, priority, () -> attempt(url, decode).timeout(timeout))));
+    }
+
+    /**
+     * 요청 한 번. 키 문제(한도 초과, 인증 오류)로 실패하면 다른 키로 한 번 더 보내고,
+     * 그래도 실패하면 TourApiThrottledException 이다. (요청 자체의 실패가 아니므로 회로 차단기와 실패 캐시에 남기지 않는다)
+     */
+    private <T> Mono<T> attempt(String url, Function<WebClient.ResponseSpec, Mono<T>> decode) {
+        return attemptWithKey(url, decode)
+                .onErrorResume(TourApiKeyPool::isKeyFailure, e -> attemptWithKey(url, decode))
+                .onErrorMap(TourApiKeyPool::isKeyFailure, TourApiClient::keyRejected);
+    }
+
+    /**
+     * 보낼 때마다 키 풀에서 키를 골라 결과를 알려준다. (헤지 요청은 다른 키로 갈 수 있다)
+     */
+    private <T> Mono<T> attemptWithKey(String url, Function<WebClient.ResponseSpec, Mono<T>> decode) {
+        return Mono.defer(() -> {
+            TourApiKeyPool.ServiceKey key = keyPool.next();
+            return decode.apply(request(url, key))
+                    .doOnSuccess(value -> keyPool.succeeded(key))
+                    .doOnError(e -> keyPool.failed(key, e));
+        });
+    }
+
+    /**
+     * tour-api.timeouts.endpoints.{엔드포인트} 가 있으면 그 값, 없으면 기본값 (백그라운드 호출은 background)
+     */
+    private Duration timeoutOf(String endpoint, TourApiPriority priority) {
+        if (priority == TourApiPriority.BACKGROUND) {
+            return backgroundTimeout;
+        }
+        return endpointTimeouts.computeIfAbsent(endpoint, key -> environment.getProperty(
+                "tour-api.timeouts.endpoints." + key, Duration.class, defaultTimeout));
+    }
+
+    private static String endpointOf(String url) {
+        int query = url.indexOf('?');
+        return query < 0 ? url : url.substring(0, query);
+    }
+
+    private <T> Mono<T> guarded(String url, Supplier<Mono<T>> call) {
+        return Mono.defer(() -> {
+            TourApiUnavailableException failure = recentFailure(url);
+            if (failure != null) {
+                return Mono.error(failure);
+            }
+            return call.get()
+                    .onErrorMap(TourApiClient::unavailable)
+                    .doOnError(e -> recordFailure(url, e));
+        });
+    }
+
+    private TourApiUnavailableException recentFailure(String url) {
+        String failure = recentFailures.getIfPresent(url);
+        if (failure == null) {
+            return null;
+        }
+        failureHits.increment();
+        return new TourApiUnavailableException("Tour API recently failed: " + failure);
+    }
+
+    private void recordFailure(String url, Throwable e) {
+        // 호출 한도나 회로 차단으로 보내지 않은 요청, 키 문제로 거절된 요청은 원본 장애가 아니므로 기록하지 않는다
+        if (!(e instanceof TourApiThrottledException || e instanceof TourApiCircuitOpenException)) {
+            recentFailures.put(url, e.getMessage());
+        }
+    }
+
+    private static Throwable keyRejected(Throwable e) {
+        return new TourApiThrottledException("Tour API service keys rejected: " + e.getMessage(), e);
+    }
+
+    private static Throwable unavailable(Throwable e) {
+        return e instanceof TourApiUnavailableException
+                ? e
+                : new TourApiUnavailableException("Tour API call failed: " + e.getMessage(), e);
+    }
+
+    private static ApiResponse checkResult(ApiResponse response) {
+        Header header = response.getResponse() != null ? response.getResponse().getHeader() : null;
+        if (header == null || !RESULT_OK.equals(header.getResultCode())) {
+            throw header != null
+                    ? new TourApiResultException(header.getResultCode(), header.getResultMsg())
+                    : new TourApiUnavailableException("Tour API error (no header)");
+        }
+        return response;
+    }
+
+    /**
+     * JSON 대신 온 응답을 디코딩 전에 걸러낸다.
+     * XML 이면 게이트웨이 오류 코드를 읽어 TourApiGatewayException 으로, 정상 상태의 HTML 등은 키와 무관한 실패로 본다.
+     * (오류 상태의 비 XML 응답은 그대로 두어 WebClientResponseException 이 된다)
+     */
+    private static Mono<ClientResponse> rejectNonJson(ClientResponse response) {
+        MediaType type = response.headers().contentType().orElse(null);
+        if (type == null || type.isCompatibleWith(MediaType.APPLICATION_JSON)) {
+            return Mono.just(response);
+        }
+        boolean xml = type.isCompatibleWith(MediaType.APPLICATION_XML) || type.isCompatibleWith(MediaType.TEXT_XML);
+        if (!xml && !response.statusCode().is2xxSuccessful()) {
+            return Mono.just(response);
+        }
+        int status = response.statusCode().value();
+        return response.bodyToMono(String.class)
+                .defaultIfEmpty("")
+                .flatMap(body -> {
+                    TourApiGatewayException gateway = xml ? TourApiGatewayException.parse(body) : null;
+                    return Mono.error(gateway != null
+                            ? gateway
+                            : new TourApiUnavailableException("Tour API returned " + status + " " + type));
+                });
+    }
+
+    private WebClient.ResponseSpec request(String url, TourApiKeyPool.ServiceKey key) {
+        log.debug("Calling Tour API with {}: {}", key.getId(), url);
+        return webClient.get()
+                .uri(URI.create(baseUrl + "/" + url + "&serviceKey=" + key.getValue()))
+                .retrieve();
+    }
+}
@@ -0,0 +1,30 @@
+package com.tripmate.service;
+
+import java.util.regex.Matcher;
+import java.util.regex.Pattern;
+
+/**
+ * 공공데이터포털 게이트웨이가 Tour API 대신 XML 오류 응답(OpenAPI_ServiceResponse)을 돌려줬을 때
+ * returnReasonCode 는 Tour API 결과 코드와 같은 체계다. (22: 한도 초과, 30: 등록되지 않은 키 등)
+ */
+public class TourApiGatewayException extends TourApiResultException {
+
+    private static final Pattern REASON_CODE = Pattern.compile("<returnReasonCode>\\s*(\\w+)\\s*</returnReasonCode>");
+    private static final Pattern AUTH_MSG = Pattern.compile("<returnAuthMsg>\\s*([^<]*?)\\s*</returnAuthMsg>");
+
+    public TourApiGatewayException(String reasonCode, String authMsg) {
+        super(reasonCode, "gateway " + authMsg);
+    }
+
+    /**
+     * 게이트웨이 오류 응답이면 예외로, 아니면 null
+     */
+    static TourApiGatewayException parse(String body) {
+        Matcher code = REASON_CODE.matcher(body);
+        if (!code.find()) {
+            return null;
+        }
+        Matcher message = AUTH_MSG.matcher(body);
+        return new TourApiGatewayException(code.group(1), message.find() ? message.group(1) : "");
+    }
+}
@@ -0,0 +1,207 @@
+package com.tripmate.service;
+
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+import reactor.core.Disposable;
+import reactor.core.Disposables;
+import reactor.core.publisher.Mono;
+import reactor.core.publisher.MonoSink;
+
+import java.time.Duration;
+import java.util.Arrays;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.function.BooleanSupplier;
+import java.util.function.Supplier;
+
+/**
+ * Tour API 헤지 요청
+ * 엔드포인트별 최근 응답 시간의 p95 가 지나도 응답이 없으면 같은 요청을 한 번 더 보내고 먼저 온 결과를 쓴다.
+ * 두 번째 요청은 첫 요청이 아직 진행 중이고 대기 없이 호출 한도를 얻을 수 있을 때만 보낸다.
+ */
+@Component
+public class TourApiHedging {
+
+    private static final int WINDOW_SIZE = 128;
+
+    private final boolean enabled;
+    private final Set<String> endpoints;
+    private final int minSamples;
+    private final Duration minDelay;
+    private final TourApiRateLimiter rateLimiter;
+    private final Map<String, LatencyWindow> latencies = new ConcurrentHashMap<>();
+    private final Counter sent;
+    private final Counter won;
+
+    public TourApiHedging(
+            @Value("${tour-api.hedging.enabled}") boolean enabled,
+            @Value("${tour-api.hedging.endpoints}") Set<String> endpoints,
+            @Value("${tour-api.hedging.min-samples}") int minSamples,
+            @Value("${tour-api.hedging.min-delay}") Duration minDelay,
+            TourApiRateLimiter rateLimiter,
+            MeterRegistry meterRegistry) {
+        this.enabled = enabled;
+        this.endpoints = endpoints;
+        this.minSamples = minSamples;
+        this.minDelay = minDelay;
+        this.rateLimiter = rateLimiter;
+        this.sent = Counter.builder("tour.api.hedge.requests").tag("result", "sent").register(meterRegistry);
+        this.won = Counter.builder("tour.api.hedge.requests").tag("result", "won").register(meterRegistry);
+    }
+
+    /**
+     * attempt 를 한 번 보내고, 헤지 대상이면 p95 뒤에도 응답이 없을 때 한 번 더 보낸다. 성공한 요청의 응답 시간은 기록한다.
+     * 첫 요청이 실패하면 헤지 요청이 진행 중일 때만 그 결과를 기다리고, 둘 다 실패하면 첫 요청의 오류를 그대로 낸다.
+     */
+    public <T> Mono<T> execute(String endpoint, TourApiPriority priority, Supplier<Mono<T>> attempt) {
+        Mono<T> primary = timed(endpoint, attempt);
+        Duration delay = hedgeDelay(endpoint, priority);
+        if (delay == null) {
+            return primary;
+        }
+
+        return Mono.create(sink -> {
+            Race<T> race = new Race<>(sink);
+            Disposable.Composite subscriptions = Disposables.composite();
+            sink.onDispose(subscriptions);  // 끝나거나 취소되면 남은 요청을 취소
+
+            subscriptions.add(primary.subscribe(race::success, race::primaryFailed, () -> race.primaryFailed(null)));
+            subscriptions.add(Mono.delay(delay).subscribe(tick -> {
+                if (!race.startHedge(() -> rateLimiter.tryAcquire(priority))) {
+                    return;
+                }
+                sent.increment();
+                subscriptions.add(timed(endpoint, attempt).subscribe(
+                        value -> {
+                            if (race.success(value)) {
+                                won.increment();
+                            }
+                        },
+                        e -> race.hedgeFinished(),
+                        race::hedgeFinished));
+            }));
+        });
+    }
+
+    private Duration hedgeDelay(String endpoint, TourApiPriority priority) {
+        if (!enabled || priority == TourApiPriority.BACKGROUND || !endpoints.contains(endpoint)) {
+            return null;
+        }
+        LatencyWindow window = latencies.get(endpoint);
+        long p95 = window != null ? window.percentile(0.95, minSamples) : -1;
+        return p95 < 0 ? null : Duration.ofMillis(Math.max(p95, minDelay.toMillis()));
+    }
+
+    private <T> Mono<T> timed(String endpoint, Supplier<Mono<T>> attempt) {
+        return Mono.defer(() -> {
+            long start = System.nanoTime();
+            return attempt.get().doOnNext(value -> latencies
+                    .computeIfAbsent(endpoint, key -> new LatencyWindow())
+                    .record((System.nanoTime() - start) / 1_000_000));
+        });
+    }
+
+    /**
+     * 첫 요청과 헤지 요청 중 먼저 온 값을 내보낸다. 값이 없으면 첫 요청의 결과(오류 또는 빈 결과)를 낸다.
+     */
+    private static final class Race<T> {
+
+        private final MonoSink<T> sink;
+
+        // this 로 동기화
+        private boolean done;
+        private boolean primaryFinished;
+        private Throwable primaryError;
+        private boolean hedgeInFlight;
+
+        Race(MonoSink<T> sink) {
+            this.sink = sink;
+        }
+
+        synchronized boolean startHedge(BooleanSupplier permit) {
+            if (done || primaryFinished || !permit.getAsBoolean()) {
+                return false;
+            }
+            hedgeInFlight = true;
+            return true;
+        }
+
+        boolean success(T value) {
+            synchronized (this) {
+                if (done) {
+                    return false;
+                }
+                done = true;
+            }
+            sink.success(value);
+            return true;
+        }
+
+        void primaryFailed(Throwable error) {
+            synchronized (this) {
+                if (done) {
+                    return;
+                }
+                primaryFinished = true;
+                primaryError = error;
+                if (hedgeInFlight) {
+                    return;  // 헤지 요청 결과를 기다린다
+                }
+                done = true;
+            }
+            finish(error);
+        }
+
+        void hedgeFinished() {
+            Throwable error;
+            synchronized (this) {
+                hedgeInFlight = false;
+                if (done || !primaryFinished) {
+                    return;
+                }
+                done = true;
+                error = primaryError;
+            }
+            finish(error);
+        }
+
+        private void finish(Throwable error) {
+            if (error != null) {
+                sink.error(error);
+            } else {
+                sink.success();
+            }
+        }
+    }
+
+    /**
+     * 최근 WINDOW_SIZE 건의 응답 시간(ms)
+     */
+    private static final class LatencyWindow {
+
+        private final long[] samples = new long[WINDOW_SIZE];
+        private int count;
+        private int next;
+
+        synchronized void record(long millis) {
+            samples[next] = millis;
+            next = (next + 1) % WINDOW_SIZE;
+            count = Math.min(count + 1, WINDOW_SIZE);
+        }
+
+        /**
+         * 표본이 minSamples 보다 적으면 -1
+         */
+        synchronized long percentile(double p, int minSamples) {
+            if (count < minSamples) {
+                return -1;
+            }
+            long[] sorted = Arrays.copyOf(samples, count);
+            Arrays.sort(sorted);
+            return sorted[Math.min(count - 1, (int) Math.ceil(p * count) - 1)];
+        }
+    }
+}
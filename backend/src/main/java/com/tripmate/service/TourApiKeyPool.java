@@ -0,0 +1,198 @@
+package com.tripmate.service;
+
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+import org.springframework.web.reactive.function.client.WebClientResponseException;
+
+import java.time.Duration;
+import java.time.LocalDate;
+import java.time.ZoneId;
+import java.util.ArrayList;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Set;
+
+/**
+ * 여러 서비스 키에 Tour API 호출을 나눠 보낸다.
+ * 일일 잔여량이 많고 최근 오류율이 낮은 키를 먼저 쓰며, 한도 초과 응답을 받은 키는 다음 날까지,
+ * 인증 오류 등 키 자체의 문제로 보이는 응답을 받은 키는 cooldown 동안 쓰지 않는다.
+ */
+@Slf4j
+@Component
+public class TourApiKeyPool {
+
+    private static final ZoneId ZONE = ZoneId.of("Asia/Seoul");
+    private static final String QUOTA_EXCEEDED = "22";
+    // 20: 접근 거부, 30: 등록되지 않은 키, 31: 기한 만료, 32: 등록되지 않은 IP
+    private static final Set<String> KEY_ERROR_CODES = Set.of("20", "30", "31", "32");
+    private static final double ERROR_RATE_WEIGHT = 0.1;
+
+    private final List<ServiceKey> keys = new ArrayList<>();
+    private final int dailyLimit;
+    private final Duration cooldown;
+
+    public TourApiKeyPool(
+            @Value("${tour-api.service-key}") String serviceKey,
+            @Value("${tour-api.service-keys}") List<String> serviceKeys,
+            @Value("${tour-api.rate-limit.daily-limit}") int dailyLimit,
+            @Value("${tour-api.key-pool.cooldown}") Duration cooldown,
+            MeterRegistry meterRegistry) {
+        this.dailyLimit = dailyLimit;
+        this.cooldown = cooldown;
+
+        Set<String> values = new LinkedHashSet<>();
+        serviceKeys.stream().map(String::trim).filter(value -> !value.isEmpty()).forEach(values::add);
+        if (values.isEmpty() && serviceKey != null && !serviceKey.isBlank()) {
+            values.add(serviceKey.trim());
+        }
+        for (String value : values) {
+            ServiceKey key = new ServiceKey("key-" + (keys.size() + 1), value, meterRegistry);
+            keys.add(key);
+            Gauge.builder("tour.api.key.remaining", this, pool -> pool.remaining(key))
+                    .tag("key", key.id)
+                    .register(meterRegistry);
+            Gauge.builder("tour.api.key.available", this, pool -> pool.isAvailable(key) ? 1 : 0)
+                    .tag("key", key.id)
+                    .register(meterRegistry);
+            Gauge.builder("tour.api.key.error-rate", this, pool -> pool.errorRate(key))
+                    .tag("key", key.id)
+                    .register(meterRegistry);
+        }
+        log.info("Tour API key pool: {} keys", keys.size());
+    }
+
+    public int size() {
+        return keys.size();
+    }
+
+    /**
+     * 이번 호출에 쓸 키. 쓸 수 있는 키가 없으면 TourApiThrottledException.
+     */
+    public synchronized ServiceKey next() {
+        ServiceKey best = null;
+        double bestScore = 0;
+        for (ServiceKey key : keys) {
+            if (!isAvailable(key)) {
+                continue;
+            }
+            double score = (dailyLimit - key.usedToday) * (1 - key.errorRate);
+            if (best == null || score > bestScore) {
+                best = key;
+                bestScore = score;
+            }
+        }
+        if (best == null) {
+            throw new TourApiThrottledException("No Tour API service key available");
+        }
+        best.usedToday++;
+        return best;
+    }
+
+    public synchronized void succeeded(ServiceKey key) {
+        key.errorRate *= 1 - ERROR_RATE_WEIGHT;
+        key.successes.increment();
+    }
+
+    /**
+     * 실패한 호출을 기록하고, 키 문제로 보이면 해당 키를 잠시 빼 둔다.
+     */
+    public synchronized void failed(ServiceKey key, Throwable e) {
+        key.errorRate = key.errorRate * (1 - ERROR_RATE_WEIGHT) + ERROR_RATE_WEIGHT;
+        key.failures.increment();
+
+        if (e instanceof TourApiResultException result && QUOTA_EXCEEDED.equals(result.getResultCode())) {
+            log.warn("Tour API {} exceeded its daily quota", key.id);
+            key.usedToday = dailyLimit;
+            key.cooldowns.increment();
+        } else if (isKeyError(e)) {
+            log.warn("Tour API {} taken out of rotation for {}: {}", key.id, cooldown, e.getMessage());
+            key.cooldownUntil = System.nanoTime() + cooldown.toNanos();
+            key.cooldowns.increment();
+        }
+    }
+
+    /**
+     * 요청이 아니라 사용한 키 때문에 실패했는지 (한도 초과 또는 인증 오류). 다른 키로 다시 보낼 수 있다.
+     */
+    static boolean isKeyFailure(Throwable e) {
+        return e instanceof TourApiResultException result && QUOTA_EXCEEDED.equals(result.getResultCode())
+                || isKeyError(e);
+    }
+
+    /**
+     * 인증 오류 코드(게이트웨이 오류 응답 포함) 또는 401/403
+     */
+    private static boolean isKeyError(Throwable e) {
+        if (e instanceof TourApiResultException result) {
+            return KEY_ERROR_CODES.contains(result.getResultCode());
+        }
+        if (e instanceof WebClientResponseException response) {
+            int status = response.getStatusCode().value();
+            return status == 401 || status == 403;
+        }
+        return false;
+    }
+
+    private synchronized boolean isAvailable(ServiceKey key) {
+        resetIfNewDay(key);
+        return key.usedToday < dailyLimit && System.nanoTime() - key.cooldownUntil >= 0;
+    }
+
+    private synchronized int remaining(ServiceKey key) {
+        resetIfNewDay(key);
+        return dailyLimit - key.usedToday;
+    }
+
+    private synchronized double errorRate(ServiceKey key) {
+        return key.errorRate;
+    }
+
+    private void resetIfNewDay(ServiceKey key) {
+        LocalDate today = LocalDate.now(ZONE);
+        if (!today.equals(key.day)) {
+            key.day = today;
+            key.usedToday = 0;
+        }
+    }
+
+    /**
+     * 서비스 키와 사용 현황 (TourApiKeyPool 로 동기화)
+     */
+    public static final class ServiceKey {
+
+        private final String id;
+        private final String value;
+        private final Counter successes;
+        private final Counter failures;
+        private final Counter cooldowns;
+
+        private LocalDate day = LocalDate.now(ZONE);
+        private int usedToday;
+        private double errorRate;
+        private long cooldownUntil = System.nanoTime();
+
+        private ServiceKey(String id, String value, MeterRegistry meterRegistry) {
+            this.id = id;
+            this.value = value;
+            this.successes = Counter.builder("tour.api.key.requests")
+                    .tag("key", id).tag("result", "success").register(meterRegistry);
+            this.failures = Counter.builder("tour.api.key.requests")
+                    .tag("key", id).tag("result", "failure").register(meterRegistry);
+            this.cooldowns = Counter.builder("tour.api.key.cooldowns")
+                    .tag("key", id)
+                    .register(meterRegistry);
+        }
+
+        public String getId() {
+            return id;
+        }
+
+        public String getValue() {
+            return value;
+        }
+    }
+}
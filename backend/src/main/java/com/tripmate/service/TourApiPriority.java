@@ -0,0 +1,10 @@
+package com.tripmate.service;
+
+/**
+ * Tour API 호출 우선순위 (선언 순서가 높은 순)
+ */
+public enum TourApiPriority {
+    DETAIL,      // 사용자 상세 조회
+    SEARCH,      // 사용자 목록/검색
+    BACKGROUND   // 미리 가져오기, 카탈로그 동기화
+}
@@ -0,0 +1,252 @@
+package com.tripmate.service;
+
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import jakarta.annotation.PreDestroy;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+import reactor.core.Disposable;
+import reactor.core.publisher.Mono;
+import reactor.core.publisher.MonoSink;
+import reactor.core.scheduler.Schedulers;
+
+import java.time.Duration;
+import java.time.LocalDate;
+import java.time.ZoneId;
+import java.util.ArrayDeque;
+import java.util.ArrayList;
+import java.util.EnumMap;
+import java.util.Iterator;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * 서비스 키들의 일일/초당 호출 한도를 나눠 쓰는 우선순위 스케줄러 (한도는 키 하나 기준 값에 키 개수를 곱한다)
+ * 초당 한도는 토큰 버킷으로, 일일 한도는 한국 시간 자정에 초기화되는 카운터로 관리한다.
+ * 한도가 모자라면 우선순위가 높은 요청부터 내보내고, 일일 잔여량이 예비분 이하로 떨어지면 낮은 우선순위 요청은 보내지 않는다.
+ */
+@Slf4j
+@Component
+public class TourApiRateLimiter {
+
+    private static final ZoneId ZONE = ZoneId.of("Asia/Seoul");
+    private static final long DRAIN_INTERVAL_MS = 20;
+
+    private final int dailyLimit;
+    private final int perSecond;
+    private final Map<TourApiPriority, Integer> dailyReserve = new EnumMap<>(TourApiPriority.class);
+    private final Duration maxQueueWait;
+    private final int maxQueueSize;
+
+    private final Map<TourApiPriority, ArrayDeque<Waiter>> queues = new EnumMap<>(TourApiPriority.class);
+    private final Map<TourApiPriority, Counter> granted = new EnumMap<>(TourApiPriority.class);
+    private final Map<TourApiPriority, Counter> shed = new EnumMap<>(TourApiPriority.class);
+    private final Disposable drainTask;
+
+    // lock 으로 보호
+    private LocalDate day;
+    private int usedToday;
+    private double tokens;
+    private long lastRefillNanos;
+
+    public TourApiRateLimiter(
+            @Value("${tour-api.rate-limit.daily-limit}") int dailyLimit,
+            @Value("${tour-api.rate-limit.per-second}") int perSecond,
+            @Value("${tour-api.rate-limit.search-reserve}") double searchReserve,
+            @Value("${tour-api.rate-limit.background-reserve}") double backgroundReserve,
+            @Value("${tour-api.rate-limit.max-queue-wait}") Duration maxQueueWait,
+            @Value("${tour-api.rate-limit.max-queue-size}") int maxQueueSize,
+            TourApiKeyPool keyPool,
+            MeterRegistry meterRegistry) {
+        int keys = Math.max(1, keyPool.size());
+        this.dailyLimit = dailyLimit * keys;
+        this.perSecond = perSecond * keys;
+        this.maxQueueWait = maxQueueWait;
+        this.maxQueueSize = maxQueueSize;
+        this.dailyReserve.put(TourApiPriority.DETAIL, 0);
+        this.dailyReserve.put(TourApiPriority.SEARCH, (int) (this.dailyLimit * searchReserve));
+        this.dailyReserve.put(TourApiPriority.BACKGROUND, (int) (this.dailyLimit * backgroundReserve));
+
+        this.day = LocalDate.now(ZONE);
+        this.tokens = this.perSecond;
+        this.lastRefillNanos = System.nanoTime();
+
+        for (TourApiPriority priority : TourApiPriority.values()) {
+            String tag = priority.name().toLowerCase();
+            queues.put(priority, new ArrayDeque<>());
+            granted.put(priority, Counter.builder("tour.api.ratelimit.requests")
+                    .tag("priority", tag).tag("result", "granted").register(meterRegistry));
+            shed.put(priority, Counter.builder("tour.api.ratelimit.requests")
+                    .tag("priority", tag).tag("result", "shed").register(meterRegistry));
+            Gauge.builder("tour.api.ratelimit.queued", this, limiter -> limiter.queueSize(priority))
+                    .tag("priority", tag)
+                    .register(meterRegistry);
+        }
+        Gauge.builder("tour.api.quota.remaining", this, TourApiRateLimiter::remainingToday)
+                .tag("window", "day")
+                .register(meterRegistry);
+        Gauge.builder("tour.api.quota.remaining", this, TourApiRateLimiter::remainingThisSecond)
+                .tag("window", "second")
+                .register(meterRegistry);
+
+        this.drainTask = Schedulers.parallel().schedulePeriodically(
+                this::drain, DRAIN_INTERVAL_MS, DRAIN_INTERVAL_MS, TimeUnit.MILLISECONDS);
+    }
+
+    @PreDestroy
+    public void shutdown() {
+        drainTask.dispose();
+    }
+
+    /**
+     * 호출 한도를 하나 얻으면 완료된다. 한도를 얻지 못하면 TourApiThrottledException 으로 실패한다.
+     */
+    public Mono<Void> acquire(TourApiPriority priority) {
+        return Mono.create(sink -> {
+            Throwable rejected = null;
+            boolean ready = false;
+            synchronized (this) {
+                refill();
+                if (isReserved(priority)) {
+                    rejected = throttled(priority, "daily quota reserved for higher priority calls");
+                } else if (!hasWaitersAtOrAbove(priority) && tryTake()) {
+                    ready = true;
+                } else if (queues.get(priority).size() >= maxQueueSize) {
+                    rejected = throttled(priority, "queue full");
+                } else {
+                    Waiter waiter = new Waiter(sink, priority, System.nanoTime() + maxQueueWait.toNanos());
+                    queues.get(priority).add(waiter);
+                    sink.onCancel(() -> cancel(waiter));
+                }
+            }
+
+            if (ready) {
+                granted.get(priority).increment();
+                sink.success();
+            } else if (rejected != null) {
+                sink.error(rejected);
+            }
+        });
+    }
+
+    /**
+     * 대기 없이 지금 바로 한도를 얻을 수 있을 때만 true (헤지 요청처럼 안 보내도 되는 호출용)
+     */
+    public boolean tryAcquire(TourApiPriority priority) {
+        synchronized (this) {
+            refill();
+            if (isReserved(priority) || hasWaitersAtOrAbove(priority) || !tryTake()) {
+                return false;
+            }
+        }
+        granted.get(priority).increment();
+        return true;
+    }
+
+    public int remainingToday() {
+        synchronized (this) {
+            refill();
+            return dailyLimit - usedToday;
+        }
+    }
+
+    private double remainingThisSecond() {
+        synchronized (this) {
+            refill();
+            return tokens;
+        }
+    }
+
+    private int queueSize(TourApiPriority priority) {
+        synchronized (this) {
+            return queues.get(priority).size();
+        }
+    }
+
+    /**
+     * 대기 중인 요청을 우선순위 순으로 내보내고, 오래 기다렸거나 예비분에 걸린 요청은 거절한다.
+     */
+    private void drain() {
+        List<Waiter> ready = new ArrayList<>();
+        List<Waiter> rejected = new ArrayList<>();
+        synchronized (this) {
+            refill();
+            long now = System.nanoTime();
+            for (TourApiPriority priority : TourApiPriority.values()) {
+                ArrayDeque<Waiter> queue = queues.get(priority);
+                Iterator<Waiter> iterator = queue.iterator();
+                while (iterator.hasNext()) {
+                    Waiter waiter = iterator.next();
+                    if (isReserved(priority) || now - waiter.deadlineNanos > 0) {
+                        iterator.remove();
+                        rejected.add(waiter);
+                    }
+                }
+                while (!queue.isEmpty() && tryTake()) {
+                    ready.add(queue.poll());
+                }
+            }
+        }
+
+        for (Waiter waiter : ready) {
+            granted.get(waiter.priority).increment();
+            waiter.sink.success();
+        }
+        for (Waiter waiter : rejected) {
+            waiter.sink.error(throttled(waiter.priority, "rate limited"));
+        }
+    }
+
+    private synchronized void cancel(Waiter waiter) {
+        queues.get(waiter.priority).remove(waiter);
+    }
+
+    private boolean hasWaitersAtOrAbove(TourApiPriority priority) {
+        for (TourApiPriority p : TourApiPriority.values()) {
+            if (!queues.get(p).isEmpty()) {
+                return true;
+            }
+            if (p == priority) {
+                break;
+            }
+        }
+        return false;
+    }
+
+    private boolean isReserved(TourApiPriority priority) {
+        return dailyLimit - usedToday <= dailyReserve.get(priority);
+    }
+
+    private boolean tryTake() {
+        if (tokens < 1 || usedToday >= dailyLimit) {
+            return false;
+        }
+        tokens -= 1;
+        usedToday++;
+        return true;
+    }
+
+    private void refill() {
+        long now = System.nanoTime();
+        tokens = Math.min(perSecond, tokens + (now - lastRefillNanos) / 1e9 * perSecond);
+        lastRefillNanos = now;
+
+        LocalDate today = LocalDate.now(ZONE);
+        if (!today.equals(day)) {
+            log.info("Tour API daily quota reset: {} calls used on {}", usedToday, day);
+            day = today;
+            usedToday = 0;
+        }
+    }
+
+    private TourApiThrottledException throttled(TourApiPriority priority, String reason) {
+        shed.get(priority).increment();
+        return new TourApiThrottledException("Tour API call shed (" + priority + "): " + reason);
+    }
+
+    private record Waiter(MonoSink<Void> sink, TourApiPriority priority, long deadlineNanos) {
+    }
+}
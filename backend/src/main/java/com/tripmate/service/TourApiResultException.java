@@ -0,0 +1,18 @@
+package com.tripmate.service;
+
+/**
+ * Tour API 가 오류 결과 코드(resultCode)를 돌려줬을 때
+ */
+public class TourApiResultException extends TourApiUnavailableException {
+
+    private final String resultCode;
+
+    public TourApiResultException(String resultCode, String resultMsg) {
+        super("Tour API error " + resultCode + ": " + resultMsg);
+        this.resultCode = resultCode;
+    }
+
+    public String getResultCode() {
+        return resultCode;
+    }
+}
@@ -1,129 +1,165 @@
 package com.tripmate.service;
 
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.tripmate.cache.TieredCache;
 import com.tripmate.dto.TourApiDto;
 import com.tripmate.dto.TourApiDto.*;
 import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Qualifier;
 import org.springframework.beans.factory.annotation.Value;
+import org.springframework.core.io.buffer.DataBuffer;
+import org.springframework.core.io.buffer.DefaultDataBufferFactory;
 import org.springframework.stereotype.Service;
-import org.springframework.web.reactive.function.client.WebClient;
+import reactor.core.publisher.Flux;
+import reactor.core.publisher.Mono;
 
-import java.net.URI;
-import java.net.URLEncoder;
-import java.nio.charset.StandardCharsets;
+import java.time.Duration;
 import java.util.ArrayList;
 import java.util.Collections;
+import java.util.LinkedHashMap;
 import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.Set;
+import java.util.concurrent.Semaphore;
+import java.util.function.IntFunction;
+import java.util.function.UnaryOperator;
 import java.util.stream.Collectors;
 
 @Slf4j
 @Service
 public class TourApiService {
 
-    private final WebClient webClient;
-    private final String baseUrl;
-    private final String serviceKey;
+    private final TourApiClient tourApiClient;
+    private final TourCatalogService catalogService;
+    private final TourSpatialIndex spatialIndex;
+    private final TourKeywordIndex keywordIndex;
+    private final TieredCache<List<AreaCode>> areaCodeCache;
+    private final TieredCache<List<AreaCode>> sigunguCodeCache;
+    private final TieredCache<TourDetail> detailCache;
+    private final TieredCache<PageResponse<TourPlace>> areaListCache;
+    private final TieredCache<PageResponse<TourPlace>> searchCache;
+    private final Duration detailCommonTimeout;
+    private final Duration detailIntroTimeout;
+    private final int detailBatchMaxSize;
+    private final int detailBatchParallelism;
+    private final Set<String> prefetchEndpoints;
+    private final Semaphore prefetchPermits;
+    private final Duration overviewTypeTimeout;
+    private final int overviewMaxRows;
+    private final int streamMaxRows;
+    private final ObjectMapper objectMapper;
 
     public TourApiService(
-            @Value("${tour-api.base-url}") String baseUrl,
-            @Value("${tour-api.service-key}") String serviceKey) {
-        this.baseUrl = baseUrl;
-        this.serviceKey = serviceKey;
-        this.webClient = WebClient.builder()
-                .codecs(configurer -> configurer.defaultCodecs().maxInMemorySize(10 * 1024 * 1024))
-                .build();
-    }
-
-    private String buildUrl(String endpoint, String... params) {
-        StringBuilder sb = new StringBuilder(baseUrl)
-                .append("/").append(endpoint)
-                .append("?serviceKey=").append(serviceKey)
-                .append("&MobileOS=ETC")
-                .append("&MobileApp=TripMate")
-                .append("&_type=json");
-
-        for (int i = 0; i < params.length; i += 2) {
-            if (params[i + 1] != null && !params[i + 1].isEmpty()) {
-                sb.append("&").append(params[i]).append("=");
-                if (params[i].equals("keyword")) {
-                    sb.append(URLEncoder.encode(params[i + 1], StandardCharsets.UTF_8));
-                } else {
-                    sb.append(params[i + 1]);
-                }
-            }
-        }
-        return sb.toString();
+            TourApiClient tourApiClient,
+            TourCatalogService catalogService,
+            TourSpatialIndex spatialIndex,
+            TourKeywordIndex keywordIndex,
+            @Qualifier("areaCodeCache") TieredCache<List<AreaCode>> areaCodeCache,
+            @Qualifier("sigunguCodeCache") TieredCache<List<AreaCode>> sigunguCodeCache,
+            @Qualifier("detailCache") TieredCache<TourDetail> detailCache,
+            @Qualifier("areaListCache") TieredCache<PageResponse<TourPlace>> areaListCache,
+            @Qualifier("searchCache") TieredCache<PageResponse<TourPlace>> searchCache,
+            @Value("${tour-api.detail.common-timeout}") Duration detailCommonTimeout,
+            @Value("${tour-api.detail.intro-timeout}") Duration detailIntroTimeout,
+            @Value("${tour-api.detail.batch-max-size}") int detailBatchMaxSize,
+            @Value("${tour-api.detail.batch-parallelism}") int detailBatchParallelism,
+            @Value("${tour-api.prefetch.endpoints}") Set<String> prefetchEndpoints,
+            @Value("${tour-api.prefetch.max-concurrency}") int prefetchMaxConcurrency,
+            @Value("${tour-api.overview.type-timeout}") Duration overviewTypeTimeout,
+            @Value("${tour-api.overview.max-rows}") int overviewMaxRows,
+            @Value("${tour-api.streaming.max-rows}") int streamMaxRows,
+            ObjectMapper objectMapper) {
+        this.tourApiClient = tourApiClient;
+        this.catalogService = catalogService;
+        this.spatialIndex = spatialIndex;
+        this.keywordIndex = keywordIndex;
+        this.areaCodeCache = areaCodeCache;
+        this.sigunguCodeCache = sigunguCodeCache;
+        this.detailCache = detailCache;
+        this.areaListCache = areaListCache;
+        this.searchCache = searchCache;
+        this.detailCommonTimeout = detailCommonTimeout;
+        this.detailIntroTimeout = detailIntroTimeout;
+        this.detailBatchMaxSize = detailBatchMaxSize;
+        this.detailBatchParallelism = detailBatchParallelism;
+        this.prefetchEndpoints = prefetchEndpoints;
+        this.prefetchPermits = new Semaphore(prefetchMaxConcurrency);
+        this.overviewTypeTimeout = overviewTypeTimeout;
+        this.overviewMaxRows = overviewMaxRows;
+        this.streamMaxRows = streamMaxRows;
+        this.objectMapper = objectMapper;
     }
 
     /**
      * 지역 코드 조회
      */
-    public List<AreaCode> getAreaCodes() {
-        String url = buildUrl("areaCode2", "numOfRows", "20");
-
-        try {
-            ApiResponse response = webClient.get()
-                    .uri(URI.create(url))
-                    .retrieve()
-                    .bodyToMono(ApiResponse.class)
-                    .block();
-
-            if (response != null && response.getResponse() != null
-                    && response.getResponse().getBody() != null
-                    && response.getResponse().getBody().getItems() != null
-                    && response.getResponse().getBody().getItems().getItem() != null) {
-
-                return response.getResponse().getBody().getItems().getItem().stream()
-                        .map(item -> AreaCode.builder()
-                                .code(item.getCode())
-                                .name(item.getName())
-                                .build())
-                        .collect(Collectors.toList());
-            }
-        } catch (Exception e) {
-            log.error("Failed to get area codes", e);
-        }
-        return Collections.emptyList();
+    public Mono<List<AreaCode>> getAreaCodes() {
+        String url = tourApiClient.buildUrl("areaCode2", "numOfRows", "20");
+
+        return areaCodeCache.get("all", () -> catalogService.findAreas()
+                        .switchIfEmpty(Mono.defer(() -> fetchAreaCodes(url))))
+                .onErrorMap(e -> unavailable("area codes", e));
     }
 
     /**
      * 시군구 코드 조회
      */
-    public List<AreaCode> getSigunguCodes(String areaCode) {
-        String url = buildUrl("areaCode2",
+    public Mono<List<AreaCode>> getSigunguCodes(String areaCode) {
+        String url = tourApiClient.buildUrl("areaCode2",
                 "areaCode", areaCode,
                 "numOfRows", "50");
 
-        try {
-            ApiResponse response = webClient.get()
-                    .uri(URI.create(url))
-                    .retrieve()
-                    .bodyToMono(ApiResponse.class)
-                    .block();
-
-            if (response != null && response.getResponse() != null
-                    && response.getResponse().getBody() != null
-                    && response.getResponse().getBody().getItems() != null
-                    && response.getResponse().getBody().getItems().getItem() != null) {
+        return sigunguCodeCache.get(String.valueOf(areaCode), () -> catalogService.findSigungu(areaCode)
+                        .switchIfEmpty(Mono.defer(() -> fetchAreaCodes(url))))
+                .onErrorMap(e -> unavailable("sigungu codes", e));
+    }
 
-                return response.getResponse().getBody().getItems().getItem().stream()
+    private Mono<List<AreaCode>> fetchAreaCodes(String url) {
+        return tourApiClient.call(url, TourApiPriority.SEARCH)
+                .filter(response -> response.getResponse() != null
+                        && response.getResponse().getBody() != null
+                        && response.getResponse().getBody().getItems() != null
+                        && response.getResponse().getBody().getItems().getItem() != null)
+                .map(response -> response.getResponse().getBody().getItems().getItem().stream()
                         .map(item -> AreaCode.builder()
                                 .code(item.getCode())
                                 .name(item.getName())
                                 .build())
-                        .collect(Collectors.toList());
-            }
-        } catch (Exception e) {
-            log.error("Failed to get sigungu codes", e);
-        }
-        return Collections.emptyList();
+                        .collect(Collectors.toList()))
+                .defaultIfEmpty(Collections.emptyList());
     }
 
     /**
      * 지역 기반 관광정보 조회
      */
-    public PageResponse<TourPlace> getAreaBasedList(String areaCode, String sigunguCode,
+    public Mono<PageResponse<TourPlace>> getAreaBasedList(String areaCode, String sigunguCode,
                                                      Integer contentTypeId, int pageNo, int numOfRows) {
-        String url = buildUrl("areaBasedList2",
+        IntFunction<String> urlOfPage = page -> tourApiClient.buildUrl("areaBasedList2",
+                "pageNo", String.valueOf(page),
+                "numOfRows", String.valueOf(numOfRows),
+                "arrange", "P",
+                "areaCode", areaCode,
+                "sigunguCode", sigunguCode,
+                "contentTypeId", contentTypeId != null ? String.valueOf(contentTypeId) : null);
+
+        return areaListCache.get(urlOfPage.apply(pageNo),
+                        () -> catalogService.findByArea(areaCode, sigunguCode, contentTypeId, pageNo, numOfRows)
+                                .switchIfEmpty(Mono.defer(() -> executeSearch(
+                                        "places", urlOfPage, pageNo, numOfRows, areaListCache))))
+                .switchIfEmpty(Mono.fromSupplier(() -> emptyPage(pageNo, numOfRows)));
+    }
+
+    /**
+     * 지역 기반 관광정보를 원본 응답에서 바로 변환해 흘려보낸다. (행 수가 많은 조회용, 캐시와 카탈로그를 거치지 않음)
+     * thumbnailOf 는 대표 이미지 주소로 썸네일 주소를 만든다.
+     */
+    public Flux<DataBuffer> streamAreaBasedList(String areaCode, String sigunguCode, Integer contentTypeId,
+                                                int pageNo, int numOfRows, UnaryOperator<String> thumbnailOf) {
+        if (numOfRows < 1 || numOfRows > streamMaxRows) {
+            throw new IllegalArgumentException("numOfRows는 1~" + streamMaxRows + " 사이여야 합니다.");
+        }
+        String url = tourApiClient.buildUrl("areaBasedList2",
                 "pageNo", String.valueOf(pageNo),
                 "numOfRows", String.valueOf(numOfRows),
                 "arrange", "P",
@@ -131,37 +167,87 @@ public class TourApiService {
                 "sigunguCode", sigunguCode,
                 "contentTypeId", contentTypeId != null ? String.valueOf(contentTypeId) : null);
 
-        return executeSearch(url, pageNo, numOfRows);
+        return new TourPageTranscoder(pageNo, numOfRows, thumbnailOf, objectMapper, DefaultDataBufferFactory.sharedInstance)
+                .transcode(tourApiClient.stream(url, TourApiPriority.SEARCH));
+    }
+
+    /**
+     * 지역 개요 (관광지/음식점/숙박/축제 상위 목록을 동시에 조회)
+     * 타입별로 overview.type-timeout 안에 조회하지 못한 목록은 비워 두고 unavailableTypes 에 담는다.
+     */
+    public Mono<AreaOverview> getAreaOverview(String areaCode, String sigunguCode, int numOfRows) {
+        if (numOfRows < 1 || numOfRows > overviewMaxRows) {
+            throw new IllegalArgumentException("numOfRows는 1~" + overviewMaxRows + " 사이여야 합니다.");
+        }
+
+        return Mono.zip(
+                        overviewOf(areaCode, sigunguCode, TourApiDto.TYPE_ATTRACTION, numOfRows),
+                        overviewOf(areaCode, sigunguCode, TourApiDto.TYPE_RESTAURANT, numOfRows),
+                        overviewOf(areaCode, sigunguCode, TourApiDto.TYPE_ACCOMMODATION, numOfRows),
+                        overviewOf(areaCode, sigunguCode, TourApiDto.TYPE_FESTIVAL, numOfRows))
+                .map(results -> {
+                    List<Integer> unavailable = new ArrayList<>();
+                    return AreaOverview.builder()
+                            .attractions(orMissing(results.getT1(), TourApiDto.TYPE_ATTRACTION, unavailable))
+                            .restaurants(orMissing(results.getT2(), TourApiDto.TYPE_RESTAURANT, unavailable))
+                            .accommodations(orMissing(results.getT3(), TourApiDto.TYPE_ACCOMMODATION, unavailable))
+                            .festivals(orMissing(results.getT4(), TourApiDto.TYPE_FESTIVAL, unavailable))
+                            .unavailableTypes(unavailable)
+                            .build();
+                });
+    }
+
+    private Mono<Optional<PageResponse<TourPlace>>> overviewOf(String areaCode, String sigunguCode,
+                                                               int contentTypeId, int numOfRows) {
+        return getAreaBasedList(areaCode, sigunguCode, contentTypeId, 1, numOfRows)
+                .timeout(overviewTypeTimeout)
+                .map(Optional::of)
+                .onErrorResume(e -> {
+                    log.warn("Area overview type {} unavailable for area {}: {}", contentTypeId, areaCode, e.toString());
+                    return Mono.just(Optional.empty());
+                });
+    }
+
+    private static PageResponse<TourPlace> orMissing(Optional<PageResponse<TourPlace>> result,
+                                                     int contentTypeId, List<Integer> unavailable) {
+        if (result.isEmpty()) {
+            unavailable.add(contentTypeId);
+        }
+        return result.orElse(null);
     }
 
     /**
      * 키워드 검색
      */
-    public PageResponse<TourPlace> searchByKeyword(SearchRequest request) {
+    public Mono<PageResponse<TourPlace>> searchByKeyword(SearchRequest request) {
         int pageNo = request.getPageNo() != null ? request.getPageNo() : 1;
         int numOfRows = request.getNumOfRows() != null ? request.getNumOfRows() : 10;
 
-        String url = buildUrl("searchKeyword2",
+        IntFunction<String> urlOfPage = page -> tourApiClient.buildUrl("searchKeyword2",
                 "keyword", request.getKeyword(),
-                "pageNo", String.valueOf(pageNo),
+                "pageNo", String.valueOf(page),
                 "numOfRows", String.valueOf(numOfRows),
                 "arrange", "P",
                 "areaCode", request.getAreaCode(),
                 "sigunguCode", request.getSigunguCode(),
                 "contentTypeId", request.getContentTypeId() != null ? String.valueOf(request.getContentTypeId()) : null);
 
-        return executeSearch(url, pageNo, numOfRows);
+        return Mono.fromSupplier(() -> keywordIndex.search(request, pageNo, numOfRows))
+                .switchIfEmpty(Mono.defer(() -> catalogService.searchByTitle(request, pageNo, numOfRows)))
+                .switchIfEmpty(Mono.defer(() -> searchCache.get(urlOfPage.apply(pageNo),
+                        () -> executeSearch("search", urlOfPage, pageNo, numOfRows, searchCache))))
+                .switchIfEmpty(Mono.fromSupplier(() -> emptyPage(pageNo, numOfRows)));
     }
 
     /**
      * 위치 기반 관광정보 조회
      */
-    public PageResponse<TourPlace> getLocationBasedList(LocationRequest request) {
+    public Mono<PageResponse<TourPlace>> getLocationBasedList(LocationRequest request) {
         int pageNo = request.getPageNo() != null ? request.getPageNo() : 1;
         int numOfRows = request.getNumOfRows() != null ? request.getNumOfRows() : 10;
         int radius = request.getRadius() != null ? request.getRadius() : 5000;
 
-        String url = buildUrl("locationBasedList2",
+        String url = tourApiClient.buildUrl("locationBasedList2",
                 "mapX", String.valueOf(request.getMapX()),
                 "mapY", String.valueOf(request.getMapY()),
                 "radius", String.valueOf(radius),
@@ -171,161 +257,211 @@ public class TourApiService {
                 "arrange", "E",
                 "contentTypeId", request.getContentTypeId() != null ? String.valueOf(request.getContentTypeId()) : null);
 
-        return executeSearch(url, pageNo, numOfRows);
+        return Mono.fromSupplier(() -> spatialIndex.findWithinRadius(request.getMapY(), request.getMapX(), radius,
+                        request.getContentTypeId(), pageNo, numOfRows))
+                .switchIfEmpty(Mono.defer(() -> catalogService.findNearby(request, radius, pageNo, numOfRows)))
+                .switchIfEmpty(Mono.defer(() -> executeSearch(url, pageNo, numOfRows)));
     }
 
     /**
-     * 상세 정보 조회
+     * 지도 영역 내 관광지 조회 (로컬 카탈로그 전용, 영역 중심에서 가까운 순)
      */
-    public TourDetail getDetailInfo(String contentId, Integer contentTypeId) {
+    public Mono<PageResponse<TourPlace>> getPlacesInBounds(BoundsRequest request) {
+        int pageNo = request.getPageNo() != null ? request.getPageNo() : 1;
+        int numOfRows = request.getNumOfRows() != null ? request.getNumOfRows() : 10;
+
+        return Mono.fromSupplier(() -> spatialIndex.findWithinBounds(
+                        request.getMinY(), request.getMinX(), request.getMaxY(), request.getMaxX(),
+                        request.getContentTypeId(), pageNo, numOfRows))
+                .switchIfEmpty(Mono.fromSupplier(() -> emptyPage(pageNo, numOfRows)));
+    }
+
+    /**
+     * 상세 정보 조회. 없는 관광지는 빈 TourDetail, 조회 실패는 TourApiUnavailableException.
+     */
+    public Mono<TourDetail> getDetailInfo(String contentId, Integer contentTypeId) {
+        return detailCache.get(contentId + ":" + contentTypeId,
+                        () -> fetchDetailInfo(contentId, contentTypeId)
+                                .switchIfEmpty(Mono.fromSupplier(() -> TourDetail.builder().build())),
+                        detail -> !detail.isPartial())
+                .onErrorMap(e -> unavailable("detail info for contentId " + contentId, e));
+    }
+
+    /**
+     * 여러 관광지 상세 정보 일괄 조회 (요청 순서 유지)
+     * 로컬 캐시에 있는 항목은 바로 채우고, 나머지만 동시 호출 수를 제한해 조회한다.
+     * 조회에 실패한 항목은 값이 null 이다.
+     */
+    public Mono<Map<String, TourDetail>> getDetailInfos(List<DetailRequest> requests) {
+        if (requests == null || requests.isEmpty()) {
+            return Mono.just(Collections.emptyMap());
+        }
+        if (requests.size() > detailBatchMaxSize) {
+            throw new IllegalArgumentException("한 번에 조회할 수 있는 관광지는 최대 " + detailBatchMaxSize + "개입니다.");
+        }
+
+        Map<String, TourDetail> details = new LinkedHashMap<>();
+        List<DetailRequest> misses = new ArrayList<>();
+        for (DetailRequest request : requests) {
+            if (request.getContentId() == null || request.getContentId().isBlank()) {
+                throw new IllegalArgumentException("contentId는 필수입니다.");
+            }
+            if (details.containsKey(request.getContentId())) {
+                continue;
+            }
+            TourDetail cached = detailCache.getIfPresent(request.getContentId() + ":" + request.getContentTypeId());
+            details.put(request.getContentId(), cached);
+            if (cached == null) {
+                misses.add(request);
+            }
+        }
+
+        return Flux.fromIterable(misses)
+                .flatMap(request -> getDetailInfo(request.getContentId(), request.getContentTypeId())
+                        .map(detail -> Map.entry(request.getContentId(), detail))
+                        .onErrorResume(TourApiUnavailableException.class, e -> Mono.empty()), detailBatchParallelism)
+                .collectList()
+                .map(entries -> {
+                    entries.forEach(entry -> details.put(entry.getKey(), entry.getValue()));
+                    return details;
+                });
+    }
+
+    /**
+     * 공통 정보와 소개 정보를 동시에 조회해 합친다.
+     * 소개 정보가 제한 시간 안에 오지 않으면 공통 정보만 담아 반환한다.
+     */
+    private Mono<TourDetail> fetchDetailInfo(String contentId, Integer contentTypeId) {
         // 공통 정보 조회
-        String commonUrl = buildUrl("detailCommon2",
+        String commonUrl = tourApiClient.buildUrl("detailCommon2",
                 "contentId", contentId,
                 "defaultYN", "Y",
                 "overviewYN", "Y",
                 "addrinfoYN", "Y",
                 "mapinfoYN", "Y");
 
-        TourDetail detail = TourDetail.builder().build();
-
-        try {
-            ApiResponse commonResponse = webClient.get()
-                    .uri(URI.create(commonUrl))
-                    .retrieve()
-                    .bodyToMono(ApiResponse.class)
-                    .block();
-
-            if (commonResponse != null && commonResponse.getResponse() != null
-                    && commonResponse.getResponse().getBody() != null
-                    && commonResponse.getResponse().getBody().getItems() != null
-                    && commonResponse.getResponse().getBody().getItems().getItem() != null
-                    && !commonResponse.getResponse().getBody().getItems().getItem().isEmpty()) {
-
-                Item item = commonResponse.getResponse().getBody().getItems().getItem().get(0);
-                detail = TourDetail.builder()
-                        .contentId(item.getContentid())
-                        .contentTypeId(item.getContenttypeid())
-                        .title(item.getTitle())
-                        .overview(item.getOverview())
-                        .homepage(item.getHomepage())
-                        .addr1(item.getAddr1())
-                        .addr2(item.getAddr2())
-                        .mapX(item.getMapx())
-                        .mapY(item.getMapy())
-                        .tel(item.getTel())
-                        .firstImage(item.getFirstimage())
-                        .firstImage2(item.getFirstimage2())
-                        .build();
-            }
-
-            // 소개 정보 조회
-            if (contentTypeId != null) {
-                String introUrl = buildUrl("detailIntro2",
-                        "contentId", contentId,
-                        "contentTypeId", String.valueOf(contentTypeId));
-
-                ApiResponse introResponse = webClient.get()
-                        .uri(URI.create(introUrl))
-                        .retrieve()
-                        .bodyToMono(ApiResponse.class)
-                        .block();
-
-                if (introResponse != null && introResponse.getResponse() != null
-                        && introResponse.getResponse().getBody() != null
-                        && introResponse.getResponse().getBody().getItems() != null
-                        && introResponse.getResponse().getBody().getItems().getItem() != null
-                        && !introResponse.getResponse().getBody().getItems().getItem().isEmpty()) {
-
-                    Item introItem = introResponse.getResponse().getBody().getItems().getItem().get(0);
-                    detail.setUseTime(introItem.getUsetime());
-                    detail.setRestDate(introItem.getRestdate());
-                    detail.setParking(introItem.getParking());
-                    detail.setChkCreditCard(introItem.getChkcreditcard());
-                    detail.setInfocenter(introItem.getInfocenter());
-                    detail.setFirstMenu(introItem.getFirstmenu());
-                    detail.setTreatMenu(introItem.getTreatmenu());
-                    detail.setOpenTime(introItem.getOpentimefood());
-                    detail.setCheckInTime(introItem.getCheckintime());
-                    detail.setCheckOutTime(introItem.getCheckouttime());
-                    detail.setRoomCount(introItem.getRoomcount());
-                    detail.setReservationUrl(introItem.getReservationurl());
-                }
-            }
-
-        } catch (Exception e) {
-            log.error("Failed to get detail info for contentId: {}", contentId, e);
+        Mono<Item> common = fetchFirstItem(commonUrl)
+                .timeout(detailCommonTimeout);
+
+        // 소개 정보 조회
+        Mono<IntroResult> intro;
+        if (contentTypeId != null) {
+            String introUrl = tourApiClient.buildUrl("detailIntro2",
+                    "contentId", contentId,
+                    "contentTypeId", String.valueOf(contentTypeId));
+
+            intro = fetchFirstItem(introUrl)
+                    .map(item -> new IntroResult(item, false))
+                    .defaultIfEmpty(IntroResult.NONE)
+                    .timeout(detailIntroTimeout)
+                    .onErrorResume(e -> {
+                        log.warn("Failed to get intro info for contentId: {} ({})", contentId, e.toString());
+                        return Mono.just(IntroResult.FAILED);
+                    });
+        } else {
+            intro = Mono.just(IntroResult.NONE);
         }
 
-        return detail;
+        return Mono.zip(common, intro)
+                .map(tuple -> toTourDetail(tuple.getT1(), tuple.getT2()));
     }
 
-    private PageResponse<TourPlace> executeSearch(String url, int pageNo, int numOfRows) {
-        try {
-            log.debug("Calling Tour API: {}", url);
-
-            ApiResponse response = webClient.get()
-                    .uri(URI.create(url))
-                    .retrieve()
-                    .bodyToMono(ApiResponse.class)
-                    .block();
-
-            if (response != null && response.getResponse() != null
-                    && response.getResponse().getBody() != null) {
-
-                Body body = response.getResponse().getBody();
-                List<TourPlace> places = new ArrayList<>();
-
-                if (body.getItems() != null && body.getItems().getItem() != null) {
-                    places = body.getItems().getItem().stream()
-                            .map(this::mapToTourPlace)
-                            .collect(Collectors.toList());
-                }
-
-                return PageResponse.<TourPlace>builder()
-                        .items(places)
-                        .totalCount(body.getTotalCount())
-                        .pageNo(pageNo)
-                        .numOfRows(numOfRows)
-                        .build();
-            }
-        } catch (Exception e) {
-            log.error("Failed to execute search", e);
-        }
-
-        return PageResponse.<TourPlace>builder()
-                .items(Collections.emptyList())
-                .totalCount(0)
-                .pageNo(pageNo)
-                .numOfRows(numOfRows)
-                .build();
+    private Mono<Item> fetchFirstItem(String url) {
+        return tourApiClient.call(url, TourApiPriority.DETAIL)
+                .filter(response -> response.getResponse() != null
+                        && response.getResponse().getBody() != null
+                        && response.getResponse().getBody().getItems() != null
+                        && response.getResponse().getBody().getItems().getItem() != null
+                        && !response.getResponse().getBody().getItems().getItem().isEmpty())
+                .map(response -> response.getResponse().getBody().getItems().getItem().get(0));
     }
 
-    private TourPlace mapToTourPlace(Item item) {
-        Double dist = null;
-        if (item.getDist() != null && !item.getDist().isEmpty()) {
-            try {
-                dist = Double.parseDouble(item.getDist());
-            } catch (NumberFormatException ignored) {}
-        }
-
-        return TourPlace.builder()
+    private TourDetail toTourDetail(Item item, IntroResult intro) {
+        TourDetail detail = TourDetail.builder()
                 .contentId(item.getContentid())
                 .contentTypeId(item.getContenttypeid())
                 .title(item.getTitle())
+                .overview(item.getOverview())
+                .homepage(item.getHomepage())
                 .addr1(item.getAddr1())
                 .addr2(item.getAddr2())
-                .areaCode(item.getAreacode())
-                .sigunguCode(item.getSigungucode())
-                .cat1(item.getCat1())
-                .cat2(item.getCat2())
-                .cat3(item.getCat3())
-                .firstImage(item.getFirstimage())
-                .firstImage2(item.getFirstimage2())
                 .mapX(item.getMapx())
                 .mapY(item.getMapy())
                 .tel(item.getTel())
-                .overview(item.getOverview())
-                .dist(dist)
+                .firstImage(item.getFirstimage())
+                .firstImage2(item.getFirstimage2())
+                .partial(intro.failed())
+                .build();
+
+        Item introItem = intro.item();
+        if (introItem != null) {
+            detail.setUseTime(introItem.getUsetime());
+            detail.setRestDate(introItem.getRestdate());
+            detail.setParking(introItem.getParking());
+            detail.setChkCreditCard(introItem.getChkcreditcard());
+            detail.setInfocenter(introItem.getInfocenter());
+            detail.setFirstMenu(introItem.getFirstmenu());
+            detail.setTreatMenu(introItem.getTreatmenu());
+            detail.setOpenTime(introItem.getOpentimefood());
+            detail.setCheckInTime(introItem.getCheckintime());
+            detail.setCheckOutTime(introItem.getCheckouttime());
+            detail.setRoomCount(introItem.getRoomcount());
+            detail.setReservationUrl(introItem.getReservationurl());
+        }
+
+        return detail;
+    }
+
+    private record IntroResult(Item item, boolean failed) {
+        static final IntroResult NONE = new IntroResult(null, false);
+        static final IntroResult FAILED = new IntroResult(null, true);
+    }
+
+    /**
+     * 목록 조회 후 정책상 허용된 목록이면 다음 페이지를 낮은 우선순위로 미리 조회해 pageCache 에 넣어 둔다.
+     */
+    private Mono<PageResponse<TourPlace>> executeSearch(String endpoint, IntFunction<String> urlOfPage,
+                                                        int pageNo, int numOfRows,
+                                                        TieredCache<PageResponse<TourPlace>> pageCache) {
+        return executeSearch(urlOfPage.apply(pageNo), pageNo, numOfRows)
+                .doOnNext(page -> {
+                    if (prefetchEndpoints.contains(endpoint) && (long) pageNo * numOfRows < page.getTotalCount()) {
+                        prefetch(urlOfPage.apply(pageNo + 1), pageNo + 1, numOfRows, pageCache);
+                    }
+                });
+    }
+
+    private void prefetch(String url, int pageNo, int numOfRows, TieredCache<PageResponse<TourPlace>> pageCache) {
+        if (pageCache.getIfPresent(url) != null || !prefetchPermits.tryAcquire()) {
+            return;
+        }
+        tourApiClient.callPage(url, pageNo, numOfRows, TourApiPriority.BACKGROUND)
+                .filter(page -> !page.getItems().isEmpty())
+                .doFinally(signal -> prefetchPermits.release())
+                .subscribe(
+                        page -> pageCache.put(url, page),
+                        e -> log.debug("Prefetch skipped for {}: {}", url, e.getMessage()));
+    }
+
+    private Mono<PageResponse<TourPlace>> executeSearch(String url, int pageNo, int numOfRows) {
+        return tourApiClient.callPage(url, pageNo, numOfRows, TourApiPriority.SEARCH)
+                .onErrorMap(e -> unavailable("search " + url, e))
+                .switchIfEmpty(Mono.fromSupplier(() -> emptyPage(pageNo, numOfRows)));
+    }
+
+    private static Throwable unavailable(String what, Throwable e) {
+        log.warn("Failed to get {}: {}", what, e.getMessage());
+        return e instanceof TourApiUnavailableException
+                ? e
+                : new TourApiUnavailableException("Tour API call failed: " + e.getMessage(), e);
+    }
+
+    private PageResponse<TourPlace> emptyPage(int pageNo, int numOfRows) {
+        return PageResponse.<TourPlace>builder()
+                .items(Collections.emptyList())
+                .totalCount(0)
+                .pageNo(pageNo)
+                .numOfRows(numOfRows)
                 .build();
     }
 }
@@ -0,0 +1,15 @@
+package com.tripmate.service;
+
+/**
+ * 호출 한도가 부족해 Tour API 호출을 보내지 않았을 때 (쓸 수 있는 서비스 키가 없을 때 포함)
+ */
+public class TourApiThrottledException extends TourApiUnavailableException {
+
+    public TourApiThrottledException(String message) {
+        super(message);
+    }
+
+    public TourApiThrottledException(String message, Throwable cause) {
+        super(message, cause);
+    }
+}
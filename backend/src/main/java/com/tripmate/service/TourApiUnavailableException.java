@@ -0,0 +1,16 @@
+package com.tripmate.service;
+
+/**
+ * Tour API 에서 결과를 받지 못했을 때 (호출 실패, 오류 응답, 최근 실패로 인한 차단)
+ * 결과가 실제로 없는 경우와 구분하기 위해 빈 결과 대신 던진다.
+ */
+public class TourApiUnavailableException extends RuntimeException {
+
+    public TourApiUnavailableException(String message) {
+        super(message);
+    }
+
+    public TourApiUnavailableException(String message, Throwable cause) {
+        super(message, cause);
+    }
+}
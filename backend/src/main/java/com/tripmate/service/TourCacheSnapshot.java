@@ -0,0 +1,160 @@
+package com.tripmate.service;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.tripmate.cache.CacheCodec;
+import com.tripmate.cache.TieredCache;
+import com.tripmate.cache.TieredCache.Entry;
+import com.tripmate.dto.TourApiDto.AreaCode;
+import com.tripmate.dto.TourApiDto.PageResponse;
+import com.tripmate.dto.TourApiDto.TourPlace;
+import jakarta.annotation.PostConstruct;
+import jakarta.annotation.PreDestroy;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Qualifier;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+import reactor.core.publisher.Flux;
+
+import java.io.IOException;
+import java.nio.MappedByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardCopyOption;
+import java.nio.file.StandardOpenOption;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * 지역/시군구 코드와 자주 조회된 지역 목록 페이지를 로컬 파일로 저장해 두었다가,
+ * 재시작 시 준비 완료 전에 L1 캐시로 읽어 들인다. 읽어 들인 값은 처음 조회될 때 원본에서 다시 읽는다.
+ */
+@Slf4j
+@Component
+public class TourCacheSnapshot {
+
+    private static final String ALL_AREAS = "all";
+
+    private final TieredCache<List<AreaCode>> areaCodeCache;
+    private final TieredCache<List<AreaCode>> sigunguCodeCache;
+    private final TieredCache<PageResponse<TourPlace>> areaListCache;
+    private final TourApiService tourApiService;
+    private final CacheCodec<Snapshot> codec;
+    private final Path path;
+    private final int maxPages;
+
+    public TourCacheSnapshot(
+            @Qualifier("areaCodeCache") TieredCache<List<AreaCode>> areaCodeCache,
+            @Qualifier("sigunguCodeCache") TieredCache<List<AreaCode>> sigunguCodeCache,
+            @Qualifier("areaListCache") TieredCache<PageResponse<TourPlace>> areaListCache,
+            TourApiService tourApiService,
+            ObjectMapper objectMapper,
+            @Value("${tour-api.snapshot.path}") Path path,
+            @Value("${tour-api.snapshot.max-pages}") int maxPages) {
+        this.areaCodeCache = areaCodeCache;
+        this.sigunguCodeCache = sigunguCodeCache;
+        this.areaListCache = areaListCache;
+        this.tourApiService = tourApiService;
+        this.codec = new CacheCodec<>(objectMapper, objectMapper.constructType(Snapshot.class), 0);
+        this.path = path;
+        this.maxPages = maxPages;
+    }
+
+    /**
+     * 스냅숏 읽기 (빈 초기화 중이므로 준비 완료 전에 끝난다)
+     */
+    @PostConstruct
+    public void load() {
+        if (!Files.isRegularFile(path)) {
+            return;
+        }
+        long startTime = System.currentTimeMillis();
+        try (FileChannel channel = FileChannel.open(path, StandardOpenOption.READ)) {
+            MappedByteBuffer buffer = channel.map(FileChannel.MapMode.READ_ONLY, 0, channel.size());
+            Snapshot snapshot = codec.decode(buffer);
+            if (snapshot == null) {
+                log.info("Ignoring tour cache snapshot {} written by another version", path);
+                return;
+            }
+
+            snapshot.areaCodes().forEach(areaCodeCache::warm);
+            snapshot.sigunguCodes().forEach(sigunguCodeCache::warm);
+            snapshot.areaList().forEach(areaListCache::warm);
+            log.info("Tour cache snapshot loaded: {} areas, {} pages in {}ms",
+                    snapshot.sigunguCodes().size(), snapshot.areaList().size(),
+                    System.currentTimeMillis() - startTime);
+        } catch (Exception e) {
+            log.warn("Failed to load tour cache snapshot {}: {}", path, e.getMessage());
+        }
+    }
+
+    /**
+     * 스냅숏에서 읽은 지역/시군구 코드를 뒤에서 새로 읽는다. (지역 목록 페이지는 조회될 때 갱신)
+     */
+    @EventListener(ApplicationReadyEvent.class)
+    public void refresh() {
+        Map<String, Entry<List<AreaCode>>> sigungu = sigunguCodeCache.hottest(Integer.MAX_VALUE);
+        tourApiService.getAreaCodes()
+                .thenMany(Flux.fromIterable(sigungu.keySet()))
+                .concatMap(tourApiService::getSigunguCodes)
+                .subscribe(
+                        codes -> {},
+                        e -> log.warn("Failed to refresh area codes after startup: {}", e.getMessage()));
+    }
+
+    @PreDestroy
+    public void saveOnShutdown() {
+        save();
+    }
+
+    /**
+     * 스냅숏 저장. 임시 파일에 쓴 뒤 이름을 바꾸므로 읽는 쪽은 항상 완성된 파일만 본다.
+     */
+    @Scheduled(initialDelayString = "${tour-api.snapshot.interval}",
+            fixedDelayString = "${tour-api.snapshot.interval}")
+    public void save() {
+        List<AreaCode> areas = areaCodeCache.getIfPresent(ALL_AREAS);
+        if (areas == null || areas.isEmpty()) {
+            return;
+        }
+        Snapshot snapshot = new Snapshot(
+                areaCodeCache.hottest(Integer.MAX_VALUE),
+                sigunguCodeCache.hottest(Integer.MAX_VALUE),
+                areaListCache.hottest(maxPages));
+
+        Path directory = path.toAbsolutePath().getParent();
+        Path temp = null;
+        try {
+            Files.createDirectories(directory);
+            temp = Files.createTempFile(directory, path.getFileName().toString(), ".tmp");
+            Files.write(temp, codec.encode(snapshot));
+            Files.move(temp, path, StandardCopyOption.REPLACE_EXISTING, StandardCopyOption.ATOMIC_MOVE);
+            log.debug("Tour cache snapshot saved: {} pages", snapshot.areaList().size());
+        } catch (IOException e) {
+            log.warn("Failed to save tour cache snapshot {}: {}", path, e.getMessage());
+            deleteQuietly(temp);
+        }
+    }
+
+    private static void deleteQuietly(Path file) {
+        if (file == null) {
+            return;
+        }
+        try {
+            Files.deleteIfExists(file);
+        } catch (IOException e) {
+            log.warn("Failed to delete {}: {}", file, e.getMessage());
+        }
+    }
+
+    /**
+     * 항목마다 원래 만료 시각을 함께 저장한다. (재시작해도 ttl 이 새로 시작되지 않도록)
+     */
+    record Snapshot(Map<String, Entry<List<AreaCode>>> areaCodes,
+                    Map<String, Entry<List<AreaCode>>> sigunguCodes,
+                    Map<String, Entry<PageResponse<TourPlace>>> areaList) {
+    }
+}
@@ -0,0 +1,300 @@
+package com.tripmate.service;
+
+import com.tripmate.dto.TourApiDto.AreaCode;
+import com.tripmate.dto.TourApiDto.LocationRequest;
+import com.tripmate.dto.TourApiDto.PageResponse;
+import com.tripmate.dto.TourApiDto.SearchRequest;
+import com.tripmate.dto.TourApiDto.TourPlace;
+import com.tripmate.entity.CatalogArea;
+import com.tripmate.entity.CatalogCategory;
+import com.tripmate.entity.CatalogPlace;
+import com.tripmate.repository.CatalogAreaRepository;
+import com.tripmate.repository.CatalogCategoryRepository;
+import com.tripmate.repository.CatalogPlaceRepository;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.data.domain.Page;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+import reactor.core.publisher.Mono;
+import reactor.core.scheduler.Schedulers;
+
+import java.time.LocalDateTime;
+import java.util.Collection;
+import java.util.Comparator;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.Callable;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.function.Function;
+import java.util.stream.Collectors;
+
+/**
+ * 로컬 관광정보 카탈로그 조회/저장
+ * 조회 결과가 없으면 empty 를 반환하고, 호출자가 Tour API 로 대체 조회한다.
+ */
+@Slf4j
+@Service
+@RequiredArgsConstructor
+public class TourCatalogService {
+
+    private static final double EARTH_RADIUS_M = 6_371_000;
+
+    private final CatalogPlaceRepository placeRepository;
+    private final CatalogAreaRepository areaRepository;
+    private final CatalogCategoryRepository categoryRepository;
+
+    private final AtomicBoolean ready = new AtomicBoolean(false);
+
+    @EventListener(ApplicationReadyEvent.class)
+    public void checkReady() {
+        try {
+            ready.set(placeRepository.count() > 0);
+            log.info("Tour catalog ready: {}", ready.get());
+        } catch (Exception e) {
+            log.warn("Failed to check tour catalog: {}", e.getMessage());
+        }
+    }
+
+    public boolean isReady() {
+        return ready.get();
+    }
+
+    public void markReady() {
+        ready.set(true);
+    }
+
+    /**
+     * 지역 기반 목록 (조회순)
+     */
+    public Mono<PageResponse<TourPlace>> findByArea(String areaCode, String sigunguCode,
+                                                    Integer contentTypeId, int pageNo, int numOfRows) {
+        return query(() -> placeRepository.findByArea(
+                        emptyToNull(areaCode), emptyToNull(sigunguCode), typeOf(contentTypeId),
+                        PageRequest.of(pageNo - 1, numOfRows)))
+                .map(page -> toPageResponse(page, pageNo, numOfRows));
+    }
+
+    /**
+     * 제목 키워드 검색 (조회순)
+     */
+    public Mono<PageResponse<TourPlace>> searchByTitle(SearchRequest request, int pageNo, int numOfRows) {
+        if (request.getKeyword() == null || request.getKeyword().isBlank()) {
+            return Mono.empty();
+        }
+        String pattern = CatalogPlaceRepository.containsPattern(request.getKeyword().trim());
+        return query(() -> placeRepository.searchByTitle(
+                        pattern, emptyToNull(request.getAreaCode()),
+                        emptyToNull(request.getSigunguCode()), typeOf(request.getContentTypeId()),
+                        PageRequest.of(pageNo - 1, numOfRows)))
+                .map(page -> toPageResponse(page, pageNo, numOfRows));
+    }
+
+    /**
+     * 반경 내 관광지 (거리순)
+     */
+    public Mono<PageResponse<TourPlace>> findNearby(LocationRequest request, int radius, int pageNo, int numOfRows) {
+        double lat = request.getMapY();
+        double lng = request.getMapX();
+        double latDelta = Math.toDegrees(radius / EARTH_RADIUS_M);
+        double lngDelta = latDelta / Math.cos(Math.toRadians(lat));
+
+        return Mono.fromCallable(() -> {
+                    if (!ready.get()) {
+                        return null;
+                    }
+                    List<TourPlace> places = placeRepository.findInBounds(
+                                    lng - lngDelta, lng + lngDelta, lat - latDelta, lat + latDelta,
+                                    typeOf(request.getContentTypeId()))
+                            .stream()
+                            .map(place -> {
+                                TourPlace tourPlace = toTourPlace(place);
+                                tourPlace.setDist(distance(lat, lng, place.getMapY(), place.getMapX()));
+                                return tourPlace;
+                            })
+                            .filter(place -> place.getDist() <= radius)
+                            .sorted(Comparator.comparingDouble(TourPlace::getDist))
+                            .collect(Collectors.toList());
+
+                    if (places.isEmpty()) {
+                        return null;
+                    }
+                    int from = Math.min((pageNo - 1) * numOfRows, places.size());
+                    int to = Math.min(from + numOfRows, places.size());
+                    return PageResponse.<TourPlace>builder()
+                            .items(places.subList(from, to))
+                            .totalCount(places.size())
+                            .pageNo(pageNo)
+                            .numOfRows(numOfRows)
+                            .build();
+                })
+                .subscribeOn(Schedulers.boundedElastic())
+                .onErrorResume(this::queryFailed);
+    }
+
+    /**
+     * 시도 코드 목록
+     */
+    public Mono<List<AreaCode>> findAreas() {
+        return Mono.fromCallable(() -> toAreaCodes(areaRepository.findBySigunguCodeIsNullOrderByAreaCodeAsc(), false))
+                .subscribeOn(Schedulers.boundedElastic())
+                .filter(areas -> !areas.isEmpty())
+                .onErrorResume(this::queryFailed);
+    }
+
+    /**
+     * 시군구 코드 목록
+     */
+    public Mono<List<AreaCode>> findSigungu(String areaCode) {
+        return Mono.fromCallable(() -> toAreaCodes(
+                        areaRepository.findByAreaCodeAndSigunguCodeIsNotNullOrderBySigunguCodeAsc(areaCode), true))
+                .subscribeOn(Schedulers.boundedElastic())
+                .filter(areas -> !areas.isEmpty())
+                .onErrorResume(this::queryFailed);
+    }
+
+    /**
+     * 관광지 저장. popularity 가 없는 항목은 기존 순위를 유지하고, 신규면 맨 뒤 순위를 준다.
+     */
+    @Transactional
+    public void upsertPlaces(List<CatalogPlace> places) {
+        if (places.isEmpty()) {
+            return;
+        }
+        Map<String, CatalogPlace> existing = placeRepository.findAllById(
+                        places.stream().map(CatalogPlace::getContentId).toList())
+                .stream()
+                .collect(Collectors.toMap(CatalogPlace::getContentId, Function.identity()));
+
+        int nextPopularity = placeRepository.findMaxPopularity() + 1;
+        for (CatalogPlace place : places) {
+            CatalogPlace current = existing.get(place.getContentId());
+            if (place.getPopularity() == null) {
+                place.setPopularity(current != null ? current.getPopularity() : nextPopularity++);
+            }
+            if (place.getOverview() == null && current != null) {
+                place.setOverview(current.getOverview());
+            }
+        }
+        placeRepository.saveAll(places);
+    }
+
+    @Transactional
+    public void deletePlaces(Collection<String> contentIds) {
+        if (!contentIds.isEmpty()) {
+            placeRepository.deleteAllById(contentIds);
+        }
+    }
+
+    /**
+     * 전체 동기화 중 갱신되지 않은 (원본에서 삭제된) 관광지 제거
+     */
+    @Transactional
+    public int deletePlacesNotSyncedSince(LocalDateTime syncStartedAt) {
+        return placeRepository.deleteBySyncedAtBefore(syncStartedAt);
+    }
+
+    @Transactional
+    public void saveAreas(List<CatalogArea> areas) {
+        areaRepository.saveAll(areas);
+    }
+
+    @Transactional
+    public void saveCategories(List<CatalogCategory> categories) {
+        categoryRepository.saveAll(categories);
+    }
+
+    @Transactional(readOnly = true)
+    public boolean hasAreas() {
+        return areaRepository.count() > 0;
+    }
+
+    @Transactional(readOnly = true)
+    public boolean hasCategories() {
+        return categoryRepository.count() > 0;
+    }
+
+    @Transactional(readOnly = true)
+    public List<CatalogPlace> findAllPlaces() {
+        return placeRepository.findAll();
+    }
+
+    @Transactional(readOnly = true)
+    public String findLatestModifiedTime() {
+        return placeRepository.findLatestModifiedTime();
+    }
+
+    private Mono<Page<CatalogPlace>> query(Callable<Page<CatalogPlace>> query) {
+        return Mono.fromCallable(() -> ready.get() ? query.call() : null)
+                .subscribeOn(Schedulers.boundedElastic())
+                .filter(Page::hasContent)
+                .onErrorResume(this::queryFailed);
+    }
+
+    private <T> Mono<T> queryFailed(Throwable e) {
+        log.warn("Tour catalog query failed: {}", e.getMessage());
+        return Mono.empty();
+    }
+
+    private PageResponse<TourPlace> toPageResponse(Page<CatalogPlace> page, int pageNo, int numOfRows) {
+        return PageResponse.<TourPlace>builder()
+                .items(page.getContent().stream().map(TourCatalogService::toTourPlace).collect(Collectors.toList()))
+                .totalCount((int) page.getTotalElements())
+                .pageNo(pageNo)
+                .numOfRows(numOfRows)
+                .build();
+    }
+
+    private List<AreaCode> toAreaCodes(List<CatalogArea> areas, boolean sigungu) {
+        return areas.stream()
+                .map(area -> AreaCode.builder()
+                        .code(sigungu ? area.getSigunguCode() : area.getAreaCode())
+                        .name(area.getName())
+                        .build())
+                .collect(Collectors.toList());
+    }
+
+    private static String emptyToNull(String value) {
+        return value == null || value.isEmpty() ? null : value;
+    }
+
+    private static String typeOf(Integer contentTypeId) {
+        return contentTypeId != null ? String.valueOf(contentTypeId) : null;
+    }
+
+    static double distance(double lat1, double lng1, double lat2, double lng2) {
+        double dLat = Math.toRadians(lat2 - lat1);
+        double dLng = Math.toRadians(lng2 - lng1);
+        double a = Math.sin(dLat / 2) * Math.sin(dLat / 2)
+                + Math.cos(Math.toRadians(lat1)) * Math.cos(Math.toRadians(lat2))
+                * Math.sin(dLng / 2) * Math.sin(dLng / 2);
+        return 2 * EARTH_RADIUS_M * Math.asin(Math.sqrt(a));
+    }
+
+    /**
+     * 카탈로그 장소 → 응답 DTO
+     */
+    static TourPlace toTourPlace(CatalogPlace place) {
+        return TourPlace.builder()
+                .contentId(place.getContentId())
+                .contentTypeId(place.getContentTypeId())
+                .title(place.getTitle())
+                .addr1(place.getAddr1())
+                .addr2(place.getAddr2())
+                .areaCode(place.getAreaCode())
+                .sigunguCode(place.getSigunguCode())
+                .cat1(place.getCat1())
+                .cat2(place.getCat2())
+                .cat3(place.getCat3())
+                .firstImage(place.getFirstImage())
+                .firstImage2(place.getFirstImage2())
+                .mapX(place.getMapX() != null ? String.valueOf(place.getMapX()) : null)
+                .mapY(place.getMapY() != null ? String.valueOf(place.getMapY()) : null)
+                .tel(place.getTel())
+                .overview(place.getOverview())
+                .build();
+    }
+}
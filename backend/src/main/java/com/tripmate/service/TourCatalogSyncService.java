@@ -0,0 +1,331 @@
+package com.tripmate.service;
+
+import com.tripmate.dto.TourApiDto.ApiResponse;
+import com.tripmate.dto.TourApiDto.Body;
+import com.tripmate.dto.TourApiDto.Item;
+import com.tripmate.entity.CatalogArea;
+import com.tripmate.entity.CatalogCategory;
+import com.tripmate.entity.CatalogPlace;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Service;
+
+import java.time.Duration;
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.time.ZoneId;
+import java.time.format.DateTimeFormatter;
+import java.time.format.DateTimeParseException;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.concurrent.atomic.AtomicBoolean;
+
+/**
+ * Tour API → 로컬 카탈로그 동기화
+ * 매일 전체 목록을 조회순으로 받아 순위를 갱신하고, 그 사이에는 수정일 기준으로 변경분만 반영한다.
+ * 변경분은 마지막으로 동기화를 마친 날부터 오늘까지 하루씩 조회한다. (modifiedtime 은 날짜 일치 조건)
+ */
+@Slf4j
+@Service
+@RequiredArgsConstructor
+public class TourCatalogSyncService {
+
+    private static final int PAGE_SIZE = 1000;
+    private static final Duration CALL_TIMEOUT = Duration.ofSeconds(30);
+    private static final ZoneId ZONE = ZoneId.of("Asia/Seoul");
+    private static final DateTimeFormatter MODIFIED_DATE = DateTimeFormatter.BASIC_ISO_DATE;
+
+    private final TourApiClient tourApiClient;
+    private final TourCatalogService catalogService;
+    private final ApplicationEventPublisher eventPublisher;
+
+    private final AtomicBoolean running = new AtomicBoolean(false);
+    // 변경분을 모두 반영한 마지막 날짜 (재시작 후에는 카탈로그의 최신 수정일부터)
+    private volatile LocalDate syncedThrough;
+
+    @Value("${tour-api.catalog.enabled}")
+    private boolean enabled;
+
+    /**
+     * 전체 동기화
+     */
+    @Scheduled(cron = "${tour-api.catalog.full-sync-cron}", zone = "Asia/Seoul")
+    public void fullSync() {
+        if (!canRun()) {
+            return;
+        }
+        try {
+            long startTime = System.currentTimeMillis();
+            if (!catalogService.hasAreas()) {
+                syncAreas();
+            }
+            if (!catalogService.hasCategories()) {
+                syncCategories();
+            }
+
+            LocalDateTime syncStartedAt = LocalDateTime.now();
+            PlaceSync sync = syncPlaces();
+            if (!sync.complete() || sync.count() == 0) {
+                // 목록을 끝까지 받지 못했으면 받지 못한 장소를 지우지 않는다
+                log.warn("Tour catalog full sync aborted after {} places (page {}, total {})",
+                        sync.count(), sync.lastPage(), sync.totalCount());
+                return;
+            }
+            int removed = catalogService.deletePlacesNotSyncedSince(syncStartedAt);
+            syncedThrough = LocalDate.now(ZONE);
+            catalogService.markReady();
+            eventPublisher.publishEvent(new TourCatalogUpdatedEvent(true));
+
+            log.info("Tour catalog full sync: {} places, {} removed in {}ms",
+                    sync.count(), removed, System.currentTimeMillis() - startTime);
+        } catch (Exception e) {
+            log.error("Tour catalog full sync failed", e);
+        } finally {
+            running.set(false);
+        }
+    }
+
+    /**
+     * 변경분 동기화. 카탈로그가 비어 있으면 전체 동기화를 먼저 수행한다.
+     */
+    @Scheduled(initialDelayString = "${tour-api.catalog.initial-delay}",
+            fixedDelayString = "${tour-api.catalog.incremental-sync-interval}")
+    public void incrementalSync() {
+        if (!catalogService.isReady()) {
+            fullSync();
+            return;
+        }
+        if (!canRun()) {
+            return;
+        }
+        try {
+            LocalDate from = syncFrom();
+            if (from == null) {
+                return;
+            }
+            LocalDate today = LocalDate.now(ZONE);
+
+            int updated = 0;
+            int removed = 0;
+            for (LocalDate date = from; !date.isAfter(today); date = date.plusDays(1)) {
+                Changes changes = syncModifiedOn(date.format(MODIFIED_DATE));
+                updated += changes.updated();
+                removed += changes.removed();
+            }
+            // 오늘 변경분은 계속 생기므로 다음에는 오늘부터 다시 조회
+            syncedThrough = today;
+
+            log.info("Tour catalog incremental sync {}~{}: {} updated, {} removed", from, today, updated, removed);
+            if (updated + removed > 0) {
+                eventPublisher.publishEvent(new TourCatalogUpdatedEvent(false));
+            }
+        } catch (Exception e) {
+            log.error("Tour catalog incremental sync failed", e);
+        } finally {
+            running.set(false);
+        }
+    }
+
+    /**
+     * 변경분 조회 시작일. 마지막 동기화 날짜가 없으면 카탈로그의 최신 수정일 (둘 다 없으면 null)
+     */
+    private LocalDate syncFrom() {
+        if (syncedThrough != null) {
+            return syncedThrough;
+        }
+        String latest = catalogService.findLatestModifiedTime();
+        if (latest == null || latest.length() < 8) {
+            return null;
+        }
+        try {
+            return LocalDate.parse(latest.substring(0, 8), MODIFIED_DATE);
+        } catch (DateTimeParseException e) {
+            log.warn("Unexpected catalog modifiedtime: {}", latest);
+            return null;
+        }
+    }
+
+    /**
+     * 해당 날짜에 수정된 장소를 반영한다.
+     */
+    private Changes syncModifiedOn(String modifiedDate) {
+        int updated = 0;
+        int removed = 0;
+        for (int pageNo = 1; ; pageNo++) {
+            Body body = fetchBody(tourApiClient.buildUrl("areaBasedSyncList2",
+                    "pageNo", String.valueOf(pageNo),
+                    "numOfRows", String.valueOf(PAGE_SIZE),
+                    "modifiedtime", modifiedDate));
+            List<Item> items = itemsOf(body);
+
+            List<CatalogPlace> places = new ArrayList<>();
+            List<String> hidden = new ArrayList<>();
+            for (Item item : items) {
+                if ("0".equals(item.getShowflag())) {
+                    hidden.add(item.getContentid());
+                } else {
+                    places.add(toCatalogPlace(item, null));
+                }
+            }
+            catalogService.upsertPlaces(places);
+            catalogService.deletePlaces(hidden);
+            updated += places.size();
+            removed += hidden.size();
+
+            if (body == null || pageNo * PAGE_SIZE >= body.getTotalCount()) {
+                return new Changes(updated, removed);
+            }
+        }
+    }
+
+    private record Changes(int updated, int removed) {
+    }
+
+    private boolean canRun() {
+        if (!enabled || !tourApiClient.isConfigured()) {
+            return false;
+        }
+        if (!running.compareAndSet(false, true)) {
+            log.debug("Tour catalog sync already running");
+            return false;
+        }
+        return true;
+    }
+
+    /**
+     * 전체 목록을 조회순으로 받는다. 응답이 없거나 totalCount 에 닿기 전에 빈 페이지가 오면 거기서 멈추고 미완료로 알린다.
+     */
+    private PlaceSync syncPlaces() {
+        int count = 0;
+        for (int pageNo = 1; ; pageNo++) {
+            Body body = fetchBody(tourApiClient.buildUrl("areaBasedList2",
+                    "pageNo", String.valueOf(pageNo),
+                    "numOfRows", String.valueOf(PAGE_SIZE),
+                    "arrange", "P"));
+            List<Item> items = itemsOf(body);
+            if (body == null || items.isEmpty()) {
+                return new PlaceSync(count, pageNo, body != null ? body.getTotalCount() : -1, false);
+            }
+
+            List<CatalogPlace> places = new ArrayList<>(items.size());
+            for (int i = 0; i < items.size(); i++) {
+                places.add(toCatalogPlace(items.get(i), count + i + 1));
+            }
+            catalogService.upsertPlaces(places);
+            count += places.size();
+
+            if (pageNo * PAGE_SIZE >= body.getTotalCount()) {
+                return new PlaceSync(count, pageNo, body.getTotalCount(), true);
+            }
+        }
+    }
+
+    private record PlaceSync(int count, int lastPage, int totalCount, boolean complete) {
+    }
+
+    private void syncAreas() {
+        List<CatalogArea> areas = new ArrayList<>();
+        for (Item area : itemsOf(fetchBody(tourApiClient.buildUrl("areaCode2", "numOfRows", "100")))) {
+            areas.add(CatalogArea.builder()
+                    .id(CatalogArea.idOf(area.getCode(), null))
+                    .areaCode(area.getCode())
+                    .name(area.getName())
+                    .build());
+
+            for (Item sigungu : itemsOf(fetchBody(tourApiClient.buildUrl("areaCode2",
+                    "areaCode", area.getCode(),
+                    "numOfRows", "100")))) {
+                areas.add(CatalogArea.builder()
+                        .id(CatalogArea.idOf(area.getCode(), sigungu.getCode()))
+                        .areaCode(area.getCode())
+                        .sigunguCode(sigungu.getCode())
+                        .name(sigungu.getName())
+                        .build());
+            }
+        }
+        catalogService.saveAreas(areas);
+    }
+
+    private void syncCategories() {
+        List<CatalogCategory> categories = new ArrayList<>();
+        for (Item cat1 : itemsOf(fetchBody(tourApiClient.buildUrl("categoryCode2", "numOfRows", "100")))) {
+            categories.add(toCategory(cat1, null, 1));
+
+            for (Item cat2 : itemsOf(fetchBody(tourApiClient.buildUrl("categoryCode2",
+                    "cat1", cat1.getCode(),
+                    "numOfRows", "100")))) {
+                categories.add(toCategory(cat2, cat1.getCode(), 2));
+
+                for (Item cat3 : itemsOf(fetchBody(tourApiClient.buildUrl("categoryCode2",
+                        "cat1", cat1.getCode(),
+                        "cat2", cat2.getCode(),
+                        "numOfRows", "100")))) {
+                    categories.add(toCategory(cat3, cat2.getCode(), 3));
+                }
+            }
+        }
+        catalogService.saveCategories(categories);
+    }
+
+    private Body fetchBody(String url) {
+        ApiResponse response = tourApiClient.call(url, TourApiPriority.BACKGROUND).block(CALL_TIMEOUT);
+        if (response == null || response.getResponse() == null) {
+            return null;
+        }
+        return response.getResponse().getBody();
+    }
+
+    private List<Item> itemsOf(Body body) {
+        if (body == null || body.getItems() == null || body.getItems().getItem() == null) {
+            return Collections.emptyList();
+        }
+        return body.getItems().getItem();
+    }
+
+    private CatalogCategory toCategory(Item item, String parentCode, int level) {
+        return CatalogCategory.builder()
+                .code(item.getCode())
+                .name(item.getName())
+                .parentCode(parentCode)
+                .level(level)
+                .build();
+    }
+
+    private CatalogPlace toCatalogPlace(Item item, Integer popularity) {
+        return CatalogPlace.builder()
+                .contentId(item.getContentid())
+                .contentTypeId(item.getContenttypeid())
+                .title(item.getTitle())
+                .addr1(item.getAddr1())
+                .addr2(item.getAddr2())
+                .areaCode(item.getAreacode())
+                .sigunguCode(item.getSigungucode())
+                .cat1(item.getCat1())
+                .cat2(item.getCat2())
+                .cat3(item.getCat3())
+                .firstImage(item.getFirstimage())
+                .firstImage2(item.getFirstimage2())
+                .mapX(parseCoordinate(item.getMapx()))
+                .mapY(parseCoordinate(item.getMapy()))
+                .tel(item.getTel())
+                .overview(item.getOverview())
+                .popularity(popularity)
+                .modifiedTime(item.getModifiedtime())
+                .build();
+    }
+
+    private static Double parseCoordinate(String value) {
+        if (value == null || value.isEmpty()) {
+            return null;
+        }
+        try {
+            return Double.parseDouble(value);
+        } catch (NumberFormatException e) {
+            return null;
+        }
+    }
+}
@@ -0,0 +1,7 @@
+package com.tripmate.service;
+
+/**
+ * 로컬 카탈로그 동기화 완료 이벤트 (인메모리 인덱스 재구성용)
+ */
+public record TourCatalogUpdatedEvent(boolean fullSync) {
+}
@@ -0,0 +1,339 @@
+package com.tripmate.service;
+
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import com.tripmate.cache.DiskLruCache;
+import com.tripmate.cache.SingleFlight;
+import com.tripmate.dto.TourApiDto.AreaOverview;
+import com.tripmate.dto.TourApiDto.PageResponse;
+import com.tripmate.dto.TourApiDto.TourDetail;
+import com.tripmate.dto.TourApiDto.TourPlace;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import jakarta.annotation.PreDestroy;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.core.io.ByteArrayResource;
+import org.springframework.core.io.InputStreamResource;
+import org.springframework.core.io.Resource;
+import org.springframework.data.redis.core.ReactiveStringRedisTemplate;
+import org.springframework.stereotype.Service;
+import org.springframework.util.unit.DataSize;
+import org.springframework.web.reactive.function.client.WebClient;
+import reactor.core.Disposable;
+import reactor.core.publisher.Flux;
+import reactor.core.publisher.Mono;
+import reactor.core.scheduler.Schedulers;
+
+import javax.imageio.IIOImage;
+import javax.imageio.ImageIO;
+import javax.imageio.ImageWriteParam;
+import javax.imageio.ImageWriter;
+import javax.imageio.stream.ImageOutputStream;
+import java.awt.Graphics2D;
+import java.awt.RenderingHints;
+import java.awt.image.BufferedImage;
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.net.URI;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Path;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.time.Duration;
+import java.util.HashMap;
+import java.util.HexFormat;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.TimeUnit;
+import java.util.regex.Pattern;
+
+/**
+ * 관광지 이미지 프록시
+ * 원본 URL 의 해시로 이미지를 가리키고, 원본은 한 번만 받아 폭별 JPEG 썸네일과 함께 디스크 캐시에 둔다.
+ */
+@Slf4j
+@Service
+public class TourImageService {
+
+    public static final int LIST_WIDTH = 240;
+    public static final int DETAIL_WIDTH = 960;
+
+    private static final String PATH_PREFIX = "/api/tour/images/";
+    private static final String SOURCE_KEY_PREFIX = "tripmate:image:";
+    private static final Duration SOURCE_TTL = Duration.ofDays(30);
+    private static final Duration REDIS_TIMEOUT = Duration.ofMillis(300);
+    private static final Pattern HASH_PATTERN = Pattern.compile("[0-9a-f]{32}");
+    private static final int[] WIDTHS = {LIST_WIDTH, 480, DETAIL_WIDTH};
+    private static final float JPEG_QUALITY = 0.82f;
+    private static final long FLUSH_INTERVAL_MS = 500;
+    private static final int FLUSH_CONCURRENCY = 32;
+
+    private final WebClient webClient;
+    private final DiskLruCache diskCache;
+    private final ReactiveStringRedisTemplate redisTemplate;
+    private final Set<String> allowedHosts;
+    private final Duration fetchTimeout;
+    private final Cache<String, String> sources = Caffeine.newBuilder()
+            .maximumSize(200_000)
+            .build();
+    private final SingleFlight<byte[]> inFlight;
+    private final Map<String, String> pending = new ConcurrentHashMap<>();  // Redis 에 아직 쓰지 않은 해시 → 원본 URL
+    private final Disposable flushTask;
+
+    public TourImageService(
+            @Value("${tour-api.images.cache-dir}") Path cacheDir,
+            @Value("${tour-api.images.max-cache-size}") DataSize maxCacheSize,
+            @Value("${tour-api.images.allowed-hosts}") Set<String> allowedHosts,
+            @Value("${tour-api.images.fetch-timeout}") Duration fetchTimeout,
+            ReactiveStringRedisTemplate redisTemplate,
+            MeterRegistry meterRegistry) {
+        this.diskCache = new DiskLruCache(cacheDir, maxCacheSize.toBytes());
+        this.allowedHosts = allowedHosts;
+        this.fetchTimeout = fetchTimeout;
+        this.redisTemplate = redisTemplate;
+        this.inFlight = new SingleFlight<>("tour-image", meterRegistry);
+        this.webClient = WebClient.builder()
+                .codecs(configurer -> configurer.defaultCodecs().maxInMemorySize(10 * 1024 * 1024))
+                .build();
+        Gauge.builder("tour.images.disk.bytes", diskCache, DiskLruCache::size)
+                .register(meterRegistry);
+        Gauge.builder("tour.images.sources.pending", pending, Map::size)
+                .register(meterRegistry);
+        this.flushTask = Schedulers.parallel().schedulePeriodically(
+                this::flushSources, FLUSH_INTERVAL_MS, FLUSH_INTERVAL_MS, TimeUnit.MILLISECONDS);
+    }
+
+    @PreDestroy
+    public void shutdown() {
+        flushTask.dispose();
+        flushSources();
+    }
+
+    /**
+     * 목록 항목의 대표 이미지에 썸네일 주소를 붙인다.
+     */
+    public PageResponse<TourPlace> withThumbnails(PageResponse<TourPlace> page) {
+        List<TourPlace> items = page.getItems().stream()
+                .map(place -> place.getFirstImage() == null ? place : place.toBuilder()
+                        .thumbnail(thumbnailUrl(place.getFirstImage(), LIST_WIDTH))
+                        .build())
+                .toList();
+        return PageResponse.<TourPlace>builder()
+                .items(items)
+                .totalCount(page.getTotalCount())
+                .pageNo(page.getPageNo())
+                .numOfRows(page.getNumOfRows())
+                .build();
+    }
+
+    public AreaOverview withThumbnails(AreaOverview overview) {
+        return overview.toBuilder()
+                .attractions(withThumbnailsOrNull(overview.getAttractions()))
+                .restaurants(withThumbnailsOrNull(overview.getRestaurants()))
+                .accommodations(withThumbnailsOrNull(overview.getAccommodations()))
+                .festivals(withThumbnailsOrNull(overview.getFestivals()))
+                .build();
+    }
+
+    private PageResponse<TourPlace> withThumbnailsOrNull(PageResponse<TourPlace> page) {
+        return page != null ? withThumbnails(page) : null;
+    }
+
+    public TourDetail withThumbnail(TourDetail detail) {
+        if (detail == null || detail.getFirstImage() == null) {
+            return detail;
+        }
+        return detail.toBuilder()
+                .thumbnail(thumbnailUrl(detail.getFirstImage(), DETAIL_WIDTH))
+                .build();
+    }
+
+    /**
+     * 프록시 주소를 만들고 해시 → 원본 URL 을 등록 대기열에 넣는다. 허용되지 않은 주소면 null.
+     * (응답을 만드는 스레드에서는 Redis 를 호출하지 않는다)
+     */
+    public String thumbnailUrl(String source, int width) {
+        if (!isAllowed(source)) {
+            return null;
+        }
+        String hash = hashOf(source);
+        if (sources.getIfPresent(hash) == null) {
+            pending.putIfAbsent(hash, source);
+        }
+        return PATH_PREFIX + hash + "?w=" + snapWidth(width);
+    }
+
+    /**
+     * 대기 중인 해시 → 원본 URL 을 한 번에 Redis 에 쓴다. 쓰기에 성공한 해시만 등록된 것으로 표시하고,
+     * 실패한 해시는 다음에 다시 쓰이면 대기열에 다시 들어간다.
+     */
+    private void flushSources() {
+        if (pending.isEmpty()) {
+            return;
+        }
+        Map<String, String> batch = new HashMap<>();
+        for (String hash : pending.keySet()) {
+            String source = pending.remove(hash);
+            if (source != null) {
+                batch.put(hash, source);
+            }
+        }
+
+        Flux.fromIterable(batch.entrySet())
+                .flatMap(entry -> redisTemplate.opsForValue()
+                        .set(SOURCE_KEY_PREFIX + entry.getKey(), entry.getValue(), SOURCE_TTL)
+                        .timeout(REDIS_TIMEOUT)
+                        .filter(Boolean::booleanValue)
+                        .doOnNext(ok -> sources.put(entry.getKey(), entry.getValue()))
+                        .onErrorResume(e -> Mono.empty()), FLUSH_CONCURRENCY)
+                .count()
+                .subscribe(written -> {
+                    if (written < batch.size()) {
+                        log.warn("Failed to register {} of {} image sources", batch.size() - written, batch.size());
+                    }
+                });
+    }
+
+    /**
+     * 요청 폭에 맞는 썸네일. 없으면 원본을 받아 만든다. 모르는 해시면 empty.
+     * 디스크에 있던 썸네일은 본문 스트림을 닫을 때까지 캐시에서 지워지지 않는다.
+     */
+    public Mono<Thumbnail> resolve(String hash, int width) {
+        if (!HASH_PATTERN.matcher(hash).matches()) {
+            return Mono.empty();
+        }
+        String name = hash + "_" + snapWidth(width) + ".jpg";
+        return Mono.defer(() -> {
+            DiskLruCache.Snapshot cached = diskCache.open(name);
+            if (cached != null) {
+                return Mono.just(new Thumbnail(new InputStreamResource(cached.inputStream()), cached.size()));
+            }
+            return inFlight.execute(name, () -> loadOriginal(hash)
+                            .publishOn(Schedulers.boundedElastic())
+                            .map(original -> {
+                                byte[] thumbnail = resize(original, snapWidth(width));
+                                diskCache.put(name, thumbnail);
+                                return thumbnail;
+                            }))
+                    .map(thumbnail -> new Thumbnail(new ByteArrayResource(thumbnail), thumbnail.length));
+        });
+    }
+
+    public static int snapWidth(int width) {
+        for (int allowed : WIDTHS) {
+            if (width <= allowed) {
+                return allowed;
+            }
+        }
+        return WIDTHS[WIDTHS.length - 1];
+    }
+
+    private Mono<byte[]> loadOriginal(String hash) {
+        String name = hash + ".orig";
+        DiskLruCache.Snapshot cached = diskCache.open(name);
+        if (cached != null) {
+            return Mono.fromCallable(() -> {
+                        try (cached) {
+                            return cached.readAllBytes();
+                        }
+                    })
+                    .subscribeOn(Schedulers.boundedElastic());
+        }
+
+        return sourceOf(hash)
+                .flatMap(source -> webClient.get()
+                        .uri(URI.create(source))
+                        .retrieve()
+                        .bodyToMono(byte[].class)
+                        .timeout(fetchTimeout))
+                .publishOn(Schedulers.boundedElastic())
+                .doOnNext(bytes -> diskCache.put(name, bytes));
+    }
+
+    private Mono<String> sourceOf(String hash) {
+        String source = sources.getIfPresent(hash);
+        if (source == null) {
+            source = pending.get(hash);
+        }
+        if (source != null) {
+            return Mono.just(source);
+        }
+        return redisTemplate.opsForValue().get(SOURCE_KEY_PREFIX + hash)
+                .timeout(REDIS_TIMEOUT)
+                .filter(this::isAllowed)
+                .doOnNext(value -> sources.put(hash, value))
+                .onErrorResume(e -> {
+                    log.warn("Failed to look up image source {}: {}", hash, e.getMessage());
+                    return Mono.empty();
+                });
+    }
+
+    private boolean isAllowed(String source) {
+        if (source == null || source.isBlank()) {
+            return false;
+        }
+        try {
+            URI uri = URI.create(source);
+            return ("http".equals(uri.getScheme()) || "https".equals(uri.getScheme()))
+                    && allowedHosts.contains(uri.getHost());
+        } catch (IllegalArgumentException e) {
+            return false;
+        }
+    }
+
+    private static byte[] resize(byte[] original, int width) {
+        try {
+            BufferedImage source = ImageIO.read(new ByteArrayInputStream(original));
+            if (source == null) {
+                throw new IllegalStateException("Unsupported image format");
+            }
+
+            int targetWidth = Math.min(width, source.getWidth());
+            int targetHeight = Math.max(1, Math.round((float) source.getHeight() * targetWidth / source.getWidth()));
+            BufferedImage target = new BufferedImage(targetWidth, targetHeight, BufferedImage.TYPE_INT_RGB);
+            Graphics2D graphics = target.createGraphics();
+            try {
+                graphics.setRenderingHint(RenderingHints.KEY_INTERPOLATION, RenderingHints.VALUE_INTERPOLATION_BILINEAR);
+                graphics.setRenderingHint(RenderingHints.KEY_RENDERING, RenderingHints.VALUE_RENDER_QUALITY);
+                graphics.drawImage(source, 0, 0, targetWidth, targetHeight, null);
+            } finally {
+                graphics.dispose();
+            }
+
+            ImageWriter writer = ImageIO.getImageWritersByFormatName("jpeg").next();
+            ImageWriteParam param = writer.getDefaultWriteParam();
+            param.setCompressionMode(ImageWriteParam.MODE_EXPLICIT);
+            param.setCompressionQuality(JPEG_QUALITY);
+
+            ByteArrayOutputStream out = new ByteArrayOutputStream();
+            try (ImageOutputStream imageOut = ImageIO.createImageOutputStream(out)) {
+                writer.setOutput(imageOut);
+                writer.write(null, new IIOImage(target, null, null), param);
+            } finally {
+                writer.dispose();
+            }
+            return out.toByteArray();
+        } catch (IOException e) {
+            throw new IllegalStateException("Failed to resize image", e);
+        }
+    }
+
+    private static String hashOf(String source) {
+        try {
+            byte[] digest = MessageDigest.getInstance("SHA-256").digest(source.getBytes(StandardCharsets.UTF_8));
+            return HexFormat.of().formatHex(digest, 0, 16);
+        } catch (NoSuchAlgorithmException e) {
+            throw new IllegalStateException(e);
+        }
+    }
+
+    /**
+     * 썸네일 본문과 바이트 수
+     */
+    public record Thumbnail(Resource body, long size) {
+    }
+}
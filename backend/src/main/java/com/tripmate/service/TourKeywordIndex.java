@@ -0,0 +1,317 @@
+package com.tripmate.service;
+
+import com.tripmate.dto.TourApiDto.PageResponse;
+import com.tripmate.dto.TourApiDto.SearchRequest;
+import com.tripmate.dto.TourApiDto.TourPlace;
+import com.tripmate.entity.CatalogPlace;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.stereotype.Component;
+import reactor.core.scheduler.Schedulers;
+
+import java.text.Normalizer;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.Objects;
+
+/**
+ * 로컬 카탈로그에 대한 인메모리 키워드 검색 인덱스
+ * 공백/문장부호를 제거한 문자열의 2-gram 으로 색인해 띄어쓰기와 무관하게 한글 부분 일치를 찾는다.
+ * 모든 2-gram 을 포함하는 관광지만 결과로 내고, 필드 가중치와 인기 순위로 정렬한다.
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class TourKeywordIndex {
+
+    private static final int FIELD_TITLE = 1;
+    private static final int FIELD_ADDRESS = 2;
+    private static final int FIELD_OVERVIEW = 4;
+
+    private final TourCatalogService catalogService;
+
+    private volatile Snapshot snapshot = Snapshot.EMPTY;
+
+    @EventListener(ApplicationReadyEvent.class)
+    public void loadOnStartup() {
+        Schedulers.boundedElastic().schedule(this::rebuild);
+    }
+
+    @EventListener
+    public void onCatalogUpdated(TourCatalogUpdatedEvent event) {
+        rebuild();
+    }
+
+    public void rebuild() {
+        try {
+            long startTime = System.currentTimeMillis();
+            snapshot = Snapshot.build(catalogService.findAllPlaces());
+            log.info("Tour keyword index rebuilt: {} places, {} grams in {}ms",
+                    snapshot.places.length, snapshot.gramKeys.length, System.currentTimeMillis() - startTime);
+        } catch (Exception e) {
+            log.warn("Failed to rebuild tour keyword index: {}", e.getMessage());
+        }
+    }
+
+    /**
+     * 키워드 검색. 색인이 비어 있거나 결과가 없으면 null.
+     */
+    public PageResponse<TourPlace> search(SearchRequest request, int pageNo, int numOfRows) {
+        Snapshot s = snapshot;
+        String query = normalize(request.getKeyword());
+        if (s.places.length == 0 || query.isEmpty()) {
+            return null;
+        }
+
+        int[] candidates;
+        float[] scores;
+        if (query.length() == 1) {
+            // 한 글자는 2-gram 이 없으므로 제목만 직접 훑는다
+            candidates = new int[s.places.length];
+            scores = new float[s.places.length];
+            int count = 0;
+            for (int doc = 0; doc < s.places.length; doc++) {
+                if (s.titles[doc].indexOf(query.charAt(0)) >= 0) {
+                    candidates[count] = doc;
+                    scores[count++] = 3;
+                }
+            }
+            candidates = Arrays.copyOf(candidates, count);
+            scores = Arrays.copyOf(scores, count);
+        } else {
+            int[] grams = distinctGrams(query);
+            int[] ranges = new int[grams.length];
+            for (int g = 0; g < grams.length; g++) {
+                ranges[g] = Arrays.binarySearch(s.gramKeys, grams[g]);
+                if (ranges[g] < 0) {
+                    return null;
+                }
+            }
+
+            // 가장 짧은 posting 목록에서 출발해 나머지 gram 을 이분 탐색으로 교차
+            int rarest = 0;
+            for (int g = 1; g < grams.length; g++) {
+                if (postingLength(s, ranges[g]) < postingLength(s, ranges[rarest])) {
+                    rarest = g;
+                }
+            }
+
+            int start = s.postingStarts[ranges[rarest]];
+            int end = s.postingStarts[ranges[rarest] + 1];
+            candidates = new int[end - start];
+            scores = new float[end - start];
+            int count = 0;
+            for (int p = start; p < end; p++) {
+                int doc = s.postingDocs[p];
+                float relevance = 0;
+                boolean matched = true;
+                for (int g = 0; g < grams.length && matched; g++) {
+                    int from = s.postingStarts[ranges[g]];
+                    int to = s.postingStarts[ranges[g] + 1];
+                    int at = g == rarest ? p : Arrays.binarySearch(s.postingDocs, from, to, doc);
+                    if (at < 0) {
+                        matched = false;
+                    } else {
+                        relevance += fieldWeight(s.postingFields[at]);
+                    }
+                }
+                if (matched) {
+                    candidates[count] = doc;
+                    scores[count++] = relevance / grams.length;
+                }
+            }
+            candidates = Arrays.copyOf(candidates, count);
+            scores = Arrays.copyOf(scores, count);
+        }
+
+        return rank(s, query, candidates, scores, request, pageNo, numOfRows);
+    }
+
+    private PageResponse<TourPlace> rank(Snapshot s, String query, int[] candidates, float[] scores,
+                                         SearchRequest request, int pageNo, int numOfRows) {
+        String areaCode = emptyToNull(request.getAreaCode());
+        String sigunguCode = emptyToNull(request.getSigunguCode());
+        int type = request.getContentTypeId() != null ? request.getContentTypeId() : 0;
+
+        long[] ranked = new long[candidates.length];
+        int count = 0;
+        for (int i = 0; i < candidates.length; i++) {
+            int doc = candidates[i];
+            TourPlace place = s.places[doc];
+            if ((areaCode != null && !areaCode.equals(place.getAreaCode()))
+                    || (sigunguCode != null && !sigunguCode.equals(place.getSigunguCode()))
+                    || (type != 0 && s.contentTypeIds[doc] != type)) {
+                continue;
+            }
+
+            float score = scores[i];
+            String title = s.titles[doc];
+            if (title.equals(query)) {
+                score += 4;
+            } else if (title.startsWith(query)) {
+                score += 3;
+            } else if (title.contains(query)) {
+                score += 2;
+            }
+            score += popularityBoost(s.popularity[doc]);
+
+            // 점수 내림차순 정렬을 위해 (MAX - 점수 비트, 문서 번호) 를 long 하나에 담는다
+            ranked[count++] = ((long) (Integer.MAX_VALUE - Float.floatToIntBits(score)) << 32) | doc;
+        }
+
+        if (count == 0) {
+            return null;
+        }
+        Arrays.sort(ranked, 0, count);
+
+        int from = Math.min((pageNo - 1) * numOfRows, count);
+        int to = Math.min(from + numOfRows, count);
+        List<TourPlace> items = new ArrayList<>(to - from);
+        for (int k = from; k < to; k++) {
+            items.add(s.places[(int) ranked[k]].toBuilder().build());
+        }
+
+        return PageResponse.<TourPlace>builder()
+                .items(items)
+                .totalCount(count)
+                .pageNo(pageNo)
+                .numOfRows(numOfRows)
+                .build();
+    }
+
+    private static int postingLength(Snapshot s, int gram) {
+        return s.postingStarts[gram + 1] - s.postingStarts[gram];
+    }
+
+    private static float fieldWeight(byte fields) {
+        if ((fields & FIELD_TITLE) != 0) {
+            return 3;
+        }
+        if ((fields & FIELD_ADDRESS) != 0) {
+            return 1.5f;
+        }
+        return 1;
+    }
+
+    // 1위 1.0, 100위 0.33, 10000위 0.2
+    private static float popularityBoost(int popularity) {
+        return (float) (1 / (1 + Math.log10(Math.max(1, popularity))));
+    }
+
+    static String normalize(String text) {
+        if (text == null) {
+            return "";
+        }
+        String normalized = Normalizer.normalize(text, Normalizer.Form.NFC).toLowerCase();
+        StringBuilder sb = new StringBuilder(normalized.length());
+        for (int i = 0; i < normalized.length(); i++) {
+            char c = normalized.charAt(i);
+            if (Character.isLetterOrDigit(c)) {
+                sb.append(c);
+            }
+        }
+        return sb.toString();
+    }
+
+    private static int[] distinctGrams(String text) {
+        if (text.length() < 2) {
+            return new int[0];
+        }
+        int[] grams = new int[text.length() - 1];
+        for (int i = 0; i < grams.length; i++) {
+            grams[i] = (text.charAt(i) << 16) | text.charAt(i + 1);
+        }
+        Arrays.sort(grams);
+        int n = 0;
+        for (int i = 0; i < grams.length; i++) {
+            if (i == 0 || grams[i] != grams[i - 1]) {
+                grams[n++] = grams[i];
+            }
+        }
+        return Arrays.copyOf(grams, n);
+    }
+
+    private static String emptyToNull(String value) {
+        return value == null || value.isEmpty() ? null : value;
+    }
+
+    private record Snapshot(int[] gramKeys, int[] postingStarts, int[] postingDocs, byte[] postingFields,
+                            TourPlace[] places, String[] titles, int[] popularity, int[] contentTypeIds) {
+
+        static final Snapshot EMPTY = new Snapshot(new int[0], new int[1], new int[0], new byte[0],
+                new TourPlace[0], new String[0], new int[0], new int[0]);
+
+        static Snapshot build(List<CatalogPlace> source) {
+            int n = source.size();
+            TourPlace[] places = new TourPlace[n];
+            String[] titles = new String[n];
+            int[] popularity = new int[n];
+            int[] types = new int[n];
+
+            // (gram, 문서 번호, 필드) 를 long 하나에 담아 정렬 → gram 별 posting 목록
+            long[] entries = new long[n * 32];
+            int count = 0;
+            for (int doc = 0; doc < n; doc++) {
+                CatalogPlace place = source.get(doc);
+                places[doc] = TourCatalogService.toTourPlace(place);
+                titles[doc] = normalize(place.getTitle());
+                popularity[doc] = place.getPopularity() != null ? place.getPopularity() : Integer.MAX_VALUE;
+                types[doc] = parseType(place.getContentTypeId());
+
+                String address = Objects.toString(place.getAddr1(), "") + Objects.toString(place.getAddr2(), "");
+                String[] fields = {titles[doc], normalize(address), normalize(place.getOverview())};
+                int[] masks = {FIELD_TITLE, FIELD_ADDRESS, FIELD_OVERVIEW};
+                for (int f = 0; f < fields.length; f++) {
+                    for (int gram : distinctGrams(fields[f])) {
+                        if (count == entries.length) {
+                            entries = Arrays.copyOf(entries, count * 2);
+                        }
+                        entries[count++] = ((long) gram << 32) | ((long) doc << 3) | masks[f];
+                    }
+                }
+            }
+            Arrays.sort(entries, 0, count);
+
+            int[] gramKeys = new int[count];
+            int[] starts = new int[count + 1];
+            int[] docs = new int[count];
+            byte[] fieldMasks = new byte[count];
+            int grams = 0;
+            int postings = 0;
+            for (int k = 0; k < count; k++) {
+                int gram = (int) (entries[k] >>> 32);
+                int doc = (int) ((entries[k] & 0xFFFFFFFFL) >>> 3);
+                byte mask = (byte) (entries[k] & 0x7);
+
+                if (grams == 0 || gramKeys[grams - 1] != gram) {
+                    gramKeys[grams] = gram;
+                    starts[grams] = postings;
+                    grams++;
+                } else if (docs[postings - 1] == doc) {
+                    // 같은 문서의 다른 필드는 하나로 합친다
+                    fieldMasks[postings - 1] |= mask;
+                    continue;
+                }
+                docs[postings] = doc;
+                fieldMasks[postings] = mask;
+                postings++;
+            }
+            starts[grams] = postings;
+
+            return new Snapshot(Arrays.copyOf(gramKeys, grams), Arrays.copyOf(starts, grams + 1),
+                    Arrays.copyOf(docs, postings), Arrays.copyOf(fieldMasks, postings),
+                    places, titles, popularity, types);
+        }
+
+        private static int parseType(String contentTypeId) {
+            try {
+                return Integer.parseInt(contentTypeId);
+            } catch (NumberFormatException e) {
+                return -1;
+            }
+        }
+    }
+}
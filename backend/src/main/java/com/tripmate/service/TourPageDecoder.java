@@ -0,0 +1,191 @@
+package com.tripmate.service;
+
+import com.fasterxml.jackson.core.JsonFactory;
+import com.fasterxml.jackson.core.JsonParser;
+import com.fasterxml.jackson.core.JsonStreamContext;
+import com.fasterxml.jackson.core.JsonToken;
+import com.fasterxml.jackson.core.async.ByteBufferFeeder;
+import com.tripmate.dto.TourApiDto.PageResponse;
+import com.tripmate.dto.TourApiDto.TourPlace;
+import org.springframework.core.io.buffer.DataBuffer;
+import org.springframework.core.io.buffer.DataBufferUtils;
+
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.nio.ByteBuffer;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.function.Consumer;
+
+/**
+ * Tour API 목록 응답을 받는 대로 토큰 단위로 읽어 TourPlace 로 바로 옮긴다.
+ * 응답 전체를 메모리에 모으거나 ApiResponse/Item 객체 그래프를 만들지 않는다.
+ * 항목을 받을 곳을 주면 모으지 않고 항목이 끝날 때마다 넘긴다.
+ */
+class TourPageDecoder {
+
+    private static final JsonFactory JSON_FACTORY = new JsonFactory();
+
+    private final JsonParser parser;
+    private final int pageNo;
+    private final int numOfRows;
+    private final List<TourPlace> places = new ArrayList<>();
+    private final Consumer<TourPlace> onItem;
+
+    private int totalCount;
+    private String resultCode;
+    private String resultMsg;
+    private TourPlace current;
+    private int nested;  // 현재 항목 안의 중첩 깊이
+
+    TourPageDecoder(int pageNo, int numOfRows) {
+        this(pageNo, numOfRows, null);
+    }
+
+    TourPageDecoder(int pageNo, int numOfRows, Consumer<TourPlace> onItem) {
+        this.pageNo = pageNo;
+        this.numOfRows = numOfRows;
+        this.onItem = onItem != null ? onItem : places::add;
+        try {
+            this.parser = JSON_FACTORY.createNonBlockingByteBufferParser();
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+    }
+
+    /**
+     * 받은 조각을 파서에 넣고 읽을 수 있는 토큰을 모두 처리한 뒤 버퍼를 반납한다.
+     */
+    void feed(DataBuffer buffer) {
+        try (DataBuffer.ByteBufferIterator iterator = buffer.readableByteBuffers()) {
+            while (iterator.hasNext()) {
+                ByteBuffer byteBuffer = iterator.next();
+                ((ByteBufferFeeder) parser.getNonBlockingInputFeeder()).feedInput(byteBuffer);
+                drain();
+            }
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        } finally {
+            DataBufferUtils.release(buffer);
+        }
+    }
+
+    /**
+     * 입력이 끝났을 때 호출. 오류 응답이면 TourApiUnavailableException.
+     * (항목을 받을 곳을 준 경우 items 는 비어 있다)
+     */
+    PageResponse<TourPlace> finish() {
+        try {
+            parser.getNonBlockingInputFeeder().endOfInput();
+            drain();
+            parser.close();
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+        checkResult();
+        return PageResponse.<TourPlace>builder()
+                .items(places)
+                .totalCount(totalCount)
+                .pageNo(pageNo)
+                .numOfRows(numOfRows)
+                .build();
+    }
+
+    /**
+     * 지금까지 읽은 응답 헤더가 정상인지 확인한다. 아니면 TourApiUnavailableException.
+     */
+    void checkResult() {
+        if (!TourApiClient.RESULT_OK.equals(resultCode)) {
+            throw new TourApiResultException(resultCode, resultMsg);
+        }
+    }
+
+    private void drain() throws IOException {
+        JsonToken token;
+        while ((token = parser.nextToken()) != null && token != JsonToken.NOT_AVAILABLE) {
+            switch (token) {
+                case START_OBJECT, START_ARRAY -> {
+                    if (current != null) {
+                        nested++;
+                    } else if (token == JsonToken.START_OBJECT && isItem(parser.getParsingContext())) {
+                        current = new TourPlace();
+                    }
+                }
+                case END_OBJECT, END_ARRAY -> {
+                    if (current != null) {
+                        if (nested > 0) {
+                            nested--;
+                        } else {
+                            TourPlace place = current;
+                            current = null;
+                            onItem.accept(place);
+                        }
+                    }
+                }
+                case VALUE_STRING, VALUE_NUMBER_INT, VALUE_NUMBER_FLOAT -> {
+                    String name = parser.currentName();
+                    if (current != null) {
+                        if (nested == 0) {
+                            setField(current, name, parser.getText());
+                        }
+                    } else if ("totalCount".equals(name)) {
+                        totalCount = parser.getValueAsInt();
+                    } else if ("resultCode".equals(name)) {
+                        resultCode = parser.getText();
+                    } else if ("resultMsg".equals(name)) {
+                        resultMsg = parser.getText();
+                    }
+                }
+                default -> {
+                }
+            }
+        }
+    }
+
+    /**
+     * response.body.items.item 배열의 원소 (결과가 하나면 배열 없이 객체로 오는 경우도 있다)
+     */
+    static boolean isItem(JsonStreamContext context) {
+        JsonStreamContext parent = context.getParent();
+        if (parent != null && parent.inArray()) {
+            parent = parent.getParent();
+        }
+        return parent != null && "item".equals(parent.getCurrentName())
+                && parent.getParent() != null && "items".equals(parent.getParent().getCurrentName());
+    }
+
+    private static void setField(TourPlace place, String name, String value) {
+        switch (name) {
+            case "contentid" -> place.setContentId(value);
+            case "contenttypeid" -> place.setContentTypeId(value);
+            case "title" -> place.setTitle(value);
+            case "addr1" -> place.setAddr1(value);
+            case "addr2" -> place.setAddr2(value);
+            case "areacode" -> place.setAreaCode(value);
+            case "sigungucode" -> place.setSigunguCode(value);
+            case "cat1" -> place.setCat1(value);
+            case "cat2" -> place.setCat2(value);
+            case "cat3" -> place.setCat3(value);
+            case "firstimage" -> place.setFirstImage(value);
+            case "firstimage2" -> place.setFirstImage2(value);
+            case "mapx" -> place.setMapX(value);
+            case "mapy" -> place.setMapY(value);
+            case "tel" -> place.setTel(value);
+            case "overview" -> place.setOverview(value);
+            case "dist" -> place.setDist(parseDist(value));
+            default -> {
+            }
+        }
+    }
+
+    private static Double parseDist(String value) {
+        if (value == null || value.isEmpty()) {
+            return null;
+        }
+        try {
+            return Double.parseDouble(value);
+        } catch (NumberFormatException e) {
+            return null;
+        }
+    }
+}
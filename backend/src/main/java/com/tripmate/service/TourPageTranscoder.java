@@ -0,0 +1,124 @@
+package com.tripmate.service;
+
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.tripmate.dto.ApiResponse;
+import com.tripmate.dto.JsonEnvelope;
+import com.tripmate.dto.TourApiDto.PageResponse;
+import com.tripmate.dto.TourApiDto.TourPlace;
+import org.springframework.core.io.buffer.DataBuffer;
+import org.springframework.core.io.buffer.DataBufferFactory;
+import reactor.core.publisher.Flux;
+import reactor.core.publisher.Mono;
+
+import java.io.ByteArrayOutputStream;
+import java.util.List;
+import java.util.function.UnaryOperator;
+
+/**
+ * Tour API 목록 응답을 받는 대로 ApiResponse&lt;PageResponse&lt;TourPlace&gt;&gt; 형태의 JSON 으로 다시 쓴다.
+ * 항목은 TourPageDecoder 로 읽어 하나씩 직렬화하고, 페이지 전체를 모으지 않고 받은 조각마다 변환된 조각을 내보낸다.
+ * 감싸는 부분과 항목 모두 ObjectMapper 로 쓰므로 버퍼링하는 목록 조회와 같은 JSON 이 된다.
+ * 응답 헤더의 resultCode 를 확인하기 전에는 아무것도 쓰지 않으므로, 오류 응답은 본문을 쓰기 전에 실패한다.
+ */
+class TourPageTranscoder {
+
+    private final ObjectMapper objectMapper;
+    private final DataBufferFactory bufferFactory;
+    private final UnaryOperator<String> thumbnailOf;
+    private final int pageNo;
+    private final int numOfRows;
+    private final TourPageDecoder decoder;
+    private final JsonEnvelope envelope;
+    private final ByteArrayOutputStream output = new ByteArrayOutputStream(16 * 1024);
+
+    private boolean started;
+    private int written;
+
+    TourPageTranscoder(int pageNo, int numOfRows, UnaryOperator<String> thumbnailOf,
+                       ObjectMapper objectMapper, DataBufferFactory bufferFactory) {
+        this.pageNo = pageNo;
+        this.numOfRows = numOfRows;
+        this.thumbnailOf = thumbnailOf;
+        this.objectMapper = objectMapper;
+        this.bufferFactory = bufferFactory;
+        this.decoder = new TourPageDecoder(pageNo, numOfRows, this::write);
+        this.envelope = envelopeOf(0);
+    }
+
+    Flux<DataBuffer> transcode(Flux<DataBuffer> upstream) {
+        return upstream
+                .<DataBuffer>handle((buffer, sink) -> {
+                    decoder.feed(buffer);
+                    DataBuffer converted = flush();
+                    if (converted != null) {
+                        sink.next(converted);
+                    }
+                })
+                .concatWith(Mono.fromSupplier(this::finish));
+    }
+
+    /**
+     * 남은 토큰을 처리하고 응답을 닫는다. 오류 응답이면 TourApiUnavailableException.
+     */
+    private DataBuffer finish() {
+        PageResponse<TourPlace> page = decoder.finish();
+        start();
+        // 항목 뒤 부분은 마지막에 알게 되는 totalCount 로 다시 만든다
+        JsonEnvelope closing = envelopeOf(page.getTotalCount());
+        if (!closing.hasPrefix(envelope)) {
+            throw new IllegalStateException("PageResponse must serialize items before totalCount");
+        }
+        output.writeBytes(closing.suffix());
+        return flush();
+    }
+
+    private void write(TourPlace place) {
+        start();
+        if (place.getFirstImage() != null) {
+            place.setThumbnail(thumbnailOf.apply(place.getFirstImage()));
+        }
+        if (written++ > 0) {
+            output.write(',');
+        }
+        output.writeBytes(serialize(place));
+    }
+
+    /**
+     * 첫 항목(또는 응답 끝)에서 resultCode 를 확인하고 응답 앞부분을 쓴다.
+     */
+    private void start() {
+        if (started) {
+            return;
+        }
+        decoder.checkResult();
+        started = true;
+        output.writeBytes(envelope.prefix());
+    }
+
+    private JsonEnvelope envelopeOf(int totalCount) {
+        return JsonEnvelope.of(objectMapper, ApiResponse.success(PageResponse.<String>builder()
+                .items(List.of(JsonEnvelope.PLACEHOLDER))
+                .totalCount(totalCount)
+                .pageNo(pageNo)
+                .numOfRows(numOfRows)
+                .build()));
+    }
+
+    private byte[] serialize(TourPlace place) {
+        try {
+            return objectMapper.writeValueAsBytes(place);
+        } catch (JsonProcessingException e) {
+            throw new IllegalStateException("Failed to serialize place " + place.getContentId(), e);
+        }
+    }
+
+    private DataBuffer flush() {
+        if (output.size() == 0) {
+            return null;
+        }
+        byte[] bytes = output.toByteArray();
+        output.reset();
+        return bufferFactory.wrap(bytes);
+    }
+}
@@ -0,0 +1,222 @@
+package com.tripmate.service;
+
+import com.tripmate.dto.TourApiDto.PageResponse;
+import com.tripmate.dto.TourApiDto.TourPlace;
+import com.tripmate.entity.CatalogPlace;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.stereotype.Component;
+import reactor.core.scheduler.Schedulers;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+
+/**
+ * 로컬 카탈로그 좌표에 대한 인메모리 격자 인덱스
+ * 위경도를 0.01도 격자로 나누고 격자 번호 순으로 정렬한 원시 배열에 담아, 한 행의 격자들을 연속 구간으로 훑는다.
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class TourSpatialIndex {
+
+    private static final double CELL_SIZE = 0.01;  // 약 1.1km
+    private static final int COLS = (int) Math.ceil(360 / CELL_SIZE);
+    private static final double EARTH_RADIUS_M = 6_371_000;
+
+    private final TourCatalogService catalogService;
+
+    private volatile Snapshot snapshot = Snapshot.EMPTY;
+
+    @EventListener(ApplicationReadyEvent.class)
+    public void loadOnStartup() {
+        Schedulers.boundedElastic().schedule(this::rebuild);
+    }
+
+    @EventListener
+    public void onCatalogUpdated(TourCatalogUpdatedEvent event) {
+        rebuild();
+    }
+
+    public boolean isReady() {
+        return snapshot.size() > 0;
+    }
+
+    public void rebuild() {
+        try {
+            long startTime = System.currentTimeMillis();
+            snapshot = Snapshot.build(catalogService.findAllPlaces());
+            log.info("Tour spatial index rebuilt: {} places in {}ms",
+                    snapshot.size(), System.currentTimeMillis() - startTime);
+        } catch (Exception e) {
+            log.warn("Failed to rebuild tour spatial index: {}", e.getMessage());
+        }
+    }
+
+    /**
+     * 반경 내 관광지 (거리순). 결과가 없으면 null.
+     */
+    public PageResponse<TourPlace> findWithinRadius(double lat, double lng, int radius,
+                                                    Integer contentTypeId, int pageNo, int numOfRows) {
+        double latDelta = Math.toDegrees(radius / EARTH_RADIUS_M);
+        double lngDelta = latDelta / Math.cos(Math.toRadians(lat));
+        return search(snapshot, lat - latDelta, lng - lngDelta, lat + latDelta, lng + lngDelta,
+                lat, lng, radius, contentTypeId, pageNo, numOfRows);
+    }
+
+    /**
+     * 영역 내 관광지 (영역 중심에서 가까운 순). 결과가 없으면 null.
+     */
+    public PageResponse<TourPlace> findWithinBounds(double minLat, double minLng, double maxLat, double maxLng,
+                                                    Integer contentTypeId, int pageNo, int numOfRows) {
+        return search(snapshot, minLat, minLng, maxLat, maxLng,
+                (minLat + maxLat) / 2, (minLng + maxLng) / 2, Double.MAX_VALUE, contentTypeId, pageNo, numOfRows);
+    }
+
+    private PageResponse<TourPlace> search(Snapshot s, double minLat, double minLng, double maxLat, double maxLng,
+                                           double centerLat, double centerLng, double maxDistance,
+                                           Integer contentTypeId, int pageNo, int numOfRows) {
+        if (s.size() == 0) {
+            return null;
+        }
+        int type = contentTypeId != null ? contentTypeId : 0;
+
+        // (거리, 인덱스) 를 long 하나에 담아 원시 배열 정렬
+        long[] hits = new long[64];
+        int count = 0;
+
+        int row0 = row(minLat);
+        int row1 = row(maxLat);
+        int col0 = col(minLng);
+        int col1 = col(maxLng);
+        for (int row = row0; row <= row1; row++) {
+            int first = row * COLS + col0;
+            int last = row * COLS + col1;
+            int cell = Arrays.binarySearch(s.cellKeys, first);
+            if (cell < 0) {
+                cell = -cell - 1;
+            }
+            for (; cell < s.cellKeys.length && s.cellKeys[cell] <= last; cell++) {
+                for (int i = s.cellStarts[cell]; i < s.cellStarts[cell + 1]; i++) {
+                    if (type != 0 && s.contentTypeIds[i] != type) {
+                        continue;
+                    }
+                    double lat = s.lat[i];
+                    double lng = s.lng[i];
+                    if (lat < minLat || lat > maxLat || lng < minLng || lng > maxLng) {
+                        continue;
+                    }
+                    double dist = distance(centerLat, centerLng, lat, lng);
+                    if (dist > maxDistance) {
+                        continue;
+                    }
+                    if (count == hits.length) {
+                        hits = Arrays.copyOf(hits, count * 2);
+                    }
+                    hits[count++] = ((long) Float.floatToIntBits((float) dist) << 32) | i;
+                }
+            }
+        }
+
+        if (count == 0) {
+            return null;
+        }
+        Arrays.sort(hits, 0, count);
+
+        int from = Math.min((pageNo - 1) * numOfRows, count);
+        int to = Math.min(from + numOfRows, count);
+        List<TourPlace> items = new ArrayList<>(to - from);
+        for (int k = from; k < to; k++) {
+            int i = (int) hits[k];
+            items.add(s.places[i].toBuilder()
+                    .dist(distance(centerLat, centerLng, s.lat[i], s.lng[i]))
+                    .build());
+        }
+
+        return PageResponse.<TourPlace>builder()
+                .items(items)
+                .totalCount(count)
+                .pageNo(pageNo)
+                .numOfRows(numOfRows)
+                .build();
+    }
+
+    private static int row(double lat) {
+        return (int) Math.floor((Math.max(-90, Math.min(90, lat)) + 90) / CELL_SIZE);
+    }
+
+    private static int col(double lng) {
+        return Math.min(COLS - 1, (int) Math.floor((Math.max(-180, Math.min(180, lng)) + 180) / CELL_SIZE));
+    }
+
+    private static double distance(double lat1, double lng1, double lat2, double lng2) {
+        return TourCatalogService.distance(lat1, lng1, lat2, lng2);
+    }
+
+    private record Snapshot(int[] cellKeys, int[] cellStarts,
+                            double[] lat, double[] lng, int[] contentTypeIds, TourPlace[] places) {
+
+        static final Snapshot EMPTY = new Snapshot(new int[0], new int[1],
+                new double[0], new double[0], new int[0], new TourPlace[0]);
+
+        int size() {
+            return places.length;
+        }
+
+        static Snapshot build(List<CatalogPlace> source) {
+            List<CatalogPlace> located = source.stream()
+                    .filter(place -> place.getMapX() != null && place.getMapY() != null)
+                    .toList();
+            int n = located.size();
+
+            // (격자 번호, 원래 위치) 를 정렬해 같은 격자끼리 모은다
+            long[] order = new long[n];
+            for (int i = 0; i < n; i++) {
+                CatalogPlace place = located.get(i);
+                long key = (long) row(place.getMapY()) * COLS + col(place.getMapX());
+                order[i] = (key << 32) | i;
+            }
+            Arrays.sort(order);
+
+            double[] lat = new double[n];
+            double[] lng = new double[n];
+            int[] types = new int[n];
+            TourPlace[] places = new TourPlace[n];
+            int[] keys = new int[n];
+            int[] starts = new int[n + 1];
+            int cells = 0;
+            int previous = -1;
+
+            for (int k = 0; k < n; k++) {
+                int key = (int) (order[k] >>> 32);
+                CatalogPlace place = located.get((int) order[k]);
+                lat[k] = place.getMapY();
+                lng[k] = place.getMapX();
+                types[k] = parseType(place.getContentTypeId());
+                places[k] = TourCatalogService.toTourPlace(place);
+
+                if (key != previous) {
+                    keys[cells] = key;
+                    starts[cells] = k;
+                    cells++;
+                    previous = key;
+                }
+            }
+            starts[cells] = n;
+
+            return new Snapshot(Arrays.copyOf(keys, cells), Arrays.copyOf(starts, cells + 1),
+                    lat, lng, types, places);
+        }
+
+        private static int parseType(String contentTypeId) {
+            try {
+                return Integer.parseInt(contentTypeId);
+            } catch (NumberFormatException e) {
+                return -1;
+            }
+        }
+    }
+}
@@ -0,0 +1,50 @@
+-- Tour API 관광정보 로컬 미러
+
+-- 1. 관광지 테이블
+CREATE TABLE IF NOT EXISTS catalog_places (
+    content_id VARCHAR(20) PRIMARY KEY,
+    content_type_id VARCHAR(10) NOT NULL,
+    title VARCHAR(255) NOT NULL,
+    addr1 VARCHAR(255),
+    addr2 VARCHAR(255),
+    area_code VARCHAR(10),
+    sigungu_code VARCHAR(10),
+    cat1 VARCHAR(10),
+    cat2 VARCHAR(10),
+    cat3 VARCHAR(20),
+    first_image VARCHAR(500),
+    first_image2 VARCHAR(500),
+    map_x DOUBLE PRECISION,
+    map_y DOUBLE PRECISION,
+    tel VARCHAR(255),
+    overview TEXT,
+    popularity INTEGER NOT NULL,
+    modified_time VARCHAR(14),
+    synced_at TIMESTAMP NOT NULL
+);
+
+-- 2. 분류 코드 테이블
+CREATE TABLE IF NOT EXISTS catalog_categories (
+    code VARCHAR(20) PRIMARY KEY,
+    name VARCHAR(255) NOT NULL,
+    parent_code VARCHAR(20),
+    level INTEGER NOT NULL
+);
+
+-- 3. 지역 코드 테이블
+CREATE TABLE IF NOT EXISTS catalog_areas (
+    id VARCHAR(30) PRIMARY KEY,
+    area_code VARCHAR(10) NOT NULL,
+    sigungu_code VARCHAR(10),
+    name VARCHAR(255) NOT NULL
+);
+
+-- 4. 인덱스 추가
+CREATE INDEX IF NOT EXISTS idx_catalog_places_area ON catalog_places(area_code, sigungu_code, content_type_id);
+CREATE INDEX IF NOT EXISTS idx_catalog_places_popularity ON catalog_places(popularity);
+CREATE INDEX IF NOT EXISTS idx_catalog_places_location ON catalog_places(map_y, map_x);
+CREATE INDEX IF NOT EXISTS idx_catalog_areas_area_code ON catalog_areas(area_code);
+
+-- 5. 제목 부분 일치 검색용 trigram 인덱스 (LOWER(title) LIKE '%...%')
+CREATE EXTENSION IF NOT EXISTS pg_trgm;
+CREATE INDEX IF NOT EXISTS idx_catalog_places_title_trgm ON catalog_places USING gin (LOWER(title) gin_trgm_ops);
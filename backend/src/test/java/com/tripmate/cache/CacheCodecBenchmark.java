@@ -0,0 +1,94 @@
+package com.tripmate.cache;
+
+import com.fasterxml.jackson.databind.JavaType;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.tripmate.dto.TourApiDto.PageResponse;
+import com.tripmate.dto.TourApiDto.TourPlace;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import org.springframework.http.converter.json.Jackson2ObjectMapperBuilder;
+
+import java.io.IOException;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * L2 코덱(Smile + deflate)과 예전 저장 형식(일반 JSON)의 인코딩/디코딩 비용 비교.
+ * 저장 크기는 시작할 때 한 번 출력한다.
+ * ./gradlew jmh -Pjmh='CacheCodecBenchmark -prof gc'
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class CacheCodecBenchmark {
+
+    @Param({"10", "100"})
+    int rows;
+
+    private ObjectMapper objectMapper;
+    private JavaType type;
+    private CacheCodec<TieredCache.Entry<PageResponse<TourPlace>>> codec;
+    private CacheCodec<TieredCache.Entry<PageResponse<TourPlace>>> codecWithoutDeflate;
+    private TieredCache.Entry<PageResponse<TourPlace>> entry;
+    private byte[] json;
+    private byte[] encoded;
+    private byte[] encodedWithoutDeflate;
+
+    @Setup
+    public void setUp() throws IOException {
+        objectMapper = Jackson2ObjectMapperBuilder.json().build();
+        type = objectMapper.getTypeFactory().constructParametricType(TieredCache.Entry.class,
+                objectMapper.getTypeFactory().constructParametricType(PageResponse.class, TourPlace.class));
+        codec = new CacheCodec<>(objectMapper, type, TieredCache.COMPRESS_THRESHOLD);
+        codecWithoutDeflate = new CacheCodec<>(objectMapper, type, Integer.MAX_VALUE);
+
+        long now = System.currentTimeMillis();
+        entry = new TieredCache.Entry<>(CacheCodecFixtures.page(rows), now + 60_000, now + 600_000);
+        json = objectMapper.writerFor(type).writeValueAsBytes(entry);
+        encoded = codec.encode(entry);
+        encodedWithoutDeflate = codecWithoutDeflate.encode(entry);
+        System.out.printf("%n[rows=%d] json=%d bytes, smile=%d bytes, smile+deflate=%d bytes%n",
+                rows, json.length, encodedWithoutDeflate.length, encoded.length);
+    }
+
+    @Benchmark
+    public byte[] encodeJson() throws IOException {
+        return objectMapper.writerFor(type).writeValueAsBytes(entry);
+    }
+
+    @Benchmark
+    public byte[] encodeSmile() throws IOException {
+        return codecWithoutDeflate.encode(entry);
+    }
+
+    @Benchmark
+    public byte[] encodeSmileDeflate() throws IOException {
+        return codec.encode(entry);
+    }
+
+    @Benchmark
+    public Object decodeJson() throws IOException {
+        return objectMapper.readValue(json, type);
+    }
+
+    @Benchmark
+    public Object decodeSmile() throws IOException {
+        return codecWithoutDeflate.decode(encodedWithoutDeflate);
+    }
+
+    @Benchmark
+    public Object decodeSmileDeflate() throws IOException {
+        return codec.decode(encoded);
+    }
+}
@@ -0,0 +1,48 @@
+package com.tripmate.cache;
+
+import com.tripmate.dto.TourApiDto.PageResponse;
+import com.tripmate.dto.TourApiDto.TourPlace;
+
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * 목록 캐시에 들어가는 값과 비슷한 모양의 테스트 데이터
+ */
+final class CacheCodecFixtures {
+
+    private static final String[] CAT3 = {"A02010100", "A02010800", "A01010400", "A05020100"};
+
+    private CacheCodecFixtures() {
+    }
+
+    static PageResponse<TourPlace> page(int rows) {
+        List<TourPlace> items = new ArrayList<>(rows);
+        for (int i = 0; i < rows; i++) {
+            String contentId = String.valueOf(126508 + i);
+            items.add(TourPlace.builder()
+                    .contentId(contentId)
+                    .contentTypeId("12")
+                    .title("관광지 " + i + " 궁궐")
+                    .addr1("서울특별시 종로구 사직로 " + (100 + i))
+                    .addr2(i % 3 == 0 ? "(세종로)" : "")
+                    .areaCode("1")
+                    .sigunguCode(String.valueOf(1 + i % 25))
+                    .cat1("A02")
+                    .cat2("A0201")
+                    .cat3(CAT3[i % CAT3.length])
+                    .firstImage("http://tong.visitkorea.or.kr/cms/resource/" + i + "/" + contentId + "_image2_1.jpg")
+                    .firstImage2("http://tong.visitkorea.or.kr/cms/resource/" + i + "/" + contentId + "_image3_1.jpg")
+                    .mapX(String.valueOf(126.97 + i * 0.001))
+                    .mapY(String.valueOf(37.57 + i * 0.001))
+                    .tel(i % 2 == 0 ? "02-3700-" + (3900 + i) : null)
+                    .build());
+        }
+        return PageResponse.<TourPlace>builder()
+                .items(items)
+                .totalCount(rows * 10)
+                .pageNo(1)
+                .numOfRows(rows)
+                .build();
+    }
+}
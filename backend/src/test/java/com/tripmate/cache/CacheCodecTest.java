@@ -0,0 +1,134 @@
+package com.tripmate.cache;
+
+import com.fasterxml.jackson.databind.JavaType;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.tripmate.dto.TourApiDto.PageResponse;
+import com.tripmate.dto.TourApiDto.TourDetail;
+import com.tripmate.dto.TourApiDto.TourPlace;
+import org.junit.jupiter.api.Test;
+import org.springframework.http.converter.json.Jackson2ObjectMapperBuilder;
+
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.util.Arrays;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+class CacheCodecTest {
+
+    private static final int FLAGS = 2;
+    private static final int FLAG_DEFLATE = 1;
+
+    private final ObjectMapper objectMapper = Jackson2ObjectMapperBuilder.json().build();
+    private final JavaType pageType = objectMapper.getTypeFactory()
+            .constructParametricType(PageResponse.class, TourPlace.class);
+
+    @Test
+    void roundTripsWithoutDeflate() throws IOException {
+        CacheCodec<PageResponse<TourPlace>> codec = new CacheCodec<>(objectMapper, pageType, Integer.MAX_VALUE);
+        PageResponse<TourPlace> page = CacheCodecFixtures.page(20);
+
+        byte[] encoded = codec.encode(page);
+
+        assertThat(encoded[FLAGS] & FLAG_DEFLATE).isZero();
+        assertThat(codec.decode(encoded)).isEqualTo(page);
+        assertThat(encoded.length).isLessThan(objectMapper.writeValueAsBytes(page).length);
+    }
+
+    @Test
+    void roundTripsWithDeflate() throws IOException {
+        CacheCodec<PageResponse<TourPlace>> codec = new CacheCodec<>(objectMapper, pageType, 0);
+        CacheCodec<PageResponse<TourPlace>> plain = new CacheCodec<>(objectMapper, pageType, Integer.MAX_VALUE);
+        PageResponse<TourPlace> page = CacheCodecFixtures.page(20);
+
+        byte[] encoded = codec.encode(page);
+
+        assertThat(encoded[FLAGS] & FLAG_DEFLATE).isEqualTo(FLAG_DEFLATE);
+        assertThat(encoded.length).isLessThan(plain.encode(page).length);
+        assertThat(codec.decode(encoded)).isEqualTo(page);
+        // 압축 여부는 헤더에 있으므로 임계값이 다른 코덱도 읽을 수 있다
+        assertThat(plain.decode(encoded)).isEqualTo(page);
+    }
+
+    @Test
+    void keepsBodyUncompressedWhenDeflateDoesNotShrinkIt() throws IOException {
+        CacheCodec<PageResponse<TourPlace>> codec = new CacheCodec<>(objectMapper, pageType, 0);
+        PageResponse<TourPlace> page = CacheCodecFixtures.page(0);
+
+        byte[] encoded = codec.encode(page);
+
+        assertThat(encoded[FLAGS] & FLAG_DEFLATE).isZero();
+        assertThat(codec.decode(encoded)).isEqualTo(page);
+    }
+
+    @Test
+    void decodesFromByteBufferPosition() throws IOException {
+        CacheCodec<PageResponse<TourPlace>> codec = new CacheCodec<>(objectMapper, pageType, 0);
+        PageResponse<TourPlace> page = CacheCodecFixtures.page(5);
+        byte[] encoded = codec.encode(page);
+        ByteBuffer buffer = ByteBuffer.allocate(encoded.length + 3).position(3).put(encoded).position(3);
+
+        assertThat(codec.decode(buffer)).isEqualTo(page);
+        assertThat(buffer.position()).isEqualTo(3);
+    }
+
+    @Test
+    void treatsLegacyJsonAsMiss() throws IOException {
+        CacheCodec<PageResponse<TourPlace>> codec = new CacheCodec<>(objectMapper, pageType, 0);
+
+        assertThat(codec.decode(objectMapper.writeValueAsBytes(CacheCodecFixtures.page(3)))).isNull();
+    }
+
+    @Test
+    void treatsOtherFormatVersionAsMiss() throws IOException {
+        CacheCodec<PageResponse<TourPlace>> codec = new CacheCodec<>(objectMapper, pageType, 0);
+        byte[] encoded = codec.encode(CacheCodecFixtures.page(3));
+        encoded[1]++;
+
+        assertThat(codec.decode(encoded)).isNull();
+    }
+
+    @Test
+    void treatsOtherSchemaAsMiss() throws IOException {
+        CacheCodec<PageResponse<TourPlace>> pages = new CacheCodec<>(objectMapper, pageType, 0);
+        CacheCodec<TourDetail> details = new CacheCodec<>(objectMapper, objectMapper.constructType(TourDetail.class), 0);
+
+        assertThat(details.decode(pages.encode(CacheCodecFixtures.page(3)))).isNull();
+    }
+
+    @Test
+    void treatsTruncatedHeaderAsMiss() throws IOException {
+        CacheCodec<PageResponse<TourPlace>> codec = new CacheCodec<>(objectMapper, pageType, 0);
+        byte[] encoded = codec.encode(CacheCodecFixtures.page(3));
+
+        assertThat(codec.decode(new byte[0])).isNull();
+        assertThat(codec.decode(Arrays.copyOf(encoded, 6))).isNull();
+    }
+
+    @Test
+    void failsOnCorruptBodyWithValidHeader() throws IOException {
+        CacheCodec<PageResponse<TourPlace>> deflating = new CacheCodec<>(objectMapper, pageType, 0);
+        CacheCodec<PageResponse<TourPlace>> plain = new CacheCodec<>(objectMapper, pageType, Integer.MAX_VALUE);
+        byte[] compressed = deflating.encode(CacheCodecFixtures.page(20));
+        byte[] uncompressed = plain.encode(CacheCodecFixtures.page(20));
+
+        // 헤더는 맞는데 본문이 깨진 값은 미스가 아니라 오류 (TieredCache 가 IllegalStateException 으로 바꾼다)
+        assertThatThrownBy(() -> deflating.decode(Arrays.copyOf(compressed, compressed.length / 2)))
+                .isInstanceOf(IOException.class);
+        assertThatThrownBy(() -> plain.decode(Arrays.copyOf(uncompressed, uncompressed.length / 2)))
+                .isInstanceOf(IOException.class);
+        byte[] poisoned = uncompressed.clone();
+        Arrays.fill(poisoned, 7, poisoned.length, (byte) 0xFF);
+        assertThatThrownBy(() -> plain.decode(poisoned)).isInstanceOf(IOException.class);
+    }
+
+    @Test
+    void fingerprintFollowsSerializedProperties() {
+        JavaType detailType = objectMapper.constructType(TourDetail.class);
+
+        assertThat(CacheCodec.fingerprint(objectMapper, pageType))
+                .isEqualTo(CacheCodec.fingerprint(Jackson2ObjectMapperBuilder.json().build(), pageType))
+                .isNotEqualTo(CacheCodec.fingerprint(objectMapper, detailType));
+    }
+}
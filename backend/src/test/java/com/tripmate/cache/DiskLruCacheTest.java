@@ -0,0 +1,127 @@
+package com.tripmate.cache;
+
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.Arrays;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class DiskLruCacheTest {
+
+    @TempDir
+    Path directory;
+
+    @Test
+    void evictsLeastRecentlyUsedFileOverLimit() throws IOException {
+        DiskLruCache cache = new DiskLruCache(directory, 10);
+        cache.put("a", bytes(4, 'a'));
+        cache.put("b", bytes(4, 'b'));
+        cache.open("a").close();
+
+        cache.put("c", bytes(4, 'c'));
+
+        assertThat(Files.exists(directory.resolve("b"))).isFalse();
+        assertThat(cache.open("b")).isNull();
+        assertThat(cache.size()).isEqualTo(8);
+    }
+
+    @Test
+    void skipsOpenFileWhenEvicting() throws IOException {
+        DiskLruCache cache = new DiskLruCache(directory, 10);
+        cache.put("a", bytes(4, 'a'));
+        cache.put("b", bytes(4, 'b'));
+        DiskLruCache.Snapshot snapshot = cache.open("a");
+        cache.open("b").close();
+
+        cache.put("c", bytes(4, 'c'));
+
+        // 가장 오래 쓰지 않은 a 는 열려 있으므로 그 다음인 b 가 지워진다
+        assertThat(Files.exists(directory.resolve("a"))).isTrue();
+        assertThat(Files.exists(directory.resolve("b"))).isFalse();
+        assertThat(snapshot.readAllBytes()).isEqualTo(bytes(4, 'a'));
+        assertThat(cache.size()).isEqualTo(8);
+
+        snapshot.close();
+
+        assertThat(cache.pinned()).isZero();
+    }
+
+    @Test
+    void deletesOpenFileAfterLastClose() throws IOException {
+        DiskLruCache cache = new DiskLruCache(directory, 6);
+        cache.put("a", bytes(4, 'a'));
+        DiskLruCache.Snapshot first = cache.open("a");
+        DiskLruCache.Snapshot second = cache.open("a");
+
+        // 열려 있는 동안 더 큰 내용으로 바뀌어 한도를 넘어도 지우지 않는다
+        cache.put("a", bytes(8, 'A'));
+        assertThat(cache.size()).isEqualTo(8);
+        assertThat(second.readAllBytes()).isEqualTo(bytes(4, 'a'));
+
+        first.close();
+        first.close();
+        assertThat(Files.exists(directory.resolve("a"))).isTrue();
+
+        second.close();
+
+        assertThat(Files.exists(directory.resolve("a"))).isFalse();
+        assertThat(cache.size()).isZero();
+        assertThat(cache.pinned()).isZero();
+    }
+
+    @Test
+    void transfersWholeFileAndReleasesOnStreamClose() throws IOException {
+        DiskLruCache cache = new DiskLruCache(directory, 1 << 20);
+        byte[] data = bytes(100_000, 'x');
+        data[0] = 'y';
+        cache.put("a", data);
+        ByteArrayOutputStream out = new ByteArrayOutputStream();
+
+        DiskLruCache.Snapshot snapshot = cache.open("a");
+        try (InputStream in = snapshot.inputStream()) {
+            assertThat(in.read()).isEqualTo('y');
+            assertThat(in.transferTo(out)).isEqualTo(data.length - 1);
+            assertThat(cache.pinned()).isEqualTo(1);
+        }
+
+        assertThat(out.toByteArray()).isEqualTo(Arrays.copyOfRange(data, 1, data.length));
+        assertThat(cache.pinned()).isZero();
+    }
+
+    @Test
+    void forgetsFileDeletedOutsideCache() throws IOException {
+        DiskLruCache cache = new DiskLruCache(directory, 10);
+        cache.put("a", bytes(4, 'a'));
+        Files.delete(directory.resolve("a"));
+
+        assertThat(cache.open("a")).isNull();
+        assertThat(cache.size()).isZero();
+        assertThat(cache.pinned()).isZero();
+    }
+
+    @Test
+    void reloadsExistingFilesOnStart() throws IOException {
+        new DiskLruCache(directory, 10).put("a", bytes(4, 'a'));
+        Files.write(directory.resolve("partial.tmp"), bytes(4, 't'));
+
+        DiskLruCache cache = new DiskLruCache(directory, 10);
+
+        assertThat(cache.size()).isEqualTo(4);
+        assertThat(Files.exists(directory.resolve("partial.tmp"))).isFalse();
+        try (DiskLruCache.Snapshot snapshot = cache.open("a")) {
+            assertThat(snapshot.readAllBytes()).isEqualTo(bytes(4, 'a'));
+        }
+    }
+
+    private static byte[] bytes(int size, char fill) {
+        byte[] data = new byte[size];
+        Arrays.fill(data, (byte) fill);
+        return data;
+    }
+}
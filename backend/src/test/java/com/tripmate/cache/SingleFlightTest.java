@@ -0,0 +1,119 @@
+package com.tripmate.cache;
+
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.Test;
+import reactor.core.Disposable;
+import reactor.core.publisher.Mono;
+import reactor.core.publisher.Sinks;
+
+import java.util.List;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicReference;
+import java.util.function.Supplier;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+class SingleFlightTest {
+
+    private final SimpleMeterRegistry meterRegistry = new SimpleMeterRegistry();
+    private final SingleFlight<String> singleFlight = new SingleFlight<>("test", meterRegistry);
+
+    @Test
+    void sharesOneCallBetweenConcurrentCallers() {
+        Sinks.One<String> upstream = Sinks.one();
+        AtomicInteger calls = new AtomicInteger();
+        List<String> results = new CopyOnWriteArrayList<>();
+
+        singleFlight.execute("a", () -> counted(calls, upstream.asMono())).subscribe(results::add);
+        singleFlight.execute("a", () -> counted(calls, upstream.asMono())).subscribe(results::add);
+        assertThat(inFlight()).isEqualTo(1);
+
+        upstream.tryEmitValue("value");
+
+        assertThat(calls).hasValue(1);
+        assertThat(results).containsExactly("value", "value");
+        assertThat(meterRegistry.get("singleflight.coalesced").counter().count()).isEqualTo(1);
+        assertThat(inFlight()).isZero();
+    }
+
+    @Test
+    void buildsCallOnlyForTheCallerThatRunsIt() {
+        AtomicInteger built = new AtomicInteger();
+        Supplier<Mono<String>> call = () -> {
+            built.incrementAndGet();
+            return Mono.never();
+        };
+
+        singleFlight.execute("a", call).subscribe();
+        singleFlight.execute("a", call).subscribe();
+        singleFlight.execute("a", call);
+
+        assertThat(built).hasValue(1);
+    }
+
+    @Test
+    void keepsKeysApart() {
+        AtomicInteger calls = new AtomicInteger();
+
+        singleFlight.execute("a", () -> counted(calls, Mono.never())).subscribe();
+        singleFlight.execute("b", () -> counted(calls, Mono.never())).subscribe();
+
+        assertThat(calls).hasValue(2);
+        assertThat(inFlight()).isEqualTo(2);
+    }
+
+    @Test
+    void doesNotKeepResultAfterCallFinishes() {
+        AtomicInteger calls = new AtomicInteger();
+
+        assertThat(singleFlight.execute("a", () -> counted(calls, Mono.just("first"))).block()).isEqualTo("first");
+        assertThat(singleFlight.execute("a", () -> counted(calls, Mono.just("second"))).block()).isEqualTo("second");
+
+        assertThat(calls).hasValue(2);
+    }
+
+    @Test
+    void sharesErrorAndEmptyResultAndClearsKey() {
+        Sinks.One<String> failing = Sinks.one();
+        AtomicReference<Throwable> first = new AtomicReference<>();
+        AtomicReference<Throwable> second = new AtomicReference<>();
+        singleFlight.execute("a", failing::asMono).subscribe(value -> {}, first::set);
+        singleFlight.execute("a", failing::asMono).subscribe(value -> {}, second::set);
+
+        failing.tryEmitError(new IllegalStateException("502"));
+
+        assertThat(first.get()).isInstanceOf(IllegalStateException.class).isSameAs(second.get());
+        assertThat(inFlight()).isZero();
+        assertThat(singleFlight.execute("a", Mono::empty).block()).isNull();
+        assertThat(inFlight()).isZero();
+        assertThatThrownBy(() -> singleFlight.execute("a", () -> Mono.error(new IllegalStateException("again"))).block())
+                .hasMessage("again");
+    }
+
+    @Test
+    void cancelledCallerDoesNotCancelOthers() {
+        Sinks.One<String> upstream = Sinks.one();
+        AtomicInteger cancelled = new AtomicInteger();
+        AtomicReference<String> result = new AtomicReference<>();
+
+        Disposable first = singleFlight.execute("a", () -> upstream.asMono().doOnCancel(cancelled::incrementAndGet))
+                .subscribe();
+        singleFlight.execute("a", upstream::asMono).subscribe(result::set);
+        first.dispose();
+
+        upstream.tryEmitValue("value");
+
+        assertThat(cancelled).hasValue(0);
+        assertThat(result.get()).isEqualTo("value");
+    }
+
+    private double inFlight() {
+        return meterRegistry.get("singleflight.in-flight").gauge().value();
+    }
+
+    private static Mono<String> counted(AtomicInteger calls, Mono<String> call) {
+        return call.doOnSubscribe(subscription -> calls.incrementAndGet());
+    }
+}
@@ -0,0 +1,206 @@
+package com.tripmate.cache;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.data.redis.core.ReactiveRedisTemplate;
+import org.springframework.data.redis.core.ReactiveValueOperations;
+import reactor.core.publisher.Mono;
+import reactor.core.publisher.Sinks;
+
+import java.time.Duration;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.function.Supplier;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+class TieredCacheTest {
+
+    private static final Duration SOFT_TTL = Duration.ofMillis(100);
+    private static final Duration TIMEOUT = Duration.ofSeconds(5);
+
+    private final SimpleMeterRegistry meterRegistry = new SimpleMeterRegistry();
+    private final ObjectMapper objectMapper = new ObjectMapper();
+    @SuppressWarnings("unchecked")
+    private final ReactiveRedisTemplate<String, byte[]> redisTemplate = mock(ReactiveRedisTemplate.class);
+    @SuppressWarnings("unchecked")
+    private final ReactiveValueOperations<String, byte[]> redis = mock(ReactiveValueOperations.class);
+
+    @BeforeEach
+    void setUp() {
+        when(redisTemplate.opsForValue()).thenReturn(redis);
+        when(redis.get(anyString())).thenReturn(Mono.empty());
+        when(redis.set(anyString(), any(byte[].class), any(Duration.class))).thenReturn(Mono.just(true));
+    }
+
+    @Test
+    void servesStaleValueAndRefreshesItOnceInBackground() throws InterruptedException {
+        TieredCache<String> cache = cache(Duration.ofMinutes(1), SOFT_TTL);
+        Loader loader = new Loader();
+        assertThat(cache.get("k", loader.returning("v1")).block(TIMEOUT)).isEqualTo("v1");
+
+        Thread.sleep(SOFT_TTL.toMillis() * 2);
+        Sinks.One<String> refresh = Sinks.one();
+        Supplier<Mono<String>> slowRefresh = loader.returning(refresh.asMono());
+
+        // 갱신이 끝나기 전에는 기존 값을 바로 돌려주고, 갱신은 한 번만 보낸다
+        assertThat(cache.get("k", slowRefresh).block(TIMEOUT)).isEqualTo("v1");
+        assertThat(cache.get("k", slowRefresh).block(TIMEOUT)).isEqualTo("v1");
+        assertThat(loader.calls).hasValue(2);
+        assertThat(requests("any", "stale")).isEqualTo(2);
+
+        refresh.tryEmitValue("v2");
+
+        assertThat(cache.get("k", loader.returning("v3")).block(TIMEOUT)).isEqualTo("v2");
+        assertThat(loader.calls).hasValue(2);
+    }
+
+    @Test
+    void keepsStaleValueWhenRefreshFails() throws InterruptedException {
+        TieredCache<String> cache = cache(Duration.ofMinutes(1), SOFT_TTL);
+        Loader loader = new Loader();
+        cache.get("k", loader.returning("v1")).block(TIMEOUT);
+        Thread.sleep(SOFT_TTL.toMillis() * 2);
+
+        assertThat(cache.get("k", loader.returning(Mono.error(new IllegalStateException("502")))).block(TIMEOUT))
+                .isEqualTo("v1");
+
+        assertThat(meterRegistry.get("cache.refresh.failures").counter().count()).isEqualTo(1);
+        assertThat(cache.getIfPresent("k")).isEqualTo("v1");
+    }
+
+    @Test
+    void loadsAgainOnceHardTtlPasses() throws InterruptedException {
+        Duration ttl = SOFT_TTL.multipliedBy(2);
+        TieredCache<String> cache = cache(ttl, SOFT_TTL);
+        Loader loader = new Loader();
+        cache.get("k", loader.returning("v1")).block(TIMEOUT);
+
+        Thread.sleep(ttl.toMillis() * 2);
+
+        assertThat(cache.getIfPresent("k")).isNull();
+        assertThat(cache.get("k", loader.returning("v2")).block(TIMEOUT)).isEqualTo("v2");
+        assertThat(requests("none", "miss")).isEqualTo(2);
+    }
+
+    @Test
+    void withoutSoftTtlNeverRefreshesBeforeExpiry() throws InterruptedException {
+        TieredCache<String> cache = cache(Duration.ofMinutes(1), null);
+        Loader loader = new Loader();
+        cache.get("k", loader.returning("v1")).block(TIMEOUT);
+        Thread.sleep(SOFT_TTL.toMillis() * 2);
+
+        assertThat(cache.get("k", loader.returning("v2")).block(TIMEOUT)).isEqualTo("v1");
+        assertThat(loader.calls).hasValue(1);
+        assertThat(requests("any", "stale")).isZero();
+    }
+
+    @Test
+    void doesNotStoreValuesThatAreNotCacheable() {
+        TieredCache<String> cache = cache(Duration.ofMinutes(1), SOFT_TTL);
+        Loader loader = new Loader();
+
+        assertThat(cache.get("k", loader.returning("partial"), value -> false).block(TIMEOUT)).isEqualTo("partial");
+        assertThat(cache.get("k", loader.returning("full"), value -> true).block(TIMEOUT)).isEqualTo("full");
+
+        assertThat(loader.calls).hasValue(2);
+        assertThat(cache.getIfPresent("k")).isEqualTo("full");
+    }
+
+    @Test
+    void keepsNegativeValueOnlyForNegativeTtl() throws InterruptedException {
+        Duration negativeTtl = SOFT_TTL;
+        TieredCache<String> cache = cache(Duration.ofMinutes(1), null).negativeCaching(String::isEmpty, negativeTtl);
+        Loader loader = new Loader();
+
+        assertThat(cache.get("empty", loader.returning("")).block(TIMEOUT)).isEmpty();
+        assertThat(cache.get("empty", loader.returning("late")).block(TIMEOUT)).isEmpty();
+        assertThat(cache.get("full", loader.returning("v1")).block(TIMEOUT)).isEqualTo("v1");
+        assertThat(loader.calls).hasValue(2);
+
+        verify(redis).set(eq(redisKey("empty")), any(byte[].class), eq(negativeTtl));
+        verify(redis).set(eq(redisKey("full")), any(byte[].class), eq(Duration.ofMinutes(1)));
+
+        Thread.sleep(negativeTtl.toMillis() * 2);
+
+        assertThat(cache.get("empty", loader.returning("late")).block(TIMEOUT)).isEqualTo("late");
+        assertThat(cache.getIfPresent("full")).isEqualTo("v1");
+    }
+
+    @Test
+    void doesNotRefreshNegativeValueInBackground() throws InterruptedException {
+        TieredCache<String> cache = cache(Duration.ofMinutes(1), SOFT_TTL.dividedBy(2))
+                .negativeCaching(String::isEmpty, SOFT_TTL.multipliedBy(3));
+        Loader loader = new Loader();
+        cache.get("k", loader.returning("")).block(TIMEOUT);
+
+        Thread.sleep(SOFT_TTL.toMillis());
+
+        assertThat(cache.get("k", loader.returning("v1")).block(TIMEOUT)).isEmpty();
+        assertThat(loader.calls).hasValue(1);
+        assertThat(requests("any", "stale")).isZero();
+    }
+
+    @Test
+    void leavesNegativeValuesOutOfHottest() {
+        TieredCache<String> cache = cache(Duration.ofMinutes(1), null).negativeCaching(String::isEmpty, SOFT_TTL);
+        cache.put("empty", "");
+        cache.put("full", "v1");
+
+        assertThat(cache.hottest(10)).containsOnlyKeys("full");
+    }
+
+    @Test
+    void ignoresExpiredRemoteValue() {
+        TieredCache<String> cache = cache(Duration.ofMinutes(1), null);
+        CacheCodec<TieredCache.Entry<String>> codec = new CacheCodec<>(objectMapper,
+                objectMapper.getTypeFactory().constructParametricType(TieredCache.Entry.class, String.class),
+                TieredCache.COMPRESS_THRESHOLD);
+        long past = System.currentTimeMillis() - 1;
+        when(redis.get(redisKey("k"))).thenReturn(Mono.fromCallable(
+                () -> codec.encode(new TieredCache.Entry<>("old", past, past))));
+        Loader loader = new Loader();
+
+        assertThat(cache.get("k", loader.returning("new")).block(TIMEOUT)).isEqualTo("new");
+        assertThat(loader.calls).hasValue(1);
+    }
+
+    private TieredCache<String> cache(Duration ttl, Duration softTtl) {
+        return new TieredCache<>("test", ttl, softTtl, 100, redisTemplate, objectMapper,
+                objectMapper.constructType(String.class), meterRegistry);
+    }
+
+    private static String redisKey(String key) {
+        return "tripmate:cache:test:" + key;
+    }
+
+    private double requests(String tier, String result) {
+        return meterRegistry.get("cache.requests").tag("tier", tier).tag("result", result).counter().count();
+    }
+
+    /**
+     * 원본 조회 횟수를 센다.
+     */
+    private static final class Loader {
+
+        private final AtomicInteger calls = new AtomicInteger();
+
+        Supplier<Mono<String>> returning(String value) {
+            return returning(Mono.just(value));
+        }
+
+        Supplier<Mono<String>> returning(Mono<String> result) {
+            return () -> {
+                calls.incrementAndGet();
+                return result;
+            };
+        }
+    }
+}
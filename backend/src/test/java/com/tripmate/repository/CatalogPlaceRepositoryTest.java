@@ -0,0 +1,68 @@
+package com.tripmate.repository;
+
+import com.tripmate.entity.CatalogPlace;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.jdbc.AutoConfigureTestDatabase;
+import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
+import org.springframework.data.domain.PageRequest;
+
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+@DataJpaTest(properties = "spring.jpa.hibernate.ddl-auto=create-drop")
+@AutoConfigureTestDatabase(replace = AutoConfigureTestDatabase.Replace.ANY)
+class CatalogPlaceRepositoryTest {
+
+    @Autowired
+    private CatalogPlaceRepository repository;
+
+    @BeforeEach
+    void setUp() {
+        repository.saveAll(List.of(
+                place("1", "100% 한우 식당", 1),
+                place("2", "1000 한우 식당", 2),
+                place("3", "Cafe_Latte", 3),
+                place("4", "CafeXLatte", 4),
+                place("5", "C:\\Temp 갤러리", 5)));
+    }
+
+    @Test
+    void matchesPercentLiterally() {
+        assertThat(titles("100%")).containsExactly("100% 한우 식당");
+    }
+
+    @Test
+    void matchesUnderscoreLiterally() {
+        assertThat(titles("e_l")).containsExactly("Cafe_Latte");
+    }
+
+    @Test
+    void matchesBackslashLiterally() {
+        assertThat(titles("c:\\t")).containsExactly("C:\\Temp 갤러리");
+    }
+
+    @Test
+    void ignoresCaseAndOrdersByPopularity() {
+        assertThat(titles("CAFE")).containsExactly("Cafe_Latte", "CafeXLatte");
+    }
+
+    private List<String> titles(String keyword) {
+        return repository.searchByTitle(CatalogPlaceRepository.containsPattern(keyword),
+                        null, null, null, PageRequest.of(0, 10))
+                .map(CatalogPlace::getTitle)
+                .getContent();
+    }
+
+    private static CatalogPlace place(String contentId, String title, int popularity) {
+        return CatalogPlace.builder()
+                .contentId(contentId)
+                .contentTypeId("12")
+                .title(title)
+                .areaCode("1")
+                .popularity(popularity)
+                .build();
+    }
+}
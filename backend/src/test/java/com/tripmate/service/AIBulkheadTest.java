@@ -0,0 +1,197 @@
+package com.tripmate.service;
+
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.Test;
+import org.springframework.boot.convert.ApplicationConversionService;
+import org.springframework.mock.env.MockEnvironment;
+import reactor.core.Disposable;
+import reactor.core.publisher.Flux;
+import reactor.core.publisher.Mono;
+import reactor.core.publisher.Sinks;
+
+import java.time.Duration;
+import java.util.List;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicReference;
+import java.util.function.BooleanSupplier;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+class AIBulkheadTest {
+
+    private static final Duration MAX_WAIT = Duration.ofMillis(200);
+
+    private final SimpleMeterRegistry meterRegistry = new SimpleMeterRegistry();
+    private final AIBulkhead bulkhead = new AIBulkhead(environment(), meterRegistry);
+
+    @Test
+    void queuesBeyondMaxConcurrentAndHandsOffInOrder() {
+        List<String> results = new CopyOnWriteArrayList<>();
+        List<AtomicInteger> started = List.of(new AtomicInteger(), new AtomicInteger(),
+                new AtomicInteger(), new AtomicInteger());
+        List<Sinks.One<String>> calls = List.of(Sinks.one(), Sinks.one(), Sinks.one(), Sinks.one());
+        for (int i = 0; i < calls.size(); i++) {
+            AtomicInteger counter = started.get(i);
+            bulkhead.protect(AIOperation.PLAN, calls.get(i).asMono().doOnSubscribe(s -> counter.incrementAndGet()))
+                    .subscribe(results::add);
+        }
+
+        assertThat(started).extracting(AtomicInteger::get).containsExactly(1, 1, 0, 0);
+        assertThat(active()).isEqualTo(2);
+        assertThat(queued()).isEqualTo(2);
+
+        // 끝난 자리는 active 를 줄이지 않고 먼저 기다린 요청에 넘긴다
+        calls.get(1).tryEmitValue("second");
+        assertThat(started).extracting(AtomicInteger::get).containsExactly(1, 1, 1, 0);
+        assertThat(active()).isEqualTo(2);
+        assertThat(queued()).isEqualTo(1);
+
+        calls.get(2).tryEmitValue("third");
+        assertThat(started).extracting(AtomicInteger::get).containsExactly(1, 1, 1, 1);
+
+        calls.get(0).tryEmitValue("first");
+        calls.get(3).tryEmitValue("fourth");
+        assertThat(results).containsExactly("second", "third", "first", "fourth");
+        assertThat(active()).isZero();
+        assertThat(queued()).isZero();
+    }
+
+    @Test
+    void rejectsImmediatelyWhenQueueIsFull() {
+        hold(4);
+        AtomicInteger subscribed = new AtomicInteger();
+
+        long started = System.nanoTime();
+        assertThatThrownBy(() -> bulkhead.protect(AIOperation.PLAN, started(subscribed, "late")).block())
+                .isInstanceOfSatisfying(AIServiceBusyException.class,
+                        e -> assertThat(e.getRetryAfter()).isEqualTo(MAX_WAIT));
+
+        assertThat(Duration.ofNanos(System.nanoTime() - started)).isLessThan(MAX_WAIT);
+        assertThat(subscribed).hasValue(0);
+        assertThat(rejected()).isEqualTo(1);
+    }
+
+    @Test
+    void timesOutWaiterAndRemovesItFromQueue() {
+        List<Sinks.One<String>> held = hold(2);
+        AtomicInteger subscribed = new AtomicInteger();
+
+        assertThatThrownBy(() -> bulkhead.protect(AIOperation.PLAN, started(subscribed, "late")).block())
+                .isInstanceOf(AIServiceBusyException.class);
+        // 대기열에서 빼는 일은 오류를 내보낸 뒤 타이머 스레드의 doFinally 에서 한다
+        waitUntil(() -> queued() == 0);
+
+        // 시간이 지난 요청에는 자리를 넘기지 않는다
+        held.forEach(sink -> sink.tryEmitValue("done"));
+        assertThat(subscribed).hasValue(0);
+        assertThat(active()).isZero();
+    }
+
+    @Test
+    void cancelledWaiterLeavesQueue() {
+        List<Sinks.One<String>> held = hold(2);
+        AtomicInteger subscribed = new AtomicInteger();
+        Disposable waiting = bulkhead.protect(AIOperation.PLAN, started(subscribed, "late")).subscribe();
+        assertThat(queued()).isEqualTo(1);
+
+        waiting.dispose();
+
+        assertThat(queued()).isZero();
+        held.forEach(sink -> sink.tryEmitValue("done"));
+        assertThat(subscribed).hasValue(0);
+        assertThat(active()).isZero();
+    }
+
+    @Test
+    void releasesOnErrorAndCancel() {
+        assertThatThrownBy(() -> bulkhead.protect(AIOperation.PLAN, Mono.error(new IllegalStateException("502"))).block())
+                .isInstanceOf(IllegalStateException.class);
+        bulkhead.protect(AIOperation.PLAN, Mono.never()).subscribe().dispose();
+
+        assertThat(active()).isZero();
+    }
+
+    @Test
+    void holdsStreamSlotUntilStreamEnds() {
+        Sinks.Many<String> tokens = Sinks.many().unicast().onBackpressureBuffer();
+        AtomicReference<List<String>> received = new AtomicReference<>();
+        bulkhead.protect(AIOperation.PLAN, tokens.asFlux()).collectList().subscribe(received::set);
+
+        tokens.tryEmitNext("a");
+        assertThat(active()).isEqualTo(1);
+
+        tokens.tryEmitNext("b");
+        tokens.tryEmitComplete();
+
+        assertThat(received.get()).containsExactly("a", "b");
+        assertThat(active()).isZero();
+        assertThat(bulkhead.protect(AIOperation.PLAN, Flux.just(1, 2)).collectList().block()).containsExactly(1, 2);
+    }
+
+    @Test
+    void keepsOperationsApart() {
+        hold(4);
+
+        assertThat(bulkhead.protect(AIOperation.CHAT, Mono.just("chat")).block()).isEqualTo("chat");
+        assertThat(bulkhead.maxConcurrent(AIOperation.PLAN)).isEqualTo(2);
+    }
+
+    /**
+     * 끝나지 않는 PLAN 호출을 count 개 보낸다. (앞의 2개가 자리를 쥐고 나머지는 대기)
+     */
+    private List<Sinks.One<String>> hold(int count) {
+        List<Sinks.One<String>> sinks = new CopyOnWriteArrayList<>();
+        for (int i = 0; i < count; i++) {
+            Sinks.One<String> sink = Sinks.one();
+            sinks.add(sink);
+            bulkhead.protect(AIOperation.PLAN, sink.asMono()).subscribe(value -> {}, e -> {});
+        }
+        return sinks;
+    }
+
+    private static void waitUntil(BooleanSupplier condition) {
+        long deadline = System.nanoTime() + Duration.ofSeconds(5).toNanos();
+        while (!condition.getAsBoolean()) {
+            assertThat(System.nanoTime()).as("condition not met in time").isLessThan(deadline);
+            try {
+                Thread.sleep(10);
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+                return;
+            }
+        }
+    }
+
+    private static Mono<String> started(AtomicInteger counter, String value) {
+        return Mono.fromSupplier(() -> {
+            counter.incrementAndGet();
+            return value;
+        });
+    }
+
+    private double active() {
+        return meterRegistry.get("ai.bulkhead.active").tag("operation", "plan").gauge().value();
+    }
+
+    private double queued() {
+        return meterRegistry.get("ai.bulkhead.queued").tag("operation", "plan").gauge().value();
+    }
+
+    private double rejected() {
+        return meterRegistry.get("ai.bulkhead.rejected").tag("operation", "plan").counter().count();
+    }
+
+    private static MockEnvironment environment() {
+        MockEnvironment environment = new MockEnvironment();
+        environment.setConversionService(new ApplicationConversionService());
+        for (AIOperation operation : AIOperation.values()) {
+            String prefix = "ai-service.bulkhead." + operation.name().toLowerCase() + ".";
+            environment.setProperty(prefix + "max-concurrent", "2");
+            environment.setProperty(prefix + "max-queue", "2");
+            environment.setProperty(prefix + "max-wait", MAX_WAIT.toString());
+        }
+        return environment;
+    }
+}
@@ -0,0 +1,257 @@
+package com.tripmate.service;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.tripmate.dto.AIPlanJobDto.Job;
+import com.tripmate.dto.AIPlanJobDto.Status;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.data.redis.core.StringRedisTemplate;
+import org.springframework.data.redis.core.ValueOperations;
+
+import java.time.Duration;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.CountDownLatch;
+import java.util.function.BooleanSupplier;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyMap;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.doAnswer;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+class AIPlanJobServiceTest {
+
+    private static final Long USER = 1L;
+    private static final Duration PENDING_TTL = Duration.ofMinutes(10);
+    private static final Duration RESULT_TTL = Duration.ofMinutes(30);
+    private static final Duration POLL_INTERVAL = Duration.ofMillis(20);
+    private static final Duration TIMEOUT = Duration.ofSeconds(5);
+    private static final Map<String, Object> SUCCESS = Map.of("success", true, "plan", "day 1");
+
+    private final SimpleMeterRegistry meterRegistry = new SimpleMeterRegistry();
+    private final ObjectMapper objectMapper = new ObjectMapper().findAndRegisterModules();
+    private final AIService aiService = mock(AIService.class);
+    private final StringRedisTemplate redisTemplate = mock(StringRedisTemplate.class);
+    @SuppressWarnings("unchecked")
+    private final ValueOperations<String, String> redis = mock(ValueOperations.class);
+    /** Redis 대신 쓰는 저장소 */
+    private final Map<String, String> store = new ConcurrentHashMap<>();
+    private final List<AIPlanJobService> services = new CopyOnWriteArrayList<>();
+    private final List<CountDownLatch> latches = new CopyOnWriteArrayList<>();
+
+    @BeforeEach
+    void setUp() {
+        when(redisTemplate.opsForValue()).thenReturn(redis);
+        when(redis.get(anyString())).thenAnswer(invocation -> store.get(invocation.<String>getArgument(0)));
+        doAnswer(invocation -> store.put(invocation.getArgument(0), invocation.getArgument(1)))
+                .when(redis).set(anyString(), anyString(), any(Duration.class));
+        when(redisTemplate.delete(anyString()))
+                .thenAnswer(invocation -> store.remove(invocation.<String>getArgument(0)) != null);
+        when(redisTemplate.hasKey(anyString()))
+                .thenAnswer(invocation -> store.containsKey(invocation.<String>getArgument(0)));
+    }
+
+    @AfterEach
+    void tearDown() {
+        latches.forEach(CountDownLatch::countDown);
+        services.forEach(AIPlanJobService::shutdown);
+    }
+
+    @Test
+    void runsJobAndKeepsResultForResultTtl() {
+        when(aiService.multiAgentPlan(anyMap())).thenReturn(SUCCESS);
+        AIPlanJobService service = service(1, 1);
+
+        Job queued = service.submit(USER, Map.of("destination", "jeju"));
+        assertThat(queued.getStatus()).isEqualTo(Status.QUEUED);
+
+        Job done = awaitDone(service, queued.getJobId());
+        assertThat(done.getStatus()).isEqualTo(Status.SUCCEEDED);
+        assertThat(done.getResult()).isEqualTo(SUCCESS);
+        assertThat(done.getStartedAt()).isNotNull();
+        assertThat(done.getFinishedAt()).isNotNull();
+        verify(aiService).multiAgentPlan(Map.of("destination", "jeju"));
+        verify(redis).set(eq(key(queued.getJobId())), anyString(), eq(RESULT_TTL));
+    }
+
+    @Test
+    void marksJobFailedWhenPlanFailsOrIsBusy() {
+        when(aiService.multiAgentPlan(anyMap()))
+                .thenReturn(Map.of("success", false, "errors", List.of("planner")))
+                .thenThrow(new AIServiceBusyException("busy", Duration.ofSeconds(1)));
+        AIPlanJobService service = service(1, 2);
+
+        Job failed = awaitDone(service, service.submit(USER, Map.of()).getJobId());
+        Job busy = awaitDone(service, service.submit(USER, Map.of()).getJobId());
+
+        assertThat(failed.getStatus()).isEqualTo(Status.FAILED);
+        assertThat(busy.getStatus()).isEqualTo(Status.FAILED);
+        assertThat(busy.getResult()).containsEntry("errors", List.of("busy"));
+    }
+
+    @Test
+    void rejectsWhenQueueIsFull() {
+        CountDownLatch release = blockPlans();
+        AIPlanJobService service = service(1, 1);
+        Job running = service.submit(USER, Map.of());
+        waitUntil(() -> service.getJob(USER, running.getJobId()).getStatus() == Status.RUNNING);
+        service.submit(USER, Map.of());
+        int stored = store.size();
+
+        assertThatThrownBy(() -> service.submit(USER, Map.of()))
+                .isInstanceOfSatisfying(AIServiceBusyException.class,
+                        e -> assertThat(e.getRetryAfter()).isEqualTo(POLL_INTERVAL.multipliedBy(5)));
+
+        // 거절된 작업은 저장소에 남기지 않는다
+        assertThat(store).hasSize(stored);
+        assertThat(meterRegistry.get("ai.plan.jobs.rejected").counter().count()).isEqualTo(1);
+        assertThat(meterRegistry.get("ai.plan.jobs.queued").gauge().value()).isEqualTo(1);
+        release.countDown();
+    }
+
+    @Test
+    void hidesJobFromOtherUsers() {
+        when(aiService.multiAgentPlan(anyMap())).thenReturn(SUCCESS);
+        AIPlanJobService service = service(1, 1);
+        Job job = service.submit(USER, Map.of());
+
+        assertThatThrownBy(() -> service.getJob(2L, job.getJobId())).isInstanceOf(IllegalArgumentException.class);
+        assertThatThrownBy(() -> service.getJob(USER, "missing")).isInstanceOf(IllegalArgumentException.class);
+    }
+
+    @Test
+    void watchEmitsEachStatusChangeUntilDone() {
+        CountDownLatch first = new CountDownLatch(1);
+        CountDownLatch second = new CountDownLatch(1);
+        latches.add(first);
+        latches.add(second);
+        when(aiService.multiAgentPlan(anyMap()))
+                .thenAnswer(invocation -> awaitAndReturn(first))
+                .thenAnswer(invocation -> awaitAndReturn(second));
+        AIPlanJobService service = service(1, 1);
+        Job blocking = service.submit(USER, Map.of());
+        waitUntil(() -> service.getJob(USER, blocking.getJobId()).getStatus() == Status.RUNNING);
+        Job job = service.submit(USER, Map.of());
+        List<Status> statuses = new CopyOnWriteArrayList<>();
+        service.watch(USER, job.getJobId()).map(Job::getStatus).subscribe(statuses::add);
+
+        first.countDown();
+        waitUntil(() -> statuses.contains(Status.RUNNING));
+        second.countDown();
+        waitUntil(() -> statuses.contains(Status.SUCCEEDED));
+
+        assertThat(statuses).containsExactly(Status.QUEUED, Status.RUNNING, Status.SUCCEEDED);
+        assertThat(service.watch(USER, job.getJobId()).collectList().block(TIMEOUT))
+                .extracting(Job::getStatus).containsExactly(Status.SUCCEEDED);
+    }
+
+    @Test
+    void failsJobWhoseInstanceStoppedHeartbeat() {
+        blockPlans();
+        AIPlanJobService owner = service(1, 1);
+        AIPlanJobService other = service(1, 1);
+        String ownerKey = "tripmate:ai-plan-job:owner:";
+        Job job = owner.submit(USER, Map.of());
+        waitUntil(() -> owner.getJob(USER, job.getJobId()).getStatus() == Status.RUNNING);
+
+        // 실행 중인 인스턴스가 살아 있으면 그대로 보인다
+        assertThat(other.getJob(USER, job.getJobId()).getStatus()).isEqualTo(Status.RUNNING);
+
+        // 다른 인스턴스의 생존 신호만 남기고 지운다 (owner 가 죽어 TTL 이 지난 상황)
+        store.keySet().removeIf(key -> key.startsWith(ownerKey));
+        other.heartbeat();
+
+        Job orphaned = other.getJob(USER, job.getJobId());
+        assertThat(orphaned.getStatus()).isEqualTo(Status.FAILED);
+        assertThat(orphaned.getResult()).containsKey("errors");
+        assertThat(meterRegistry.get("ai.plan.jobs.orphaned").counter().count()).isEqualTo(1);
+        verify(redis).set(eq(key(job.getJobId())), anyString(), eq(RESULT_TTL));
+    }
+
+    @Test
+    void shutdownFailsUnfinishedJobsAndRemovesHeartbeat() {
+        blockPlans();
+        AIPlanJobService service = service(1, 1);
+        Job running = service.submit(USER, Map.of());
+        waitUntil(() -> service.getJob(USER, running.getJobId()).getStatus() == Status.RUNNING);
+        Job queued = service.submit(USER, Map.of());
+
+        service.shutdown();
+
+        assertThat(service.getJob(USER, running.getJobId()).getStatus()).isEqualTo(Status.FAILED);
+        assertThat(service.getJob(USER, queued.getJobId()).getStatus()).isEqualTo(Status.FAILED);
+        assertThat(store.keySet()).noneMatch(key -> key.startsWith("tripmate:ai-plan-job:owner:"));
+    }
+
+    private AIPlanJobService service(int concurrency, int queueCapacity) {
+        AIPlanJobService service = new AIPlanJobService(aiService, redisTemplate, objectMapper,
+                concurrency, queueCapacity, PENDING_TTL, RESULT_TTL, POLL_INTERVAL, Duration.ofMinutes(1),
+                meterRegistry);
+        service.heartbeat();
+        services.add(service);
+        return service;
+    }
+
+    /**
+     * 모든 계획 호출이 반환된 latch 가 열릴 때까지 끝나지 않게 한다.
+     */
+    private CountDownLatch blockPlans() {
+        CountDownLatch release = new CountDownLatch(1);
+        latches.add(release);
+        when(aiService.multiAgentPlan(anyMap())).thenAnswer(invocation -> awaitAndReturn(release));
+        return release;
+    }
+
+    /**
+     * shutdownNow 의 인터럽트는 무시하고 latch 가 열릴 때까지 기다린다.
+     */
+    private static Map<String, Object> awaitAndReturn(CountDownLatch latch) {
+        boolean interrupted = false;
+        while (true) {
+            try {
+                latch.await();
+                break;
+            } catch (InterruptedException e) {
+                interrupted = true;
+            }
+        }
+        if (interrupted) {
+            Thread.currentThread().interrupt();
+        }
+        return SUCCESS;
+    }
+
+    private static Job awaitDone(AIPlanJobService service, String jobId) {
+        waitUntil(() -> service.getJob(USER, jobId).isDone());
+        return service.getJob(USER, jobId);
+    }
+
+    private static String key(String jobId) {
+        return "tripmate:ai-plan-job:" + jobId;
+    }
+
+    private static void waitUntil(BooleanSupplier condition) {
+        long deadline = System.nanoTime() + TIMEOUT.toNanos();
+        while (!condition.getAsBoolean()) {
+            if (System.nanoTime() > deadline) {
+                throw new AssertionError("condition not met within " + TIMEOUT);
+            }
+            try {
+                Thread.sleep(10);
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+                return;
+            }
+        }
+    }
+}
@@ -0,0 +1,167 @@
+package com.tripmate.service;
+
+import com.tripmate.service.TourApiCircuitBreaker.State;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.Test;
+import reactor.core.Disposable;
+import reactor.core.publisher.Flux;
+import reactor.core.publisher.Mono;
+import reactor.core.publisher.Sinks;
+
+import java.time.Duration;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+class TourApiCircuitBreakerTest {
+
+    private static final Duration OPEN_DURATION = Duration.ofMillis(100);
+
+    private final SimpleMeterRegistry meterRegistry = new SimpleMeterRegistry();
+
+    @Test
+    void staysClosedUntilMinCalls() {
+        TourApiCircuitBreaker breaker = breaker(4, 4, 0.5, 1);
+
+        failures(breaker, 3);
+
+        assertThat(breaker.getState()).isEqualTo(State.CLOSED);
+        assertThat(succeed(breaker)).isEqualTo("ok");
+    }
+
+    @Test
+    void opensAtFailureRateAndRejectsWithoutCalling() {
+        TourApiCircuitBreaker breaker = breaker(4, 4, 0.5, 1);
+        succeed(breaker);
+        succeed(breaker);
+        failures(breaker, 2);
+
+        assertThat(breaker.getState()).isEqualTo(State.OPEN);
+
+        AtomicInteger subscribed = new AtomicInteger();
+        Mono<String> call = Mono.fromSupplier(() -> {
+            subscribed.incrementAndGet();
+            return "ok";
+        });
+        assertThatThrownBy(() -> breaker.protect(call).block())
+                .isInstanceOf(TourApiCircuitOpenException.class);
+        assertThat(subscribed).hasValue(0);
+        assertThat(meterRegistry.get("tour.api.circuit.rejected").counter().count()).isEqualTo(1);
+    }
+
+    @Test
+    void countsOnlyTheLastWindowSizeCalls() {
+        TourApiCircuitBreaker breaker = breaker(4, 4, 0.5, 1);
+        failures(breaker, 1);
+        for (int i = 0; i < 4; i++) {
+            succeed(breaker);
+        }
+        // 처음 실패는 창에서 밀려났으므로 실패 2건 중 1건만으로는 열리지 않는다
+        failures(breaker, 1);
+        assertThat(breaker.getState()).isEqualTo(State.CLOSED);
+
+        failures(breaker, 1);
+        assertThat(breaker.getState()).isEqualTo(State.OPEN);
+    }
+
+    @Test
+    void ignoresThrottledAndCancelledCalls() {
+        TourApiCircuitBreaker breaker = breaker(4, 1, 0.5, 1);
+
+        assertThatThrownBy(() -> breaker.protect(Mono.error(new TourApiThrottledException("quota"))).block())
+                .isInstanceOf(TourApiThrottledException.class);
+        breaker.protect(Mono.never()).subscribe().dispose();
+
+        assertThat(breaker.getState()).isEqualTo(State.CLOSED);
+
+        failures(breaker, 1);
+        assertThat(breaker.getState()).isEqualTo(State.OPEN);
+    }
+
+    @Test
+    void halfOpenLimitsTrialCallsAndClosesAfterThemSucceed() throws InterruptedException {
+        TourApiCircuitBreaker breaker = open(2);
+        Thread.sleep(OPEN_DURATION.toMillis() * 2);
+
+        Sinks.One<String> first = Sinks.one();
+        Sinks.One<String> second = Sinks.one();
+        Disposable firstCall = breaker.protect(first.asMono()).subscribe();
+        Disposable secondCall = breaker.protect(second.asMono()).subscribe();
+
+        assertThat(breaker.getState()).isEqualTo(State.HALF_OPEN);
+        assertThatThrownBy(() -> breaker.protect(Mono.just("ok")).block())
+                .isInstanceOf(TourApiCircuitOpenException.class);
+
+        first.tryEmitValue("ok");
+        assertThat(breaker.getState()).isEqualTo(State.HALF_OPEN);
+        second.tryEmitValue("ok");
+
+        assertThat(breaker.getState()).isEqualTo(State.CLOSED);
+        assertThat(firstCall.isDisposed() && secondCall.isDisposed()).isTrue();
+        // 닫히면 이전 실패 기록은 지워진다
+        failures(breaker, 1);
+        assertThat(breaker.getState()).isEqualTo(State.CLOSED);
+    }
+
+    @Test
+    void halfOpenFailureOpensAgain() throws InterruptedException {
+        TourApiCircuitBreaker breaker = open(2);
+        Thread.sleep(OPEN_DURATION.toMillis() * 2);
+
+        failures(breaker, 1);
+
+        assertThat(breaker.getState()).isEqualTo(State.OPEN);
+        assertThatThrownBy(() -> breaker.protect(Mono.just("ok")).block())
+                .isInstanceOf(TourApiCircuitOpenException.class);
+    }
+
+    @Test
+    void cancelledTrialCallFreesItsSlot() throws InterruptedException {
+        TourApiCircuitBreaker breaker = open(1);
+        Thread.sleep(OPEN_DURATION.toMillis() * 2);
+
+        breaker.protect(Mono.never()).subscribe().dispose();
+
+        assertThat(breaker.getState()).isEqualTo(State.HALF_OPEN);
+        assertThat(succeed(breaker)).isEqualTo("ok");
+        assertThat(breaker.getState()).isEqualTo(State.CLOSED);
+    }
+
+    @Test
+    void recordsStreamsWhenTheyCompleteOrFail() {
+        TourApiCircuitBreaker breaker = breaker(2, 2, 1.0, 1);
+
+        assertThat(breaker.protect(Flux.just(1, 2, 3)).collectList().block()).containsExactly(1, 2, 3);
+        Flux<Integer> broken = Flux.concat(Flux.just(1), Flux.error(new IllegalStateException("reset")));
+        assertThatThrownBy(() -> breaker.protect(broken).blockLast()).isInstanceOf(IllegalStateException.class);
+        assertThat(breaker.getState()).isEqualTo(State.CLOSED);
+
+        assertThatThrownBy(() -> breaker.protect(broken).blockLast()).isInstanceOf(IllegalStateException.class);
+        assertThat(breaker.getState()).isEqualTo(State.OPEN);
+        assertThatThrownBy(() -> breaker.protect(Flux.just(1)).blockLast())
+                .isInstanceOf(TourApiCircuitOpenException.class);
+    }
+
+    private TourApiCircuitBreaker breaker(int windowSize, int minCalls, double failureRate, int halfOpenCalls) {
+        return new TourApiCircuitBreaker(windowSize, minCalls, failureRate, OPEN_DURATION, halfOpenCalls, meterRegistry);
+    }
+
+    private TourApiCircuitBreaker open(int halfOpenCalls) {
+        TourApiCircuitBreaker breaker = breaker(2, 2, 0.5, halfOpenCalls);
+        failures(breaker, 2);
+        assertThat(breaker.getState()).isEqualTo(State.OPEN);
+        return breaker;
+    }
+
+    private static String succeed(TourApiCircuitBreaker breaker) {
+        return breaker.protect(Mono.just("ok")).block();
+    }
+
+    private static void failures(TourApiCircuitBreaker breaker, int count) {
+        for (int i = 0; i < count; i++) {
+            assertThatThrownBy(() -> breaker.protect(Mono.error(new IllegalStateException("502"))).block())
+                    .isInstanceOf(IllegalStateException.class);
+        }
+    }
+}
@@ -0,0 +1,180 @@
+package com.tripmate.service;
+
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import reactor.core.publisher.Mono;
+
+import java.time.Duration;
+import java.util.Set;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.function.BooleanSupplier;
+import java.util.function.Supplier;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+class TourApiHedgingTest {
+
+    private static final String ENDPOINT = "detailCommon2";
+    private static final int MIN_SAMPLES = 3;
+    private static final Duration MIN_DELAY = Duration.ofMillis(50);
+    private static final Duration TIMEOUT = Duration.ofSeconds(5);
+
+    private final SimpleMeterRegistry meterRegistry = new SimpleMeterRegistry();
+    private final TourApiRateLimiter rateLimiter = mock(TourApiRateLimiter.class);
+    private final TourApiHedging hedging = new TourApiHedging(true, Set.of(ENDPOINT), MIN_SAMPLES, MIN_DELAY,
+            rateLimiter, meterRegistry);
+
+    @BeforeEach
+    void setUp() {
+        when(rateLimiter.tryAcquire(any())).thenReturn(true);
+    }
+
+    @Test
+    void doesNotHedgeUntilEnoughSamples() {
+        Attempts attempts = new Attempts(slow("primary"), Mono.just("hedge"));
+
+        assertThat(hedging.execute(ENDPOINT, TourApiPriority.DETAIL, attempts).block(TIMEOUT)).isEqualTo("primary");
+        assertThat(attempts.count()).isEqualTo(1);
+    }
+
+    @Test
+    void hedgeWinsAndCancelsSlowPrimary() {
+        warmUp(ENDPOINT);
+        AtomicBoolean primaryCancelled = new AtomicBoolean();
+        Attempts attempts = new Attempts(
+                slow("primary").doOnCancel(() -> primaryCancelled.set(true)),
+                Mono.just("hedge"));
+
+        assertThat(hedging.execute(ENDPOINT, TourApiPriority.DETAIL, attempts).block(TIMEOUT)).isEqualTo("hedge");
+        assertThat(attempts.count()).isEqualTo(2);
+        // 남은 요청 취소는 값을 내보낸 뒤 헤지 요청을 받은 스레드에서 한다
+        waitUntil(primaryCancelled::get);
+        assertThat(hedgeCount("sent")).isEqualTo(1);
+        assertThat(hedgeCount("won")).isEqualTo(1);
+    }
+
+    @Test
+    void fastPrimaryIsNotHedged() {
+        warmUp(ENDPOINT);
+        Attempts attempts = new Attempts(Mono.just("primary"), Mono.just("hedge"));
+
+        assertThat(hedging.execute(ENDPOINT, TourApiPriority.DETAIL, attempts).block(TIMEOUT)).isEqualTo("primary");
+        sleep(MIN_DELAY.multipliedBy(2));
+
+        assertThat(attempts.count()).isEqualTo(1);
+        assertThat(hedgeCount("sent")).isZero();
+    }
+
+    @Test
+    void skipsHedgeWhenNoPermitIsFree() {
+        warmUp(ENDPOINT);
+        when(rateLimiter.tryAcquire(TourApiPriority.DETAIL)).thenReturn(false);
+        Attempts attempts = new Attempts(slow("primary"), Mono.just("hedge"));
+
+        assertThat(hedging.execute(ENDPOINT, TourApiPriority.DETAIL, attempts).block(TIMEOUT)).isEqualTo("primary");
+        assertThat(attempts.count()).isEqualTo(1);
+    }
+
+    @Test
+    void neverHedgesBackgroundCallsOrOtherEndpoints() {
+        warmUp(ENDPOINT);
+        warmUp("areaBasedList2");
+        Attempts background = new Attempts(slow("primary"), Mono.just("hedge"));
+        Attempts other = new Attempts(slow("primary"), Mono.just("hedge"));
+
+        assertThat(hedging.execute(ENDPOINT, TourApiPriority.BACKGROUND, background).block(TIMEOUT)).isEqualTo("primary");
+        assertThat(hedging.execute("areaBasedList2", TourApiPriority.SEARCH, other).block(TIMEOUT)).isEqualTo("primary");
+
+        assertThat(background.count()).isEqualTo(1);
+        assertThat(other.count()).isEqualTo(1);
+        verify(rateLimiter, never()).tryAcquire(TourApiPriority.BACKGROUND);
+    }
+
+    @Test
+    void waitsForHedgeWhenPrimaryFailsFirst() {
+        warmUp(ENDPOINT);
+        Attempts attempts = new Attempts(
+                Mono.delay(MIN_DELAY.multipliedBy(2)).then(Mono.error(new IllegalStateException("primary"))),
+                Mono.delay(MIN_DELAY.multipliedBy(2)).thenReturn("hedge"));
+
+        assertThat(hedging.execute(ENDPOINT, TourApiPriority.DETAIL, attempts).block(TIMEOUT)).isEqualTo("hedge");
+    }
+
+    @Test
+    void reportsPrimaryErrorWhenBothFail() {
+        warmUp(ENDPOINT);
+        Attempts attempts = new Attempts(
+                Mono.delay(MIN_DELAY.multipliedBy(2)).then(Mono.error(new IllegalStateException("primary"))),
+                Mono.delay(MIN_DELAY.multipliedBy(3)).then(Mono.error(new IllegalStateException("hedge"))));
+
+        assertThatThrownBy(() -> hedging.execute(ENDPOINT, TourApiPriority.DETAIL, attempts).block(TIMEOUT))
+                .isInstanceOf(IllegalStateException.class)
+                .hasMessage("primary");
+        assertThat(attempts.count()).isEqualTo(2);
+    }
+
+    /**
+     * 지연 없는 응답으로 표본을 채운다 (p95 가 0 이므로 헤지 지연은 MIN_DELAY)
+     */
+    private void warmUp(String endpoint) {
+        for (int i = 0; i < MIN_SAMPLES; i++) {
+            hedging.execute(endpoint, TourApiPriority.DETAIL, () -> Mono.just("warm")).block(TIMEOUT);
+        }
+    }
+
+    private double hedgeCount(String result) {
+        return meterRegistry.get("tour.api.hedge.requests").tag("result", result).counter().count();
+    }
+
+    private static Mono<String> slow(String value) {
+        return Mono.delay(Duration.ofMillis(500)).thenReturn(value);
+    }
+
+    private static void waitUntil(BooleanSupplier condition) {
+        long deadline = System.nanoTime() + TIMEOUT.toNanos();
+        while (!condition.getAsBoolean()) {
+            assertThat(System.nanoTime()).as("condition not met in time").isLessThan(deadline);
+            sleep(Duration.ofMillis(10));
+        }
+    }
+
+    private static void sleep(Duration duration) {
+        try {
+            Thread.sleep(duration.toMillis());
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+    }
+
+    /**
+     * 첫 호출은 primary, 그 뒤 호출은 hedge 를 돌려준다.
+     */
+    private static final class Attempts implements Supplier<Mono<String>> {
+
+        private final Mono<String> primary;
+        private final Mono<String> hedge;
+        private final AtomicInteger calls = new AtomicInteger();
+
+        Attempts(Mono<String> primary, Mono<String> hedge) {
+            this.primary = primary;
+            this.hedge = hedge;
+        }
+
+        @Override
+        public Mono<String> get() {
+            return calls.getAndIncrement() == 0 ? primary : hedge;
+        }
+
+        int count() {
+            return calls.get();
+        }
+    }
+}
@@ -0,0 +1,168 @@
+package com.tripmate.service;
+
+import com.tripmate.service.TourApiKeyPool.ServiceKey;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.Test;
+import org.springframework.web.reactive.function.client.WebClientResponseException;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.TimeoutException;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.assertj.core.api.Assertions.offset;
+
+class TourApiKeyPoolTest {
+
+    private static final Duration COOLDOWN = Duration.ofMillis(100);
+
+    private final SimpleMeterRegistry meterRegistry = new SimpleMeterRegistry();
+
+    @Test
+    void prefersServiceKeysAndFallsBackToSingleKey() {
+        TourApiKeyPool pool = pool("single", List.of(" a ", "b", "a", ""), 10);
+        TourApiKeyPool fallback = pool("single", List.of(), 10);
+
+        assertThat(pool.size()).isEqualTo(2);
+        assertThat(pool.next().getValue()).isEqualTo("a");
+        assertThat(fallback.size()).isEqualTo(1);
+        assertThat(fallback.next().getValue()).isEqualTo("single");
+    }
+
+    @Test
+    void spreadsCallsByRemainingQuota() {
+        TourApiKeyPool pool = pool("", List.of("a", "b"), 10);
+
+        assertThat(values(pool, 4)).containsExactly("a", "b", "a", "b");
+        assertThat(remaining("key-1")).isEqualTo(8);
+    }
+
+    @Test
+    void prefersKeyWithLowerErrorRate() {
+        TourApiKeyPool pool = pool("", List.of("a", "b"), 100);
+        ServiceKey a = pool.next();
+        pool.failed(a, new TimeoutException("read timeout"));
+
+        // a 는 쓸 수 있지만 오류율 때문에 점수가 낮다
+        assertThat(values(pool, 3)).containsExactly("b", "b", "b");
+        assertThat(available("key-1")).isEqualTo(1);
+
+        pool.succeeded(a);
+        assertThat(meterRegistry.get("tour.api.key.error-rate").tag("key", "key-1").gauge().value())
+                .isCloseTo(0.09, offset(1e-9));
+    }
+
+    @Test
+    void coolsDownKeyAfterAuthErrorAndBringsItBack() throws InterruptedException {
+        TourApiKeyPool pool = pool("", List.of("a", "b"), 100);
+        ServiceKey a = pool.next();
+
+        pool.failed(a, new TourApiResultException("30", "SERVICE_KEY_IS_NOT_REGISTERED_ERROR"));
+
+        assertThat(available("key-1")).isZero();
+        assertThat(values(pool, 3)).containsOnly("b");
+        assertThat(cooldowns("key-1")).isEqualTo(1);
+
+        Thread.sleep(COOLDOWN.toMillis() * 2);
+
+        assertThat(available("key-1")).isEqualTo(1);
+    }
+
+    @Test
+    void handsOutCooledDownKeyAgainAfterCooldown() throws InterruptedException {
+        TourApiKeyPool pool = pool("", List.of("a"), 100);
+        pool.failed(pool.next(), new TourApiResultException("20", "SERVICE_ACCESS_DENIED_ERROR"));
+
+        assertThatThrownBy(pool::next).isInstanceOf(TourApiThrottledException.class);
+
+        Thread.sleep(COOLDOWN.toMillis() * 2);
+
+        assertThat(pool.next().getValue()).isEqualTo("a");
+    }
+
+    @Test
+    void coolsDownKeyAfterUnauthorizedStatus() {
+        TourApiKeyPool pool = pool("", List.of("a", "b"), 100);
+        ServiceKey a = pool.next();
+
+        pool.failed(a, WebClientResponseException.create(403, "Forbidden", null, null, null));
+
+        assertThat(available("key-1")).isZero();
+        assertThat(values(pool, 2)).containsOnly("b");
+    }
+
+    @Test
+    void takesKeyOutForTheDayWhenQuotaExceeded() throws InterruptedException {
+        TourApiKeyPool pool = pool("", List.of("a", "b"), 100);
+        ServiceKey a = pool.next();
+
+        pool.failed(a, new TourApiResultException("22", "LIMITED_NUMBER_OF_SERVICE_REQUESTS_EXCEEDS_ERROR"));
+        Thread.sleep(COOLDOWN.toMillis() * 2);
+
+        assertThat(remaining("key-1")).isZero();
+        assertThat(available("key-1")).isZero();
+        assertThat(values(pool, 3)).containsOnly("b");
+    }
+
+    @Test
+    void keepsKeyInRotationAfterOtherFailures() {
+        TourApiKeyPool pool = pool("", List.of("a"), 100);
+        ServiceKey a = pool.next();
+
+        pool.failed(a, new TourApiResultException("03", "NODATA_ERROR"));
+        pool.failed(a, WebClientResponseException.create(500, "Server Error", null, null, null));
+
+        assertThat(pool.next().getValue()).isEqualTo("a");
+        assertThat(cooldowns("key-1")).isZero();
+    }
+
+    @Test
+    void throwsWhenNoKeyIsLeft() {
+        TourApiKeyPool pool = pool("", List.of("a", "b"), 1);
+        values(pool, 2);
+
+        assertThatThrownBy(pool::next).isInstanceOf(TourApiThrottledException.class);
+
+        TourApiKeyPool cooled = pool("", List.of("a"), 100);
+        cooled.failed(cooled.next(), new TourApiResultException("31", "DEADLINE_HAS_EXPIRED_ERROR"));
+        assertThatThrownBy(cooled::next).isInstanceOf(TourApiThrottledException.class);
+    }
+
+    @Test
+    void classifiesKeyFailures() {
+        assertThat(TourApiKeyPool.isKeyFailure(new TourApiResultException("22", "quota"))).isTrue();
+        assertThat(TourApiKeyPool.isKeyFailure(new TourApiResultException("32", "ip"))).isTrue();
+        assertThat(TourApiKeyPool.isKeyFailure(WebClientResponseException.create(401, "Unauthorized", null, null, null)))
+                .isTrue();
+        assertThat(TourApiKeyPool.isKeyFailure(new TourApiResultException("03", "no data"))).isFalse();
+        assertThat(TourApiKeyPool.isKeyFailure(WebClientResponseException.create(502, "Bad Gateway", null, null, null)))
+                .isFalse();
+        assertThat(TourApiKeyPool.isKeyFailure(new TimeoutException())).isFalse();
+    }
+
+    private TourApiKeyPool pool(String serviceKey, List<String> serviceKeys, int dailyLimit) {
+        return new TourApiKeyPool(serviceKey, serviceKeys, dailyLimit, COOLDOWN, meterRegistry);
+    }
+
+    private static List<String> values(TourApiKeyPool pool, int calls) {
+        List<String> values = new ArrayList<>();
+        for (int i = 0; i < calls; i++) {
+            values.add(pool.next().getValue());
+        }
+        return values;
+    }
+
+    private double remaining(String key) {
+        return meterRegistry.get("tour.api.key.remaining").tag("key", key).gauge().value();
+    }
+
+    private double available(String key) {
+        return meterRegistry.get("tour.api.key.available").tag("key", key).gauge().value();
+    }
+
+    private double cooldowns(String key) {
+        return meterRegistry.get("tour.api.key.cooldowns").tag("key", key).counter().count();
+    }
+}
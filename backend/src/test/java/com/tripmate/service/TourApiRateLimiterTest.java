@@ -0,0 +1,174 @@
+package com.tripmate.service;
+
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Test;
+import reactor.core.Disposable;
+
+import java.time.Duration;
+import java.util.List;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.function.BooleanSupplier;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.when;
+
+class TourApiRateLimiterTest {
+
+    private static final Duration MAX_QUEUE_WAIT = Duration.ofMillis(300);
+    private static final Duration TIMEOUT = Duration.ofSeconds(5);
+
+    private final SimpleMeterRegistry meterRegistry = new SimpleMeterRegistry();
+    private final List<TourApiRateLimiter> limiters = new CopyOnWriteArrayList<>();
+
+    @AfterEach
+    void tearDown() {
+        limiters.forEach(TourApiRateLimiter::shutdown);
+    }
+
+    @Test
+    void grantsBurstUpToPerSecondThenQueues() {
+        TourApiRateLimiter limiter = limiter(1000, 3, 10, 1);
+
+        for (int i = 0; i < 3; i++) {
+            limiter.acquire(TourApiPriority.SEARCH).block(TIMEOUT);
+        }
+        Disposable queued = limiter.acquire(TourApiPriority.SEARCH).subscribe();
+
+        assertThat(queued(TourApiPriority.SEARCH)).isEqualTo(1);
+        assertThat(limiter.tryAcquire(TourApiPriority.DETAIL)).isFalse();
+        assertThat(limiter.remainingToday()).isEqualTo(997);
+        queued.dispose();
+    }
+
+    @Test
+    void releasesQueuedCallsByPriority() {
+        // 토큰은 200ms 마다 하나씩 생기므로 세 번째 요청까지 기다릴 수 있게 한다
+        TourApiRateLimiter limiter = limiter(1000, 5, 10, 1, Duration.ofSeconds(2));
+        for (int i = 0; i < 5; i++) {
+            limiter.acquire(TourApiPriority.SEARCH).block(TIMEOUT);
+        }
+        List<TourApiPriority> order = new CopyOnWriteArrayList<>();
+
+        limiter.acquire(TourApiPriority.BACKGROUND).subscribe(null, e -> {}, () -> order.add(TourApiPriority.BACKGROUND));
+        limiter.acquire(TourApiPriority.SEARCH).subscribe(null, e -> {}, () -> order.add(TourApiPriority.SEARCH));
+        limiter.acquire(TourApiPriority.DETAIL).block(TIMEOUT);
+        order.add(TourApiPriority.DETAIL);
+
+        waitUntil(() -> order.size() == 3);
+        assertThat(order).containsExactly(TourApiPriority.DETAIL, TourApiPriority.SEARCH, TourApiPriority.BACKGROUND);
+    }
+
+    @Test
+    void keepsDailyReserveForHigherPriorities() {
+        // 일일 10건 중 2건은 상세/검색용, 그 중 1건은 상세 전용
+        TourApiRateLimiter limiter = limiter(10, 100, 10, 1);
+        for (int i = 0; i < 8; i++) {
+            limiter.acquire(TourApiPriority.DETAIL).block(TIMEOUT);
+        }
+
+        assertThatThrownBy(() -> limiter.acquire(TourApiPriority.BACKGROUND).block(TIMEOUT))
+                .isInstanceOf(TourApiThrottledException.class)
+                .hasMessageContaining("reserved");
+        limiter.acquire(TourApiPriority.SEARCH).block(TIMEOUT);
+        assertThatThrownBy(() -> limiter.acquire(TourApiPriority.SEARCH).block(TIMEOUT))
+                .isInstanceOf(TourApiThrottledException.class);
+        assertThat(limiter.tryAcquire(TourApiPriority.SEARCH)).isFalse();
+        limiter.acquire(TourApiPriority.DETAIL).block(TIMEOUT);
+
+        assertThat(limiter.remainingToday()).isZero();
+        assertThat(shed(TourApiPriority.BACKGROUND)).isEqualTo(1);
+        assertThat(shed(TourApiPriority.SEARCH)).isEqualTo(1);
+    }
+
+    @Test
+    void rejectsWhenQueueIsFull() {
+        TourApiRateLimiter limiter = limiter(1000, 1, 1, 1);
+        limiter.acquire(TourApiPriority.SEARCH).block(TIMEOUT);
+        Disposable waiting = limiter.acquire(TourApiPriority.SEARCH).subscribe(null, e -> {});
+
+        assertThatThrownBy(() -> limiter.acquire(TourApiPriority.SEARCH).block(TIMEOUT))
+                .isInstanceOf(TourApiThrottledException.class)
+                .hasMessageContaining("queue full");
+        waiting.dispose();
+    }
+
+    @Test
+    void rejectsCallThatWaitsTooLong() {
+        TourApiRateLimiter limiter = limiter(1000, 1, 10, 1);
+        limiter.acquire(TourApiPriority.SEARCH).block(TIMEOUT);
+        // 다음 토큰(1초 뒤)보다 최대 대기 시간이 짧다
+        long started = System.nanoTime();
+
+        assertThatThrownBy(() -> limiter.acquire(TourApiPriority.SEARCH).block(TIMEOUT))
+                .isInstanceOf(TourApiThrottledException.class)
+                .hasMessageContaining("rate limited");
+
+        assertThat(Duration.ofNanos(System.nanoTime() - started)).isBetween(MAX_QUEUE_WAIT, Duration.ofSeconds(1));
+        assertThat(queued(TourApiPriority.SEARCH)).isZero();
+    }
+
+    @Test
+    void cancelledWaiterLeavesQueueWithoutTakingQuota() {
+        TourApiRateLimiter limiter = limiter(1000, 1, 10, 1);
+        limiter.acquire(TourApiPriority.SEARCH).block(TIMEOUT);
+        Disposable waiting = limiter.acquire(TourApiPriority.SEARCH).subscribe();
+
+        waiting.dispose();
+
+        assertThat(queued(TourApiPriority.SEARCH)).isZero();
+        sleep(Duration.ofMillis(1100));
+        assertThat(limiter.remainingToday()).isEqualTo(999);
+    }
+
+    @Test
+    void scalesLimitsByKeyCount() {
+        TourApiRateLimiter limiter = limiter(1000, 1, 10, 2);
+
+        assertThat(limiter.tryAcquire(TourApiPriority.DETAIL)).isTrue();
+        assertThat(limiter.tryAcquire(TourApiPriority.DETAIL)).isTrue();
+        assertThat(limiter.tryAcquire(TourApiPriority.DETAIL)).isFalse();
+        assertThat(limiter.remainingToday()).isEqualTo(1998);
+    }
+
+    private TourApiRateLimiter limiter(int dailyLimit, int perSecond, int maxQueueSize, int keys) {
+        return limiter(dailyLimit, perSecond, maxQueueSize, keys, MAX_QUEUE_WAIT);
+    }
+
+    private TourApiRateLimiter limiter(int dailyLimit, int perSecond, int maxQueueSize, int keys,
+                                       Duration maxQueueWait) {
+        TourApiKeyPool keyPool = mock(TourApiKeyPool.class);
+        when(keyPool.size()).thenReturn(keys);
+        TourApiRateLimiter limiter = new TourApiRateLimiter(dailyLimit, perSecond, 0.1, 0.2,
+                maxQueueWait, maxQueueSize, keyPool, meterRegistry);
+        limiters.add(limiter);
+        return limiter;
+    }
+
+    private double queued(TourApiPriority priority) {
+        return meterRegistry.get("tour.api.ratelimit.queued")
+                .tag("priority", priority.name().toLowerCase()).gauge().value();
+    }
+
+    private double shed(TourApiPriority priority) {
+        return meterRegistry.get("tour.api.ratelimit.requests")
+                .tag("priority", priority.name().toLowerCase()).tag("result", "shed").counter().count();
+    }
+
+    private static void waitUntil(BooleanSupplier condition) {
+        long deadline = System.nanoTime() + TIMEOUT.toNanos();
+        while (!condition.getAsBoolean() && System.nanoTime() < deadline) {
+            sleep(Duration.ofMillis(10));
+        }
+    }
+
+    private static void sleep(Duration duration) {
+        try {
+            Thread.sleep(duration.toMillis());
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+    }
+}
@@ -0,0 +1,91 @@
+package com.tripmate.service;
+
+import com.tripmate.dto.TourApiDto.TourDetail;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import java.io.IOException;
+import java.time.Duration;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.Mockito.clearInvocations;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+
+class TourApiServiceDetailTest {
+
+    private static final Duration INTRO_TIMEOUT = Duration.ofSeconds(1);
+
+    private TourApiStub stub;
+
+    @BeforeEach
+    void setUp() throws IOException {
+        stub = new TourApiStub(INTRO_TIMEOUT);
+        // 첫 연결과 코덱 초기화가 제한 시간에 섞이지 않도록 한 번 조회해 둔다
+        stub.service.getDetailInfo("1", 12).block(Duration.ofSeconds(10));
+        stub.commonRequests.set(0);
+        stub.introRequests.set(0);
+        clearInvocations(stub.redis);
+    }
+
+    @AfterEach
+    void tearDown() throws IOException {
+        stub.close();
+    }
+
+    @Test
+    void slowIntroReturnsPartialDetailThatIsNotCached() {
+        stub.introDelay = Duration.ofSeconds(3);
+
+        long started = System.nanoTime();
+        TourDetail detail = stub.service.getDetailInfo("126508", 12).block(Duration.ofSeconds(5));
+        Duration elapsed = Duration.ofNanos(System.nanoTime() - started);
+
+        assertThat(detail.isPartial()).isTrue();
+        assertThat(detail.getTitle()).isEqualTo("경복궁");
+        assertThat(detail.getOverview()).isEqualTo("조선 왕조의 법궁");
+        assertThat(detail.getUseTime()).isNull();
+        assertThat(elapsed).isLessThan(Duration.ofSeconds(3));
+
+        assertThat(stub.detailCache.getIfPresent("126508:12")).isNull();
+        verify(stub.redis, never()).set(anyString(), any(byte[].class), any(Duration.class));
+
+        // 다음 요청은 캐시에서 꺼내지 않고 다시 조회한다
+        stub.service.getDetailInfo("126508", 12).block(Duration.ofSeconds(5));
+
+        assertThat(stub.commonRequests).hasValue(2);
+    }
+
+    @Test
+    void completeDetailIsCached() {
+        TourDetail detail = stub.service.getDetailInfo("126508", 12).block(Duration.ofSeconds(5));
+
+        assertThat(detail.isPartial()).isFalse();
+        assertThat(detail.getRestDate()).isEqualTo("화요일");
+        assertThat(detail.getParking()).isEqualTo("가능");
+        assertThat(stub.detailCache.getIfPresent("126508:12")).isEqualTo(detail);
+        verify(stub.redis, times(1)).set(anyString(), any(byte[].class), any(Duration.class));
+
+        assertThat(stub.service.getDetailInfo("126508", 12).block(Duration.ofSeconds(5))).isEqualTo(detail);
+        assertThat(stub.commonRequests).hasValue(1);
+        assertThat(stub.introRequests).hasValue(1);
+    }
+
+    @Test
+    void commonAndIntroAreFetchedConcurrently() {
+        stub.commonDelay = Duration.ofMillis(500);
+        stub.introDelay = Duration.ofMillis(500);
+
+        long started = System.nanoTime();
+        TourDetail detail = stub.service.getDetailInfo("126508", 12).block(Duration.ofSeconds(5));
+        Duration elapsed = Duration.ofNanos(System.nanoTime() - started);
+
+        assertThat(detail.isPartial()).isFalse();
+        // 차례로 조회하면 1초 이상 걸린다
+        assertThat(elapsed).isLessThan(Duration.ofMillis(900));
+    }
+}
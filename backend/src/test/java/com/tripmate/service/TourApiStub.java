@@ -0,0 +1,122 @@
+package com.tripmate.service;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.type.TypeFactory;
+import com.tripmate.cache.TieredCache;
+import com.tripmate.dto.TourApiDto.TourDetail;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import okhttp3.mockwebserver.Dispatcher;
+import okhttp3.mockwebserver.MockResponse;
+import okhttp3.mockwebserver.MockWebServer;
+import okhttp3.mockwebserver.RecordedRequest;
+import org.springframework.data.redis.core.ReactiveRedisTemplate;
+import org.springframework.data.redis.core.ReactiveValueOperations;
+import org.springframework.http.converter.json.Jackson2ObjectMapperBuilder;
+import org.springframework.mock.env.MockEnvironment;
+import org.springframework.util.unit.DataSize;
+import reactor.core.publisher.Mono;
+
+import java.io.Closeable;
+import java.io.IOException;
+import java.time.Duration;
+import java.util.List;
+import java.util.Set;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.when;
+
+/**
+ * 로컬 MockWebServer 를 Tour API 로 쓰는 TourApiService (상세 조회용)
+ * detailCommon2 는 바로, detailIntro2 는 introDelay 만큼 늦게 응답한다.
+ */
+class TourApiStub implements Closeable {
+
+    static final String COMMON = """
+            {"response":{"header":{"resultCode":"0000","resultMsg":"OK"},"body":{"items":{"item":[
+              {"contentid":"%s","contenttypeid":"12","title":"경복궁","addr1":"서울특별시 종로구 사직로 161",
+               "mapx":"126.9767375783","mapy":"37.5760836609","overview":"조선 왕조의 법궁"}
+            ]},"numOfRows":1,"pageNo":1,"totalCount":1}}}
+            """;
+
+    static final String INTRO = """
+            {"response":{"header":{"resultCode":"0000","resultMsg":"OK"},"body":{"items":{"item":[
+              {"contentid":"%s","contenttypeid":"12","usetime":"09:00~18:00","restdate":"화요일","parking":"가능"}
+            ]},"numOfRows":1,"pageNo":1,"totalCount":1}}}
+            """;
+
+    final MockWebServer server = new MockWebServer();
+    final AtomicInteger commonRequests = new AtomicInteger();
+    final AtomicInteger introRequests = new AtomicInteger();
+    final ReactiveValueOperations<String, byte[]> redis;
+    final TieredCache<TourDetail> detailCache;
+    final TourApiClient client;
+    final TourApiService service;
+
+    volatile Duration commonDelay = Duration.ZERO;
+    volatile Duration introDelay = Duration.ZERO;
+
+    @SuppressWarnings({"unchecked", "rawtypes"})
+    TourApiStub(Duration introTimeout) throws IOException {
+        server.setDispatcher(new Dispatcher() {
+            @Override
+            public MockResponse dispatch(RecordedRequest request) {
+                String path = request.getPath();
+                String contentId = request.getRequestUrl().queryParameter("contentId");
+                if (path.startsWith("/detailCommon2")) {
+                    commonRequests.incrementAndGet();
+                    return json(COMMON.formatted(contentId), commonDelay);
+                }
+                if (path.startsWith("/detailIntro2")) {
+                    introRequests.incrementAndGet();
+                    return json(INTRO.formatted(contentId), introDelay);
+                }
+                return new MockResponse().setResponseCode(404);
+            }
+        });
+        server.start();
+
+        MeterRegistry meterRegistry = new SimpleMeterRegistry();
+        ObjectMapper objectMapper = Jackson2ObjectMapperBuilder.json().build();
+        ReactiveRedisTemplate<String, byte[]> redisTemplate = mock(ReactiveRedisTemplate.class);
+        redis = mock(ReactiveValueOperations.class);
+        when(redisTemplate.opsForValue()).thenReturn(redis);
+        when(redis.get(anyString())).thenReturn(Mono.empty());
+        when(redis.set(anyString(), any(byte[].class), any(Duration.class))).thenReturn(Mono.just(true));
+
+        TourApiKeyPool keyPool = new TourApiKeyPool("test-key", List.of(), 1000, Duration.ofMinutes(10), meterRegistry);
+        TourApiRateLimiter rateLimiter = new TourApiRateLimiter(1000, 100, 0.05, 0.2, Duration.ofSeconds(2), 200,
+                keyPool, meterRegistry);
+        client = new TourApiClient(server.url("").toString().replaceAll("/$", ""),
+                Duration.ofSeconds(30), DataSize.ofMegabytes(2),
+                Duration.ofSeconds(3), Duration.ofSeconds(5), Duration.ofSeconds(30),
+                keyPool, rateLimiter,
+                new TourApiCircuitBreaker(50, 20, 0.5, Duration.ofSeconds(30), 3, meterRegistry),
+                new TourApiHedging(false, Set.of(), 20, Duration.ofMillis(200), rateLimiter, meterRegistry),
+                new MockEnvironment(), meterRegistry);
+
+        detailCache = new TieredCache<TourDetail>("detail", Duration.ofHours(6), 5000, redisTemplate, objectMapper,
+                TypeFactory.defaultInstance().constructType(TourDetail.class), meterRegistry);
+        TieredCache unused = mock(TieredCache.class);
+        service = new TourApiService(client, mock(TourCatalogService.class), mock(TourSpatialIndex.class),
+                mock(TourKeywordIndex.class), unused, unused, detailCache, unused, unused,
+                Duration.ofSeconds(5), introTimeout, 50, 8, Set.of(), 2,
+                Duration.ofSeconds(2), 50, 1000, objectMapper);
+    }
+
+    private static MockResponse json(String body, Duration delay) {
+        return new MockResponse()
+                .setHeader("Content-Type", "application/json;charset=UTF-8")
+                .setBody(body)
+                .setHeadersDelay(delay.toMillis(), TimeUnit.MILLISECONDS);
+    }
+
+    @Override
+    public void close() throws IOException {
+        server.shutdown();
+    }
+}
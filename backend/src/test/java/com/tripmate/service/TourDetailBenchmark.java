@@ -0,0 +1,71 @@
+package com.tripmate.service;
+
+import com.tripmate.dto.TourApiDto.TourDetail;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.io.IOException;
+import java.time.Duration;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * 로컬 스텁에 대한 상세 조회 지연: 공통/소개 정보를 동시에 조회(getDetailInfo) 할 때와 차례로 조회할 때.
+ * 매번 다른 contentId 로 조회해 캐시를 거치지 않는다. 소개 정보 제한 시간은 100ms.
+ * ./gradlew jmh -Pjmh='TourDetailBenchmark'
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 2, time = 2)
+@Measurement(iterations = 3, time = 2)
+@Fork(1)
+public class TourDetailBenchmark {
+
+    private static final Duration TIMEOUT = Duration.ofSeconds(5);
+
+    @Param({"50"})
+    int commonDelayMs;
+
+    @Param({"30", "80", "300"})
+    int introDelayMs;
+
+    private TourApiStub stub;
+    private final AtomicLong contentIds = new AtomicLong(1_000_000);
+
+    @Setup
+    public void setUp() throws IOException {
+        stub = new TourApiStub(Duration.ofMillis(100));
+        stub.commonDelay = Duration.ofMillis(commonDelayMs);
+        stub.introDelay = Duration.ofMillis(introDelayMs);
+    }
+
+    @TearDown
+    public void tearDown() throws IOException {
+        stub.close();
+    }
+
+    @Benchmark
+    public TourDetail concurrent() {
+        return stub.service.getDetailInfo(String.valueOf(contentIds.incrementAndGet()), 12).block(TIMEOUT);
+    }
+
+    @Benchmark
+    public Object sequential() {
+        String contentId = String.valueOf(contentIds.incrementAndGet());
+        return stub.client.call(stub.client.buildUrl("detailCommon2", "contentId", contentId), TourApiPriority.DETAIL)
+                .then(stub.client.call(stub.client.buildUrl("detailIntro2", "contentId", contentId,
+                        "contentTypeId", "12"), TourApiPriority.DETAIL))
+                .block(TIMEOUT);
+    }
+}
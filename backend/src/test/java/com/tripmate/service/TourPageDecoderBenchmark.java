@@ -0,0 +1,144 @@
+package com.tripmate.service;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.tripmate.dto.TourApiDto.ApiResponse;
+import com.tripmate.dto.TourApiDto.Body;
+import com.tripmate.dto.TourApiDto.Item;
+import com.tripmate.dto.TourApiDto.PageResponse;
+import com.tripmate.dto.TourApiDto.TourPlace;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import org.springframework.core.io.buffer.DefaultDataBufferFactory;
+import org.springframework.http.converter.json.Jackson2ObjectMapperBuilder;
+
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * 목록 응답 디코딩 비용 비교: 토큰 스트림(TourPageDecoder) 과 예전 방식(본문 전체를 모아 ApiResponse 로 읽은 뒤 TourPlace 로 복사).
+ * 할당량은 -prof gc 의 gc.alloc.rate.norm 으로 본다.
+ * ./gradlew jmh -Pjmh='TourPageDecoderBenchmark -prof gc'
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class TourPageDecoderBenchmark {
+
+    private static final int CHUNK_SIZE = 8 * 1024;  // 네트워크에서 받는 조각 크기 정도
+
+    @Param({"100", "1000"})
+    int rows;
+
+    private ObjectMapper objectMapper;
+    private List<byte[]> chunks;
+
+    @Setup
+    public void setUp() {
+        objectMapper = Jackson2ObjectMapperBuilder.json().build();
+        byte[] body = body(rows).getBytes(StandardCharsets.UTF_8);
+        chunks = new ArrayList<>();
+        for (int i = 0; i < body.length; i += CHUNK_SIZE) {
+            chunks.add(Arrays.copyOfRange(body, i, Math.min(body.length, i + CHUNK_SIZE)));
+        }
+    }
+
+    @Benchmark
+    public PageResponse<TourPlace> tokenStream() {
+        TourPageDecoder decoder = new TourPageDecoder(1, rows);
+        for (byte[] chunk : chunks) {
+            decoder.feed(DefaultDataBufferFactory.sharedInstance.wrap(chunk));
+        }
+        return decoder.finish();
+    }
+
+    @Benchmark
+    public PageResponse<TourPlace> buffered() throws IOException {
+        ByteArrayOutputStream joined = new ByteArrayOutputStream(CHUNK_SIZE);
+        for (byte[] chunk : chunks) {
+            joined.write(chunk);
+        }
+        Body body = objectMapper.readValue(joined.toByteArray(), ApiResponse.class).getResponse().getBody();
+        List<TourPlace> places = new ArrayList<>();
+        if (body.getItems() != null && body.getItems().getItem() != null) {
+            for (Item item : body.getItems().getItem()) {
+                places.add(toTourPlace(item));
+            }
+        }
+        return PageResponse.<TourPlace>builder()
+                .items(places)
+                .totalCount(body.getTotalCount())
+                .pageNo(1)
+                .numOfRows(rows)
+                .build();
+    }
+
+    private static TourPlace toTourPlace(Item item) {
+        Double dist = null;
+        if (item.getDist() != null && !item.getDist().isEmpty()) {
+            try {
+                dist = Double.parseDouble(item.getDist());
+            } catch (NumberFormatException ignored) {
+            }
+        }
+        return TourPlace.builder()
+                .contentId(item.getContentid())
+                .contentTypeId(item.getContenttypeid())
+                .title(item.getTitle())
+                .addr1(item.getAddr1())
+                .addr2(item.getAddr2())
+                .areaCode(item.getAreacode())
+                .sigunguCode(item.getSigungucode())
+                .cat1(item.getCat1())
+                .cat2(item.getCat2())
+                .cat3(item.getCat3())
+                .firstImage(item.getFirstimage())
+                .firstImage2(item.getFirstimage2())
+                .mapX(item.getMapx())
+                .mapY(item.getMapy())
+                .tel(item.getTel())
+                .overview(item.getOverview())
+                .dist(dist)
+                .build();
+    }
+
+    private static String body(int rows) {
+        StringBuilder sb = new StringBuilder("{\"response\":{\"header\":{\"resultCode\":\"0000\",\"resultMsg\":\"OK\"},"
+                + "\"body\":{\"items\":{\"item\":[");
+        for (int i = 0; i < rows; i++) {
+            String contentId = String.valueOf(126508 + i);
+            if (i > 0) {
+                sb.append(',');
+            }
+            sb.append("{\"addr1\":\"서울특별시 종로구 사직로 ").append(100 + i).append("\",\"addr2\":\"\",")
+                    .append("\"areacode\":\"1\",\"booktour\":\"\",\"cat1\":\"A02\",\"cat2\":\"A0201\",\"cat3\":\"A02010100\",")
+                    .append("\"contentid\":\"").append(contentId).append("\",\"contenttypeid\":\"12\",")
+                    .append("\"createdtime\":\"20031105090000\",\"modifiedtime\":\"20240501093010\",")
+                    .append("\"firstimage\":\"http://tong.visitkorea.or.kr/cms/resource/").append(i).append('/')
+                    .append(contentId).append("_image2_1.jpg\",")
+                    .append("\"firstimage2\":\"http://tong.visitkorea.or.kr/cms/resource/").append(i).append('/')
+                    .append(contentId).append("_image3_1.jpg\",\"cpyrhtDivCd\":\"Type3\",")
+                    .append("\"mapx\":\"").append(126.97 + i * 0.001).append("\",\"mapy\":\"").append(37.57 + i * 0.001)
+                    .append("\",\"mlevel\":\"6\",\"sigungucode\":\"23\",\"tel\":\"02-3700-3900\",")
+                    .append("\"title\":\"관광지 ").append(i).append("\",\"zipcode\":\"03045\"}");
+        }
+        return sb.append("]},\"numOfRows\":").append(rows).append(",\"pageNo\":1,\"totalCount\":")
+                .append(rows * 10).append("}}}").toString();
+    }
+}
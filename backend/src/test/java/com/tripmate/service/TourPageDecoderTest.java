@@ -0,0 +1,126 @@
+package com.tripmate.service;
+
+import com.tripmate.dto.TourApiDto.PageResponse;
+import com.tripmate.dto.TourApiDto.TourPlace;
+import org.junit.jupiter.api.Test;
+import org.springframework.core.io.buffer.DataBuffer;
+import org.springframework.core.io.buffer.DefaultDataBufferFactory;
+
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+class TourPageDecoderTest {
+
+    private static final String PAGE = """
+            {"response":{"header":{"resultCode":"0000","resultMsg":"OK"},
+            "body":{"items":{"item":[
+              {"addr1":"서울특별시 종로구 사직로 161","addr2":"","areacode":"1","cat1":"A02","cat2":"A0201","cat3":"A02010100",
+               "contentid":"126508","contenttypeid":"12","firstimage":"http://tong.visitkorea.or.kr/cms/resource/33/2678633_image2_1.jpg",
+               "mapx":"126.9767375783","mapy":"37.5760836609","mlevel":"6","sigungucode":"23","tel":"02-3700-3900",
+               "title":"경복궁","nested":{"title":"무시","list":[{"contentid":"0"}]}},
+              {"contentid":"126509","contenttypeid":"12","title":"덕수궁","dist":"1234.5"},
+              {"contentid":"126510","contenttypeid":"12","title":"창덕궁","dist":"-"}
+            ]},"numOfRows":3,"pageNo":2,"totalCount":42}}}
+            """;
+
+    private static final String SINGLE_ITEM = """
+            {"response":{"header":{"resultCode":"0000","resultMsg":"OK"},
+            "body":{"items":{"item":{"contentid":"126508","title":"경복궁"}},"numOfRows":10,"pageNo":1,"totalCount":1}}}
+            """;
+
+    private static final String EMPTY_ITEMS = """
+            {"response":{"header":{"resultCode":"0000","resultMsg":"OK"},
+            "body":{"items": "","numOfRows":10,"pageNo":5,"totalCount":0}}}
+            """;
+
+    private static final String ERROR = """
+            {"response":{"header":{"resultCode":"30","resultMsg":"SERVICE_KEY_IS_NOT_REGISTERED_ERROR"}}}
+            """;
+
+    @Test
+    void decodesItemsRegardlessOfChunkBoundaries() {
+        PageResponse<TourPlace> whole = decode(PAGE, Integer.MAX_VALUE);
+
+        assertThat(whole.getTotalCount()).isEqualTo(42);
+        assertThat(whole.getPageNo()).isEqualTo(2);
+        assertThat(whole.getNumOfRows()).isEqualTo(3);
+        assertThat(whole.getItems()).extracting(TourPlace::getContentId).containsExactly("126508", "126509", "126510");
+        TourPlace first = whole.getItems().get(0);
+        assertThat(first.getTitle()).isEqualTo("경복궁");
+        assertThat(first.getAddr1()).isEqualTo("서울특별시 종로구 사직로 161");
+        assertThat(first.getAddr2()).isEmpty();
+        assertThat(first.getMapX()).isEqualTo("126.9767375783");
+        assertThat(whole.getItems()).extracting(TourPlace::getDist).containsExactly(null, 1234.5, null);
+
+        // 한 바이트씩, 또는 여러 바이트 문자 중간에서 잘려 와도 결과가 같아야 한다
+        for (int chunkSize = 1; chunkSize <= 64; chunkSize++) {
+            assertThat(decode(PAGE, chunkSize)).as("chunk size %d", chunkSize).isEqualTo(whole);
+        }
+    }
+
+    @Test
+    void decodesSingleItemObject() {
+        for (int chunkSize : new int[]{1, 3, Integer.MAX_VALUE}) {
+            PageResponse<TourPlace> page = decode(SINGLE_ITEM, chunkSize);
+
+            assertThat(page.getItems()).singleElement()
+                    .satisfies(place -> assertThat(place.getTitle()).isEqualTo("경복궁"));
+        }
+    }
+
+    @Test
+    void decodesEmptyStringItemsAsEmptyPage() {
+        for (int chunkSize : new int[]{1, 2, 7, Integer.MAX_VALUE}) {
+            PageResponse<TourPlace> page = decode(EMPTY_ITEMS, chunkSize);
+
+            assertThat(page.getItems()).isEmpty();
+            assertThat(page.getTotalCount()).isZero();
+            assertThat(page.getPageNo()).isEqualTo(2);
+        }
+    }
+
+    @Test
+    void failsOnErrorResult() {
+        assertThatThrownBy(() -> decode(ERROR, 4))
+                .isInstanceOf(TourApiResultException.class)
+                .hasMessageContaining("SERVICE_KEY_IS_NOT_REGISTERED_ERROR");
+    }
+
+    @Test
+    void handsItemsToConsumerInsteadOfCollecting() {
+        List<String> seen = new ArrayList<>();
+        TourPageDecoder decoder = new TourPageDecoder(2, 3, place -> seen.add(place.getContentId()));
+
+        chunks(PAGE, 5).forEach(decoder::feed);
+        PageResponse<TourPlace> page = decoder.finish();
+
+        assertThat(seen).containsExactly("126508", "126509", "126510");
+        assertThat(page.getItems()).isEmpty();
+        assertThat(page.getTotalCount()).isEqualTo(42);
+    }
+
+    private static PageResponse<TourPlace> decode(String body, int chunkSize) {
+        TourPageDecoder decoder = new TourPageDecoder(2, 3);
+        chunks(body, chunkSize).forEach(decoder::feed);
+        return decoder.finish();
+    }
+
+    /**
+     * 본문을 chunkSize 바이트씩 나눈다. (여러 바이트 문자 중간에서도 자른다)
+     */
+    private static List<DataBuffer> chunks(String body, int chunkSize) {
+        byte[] bytes = body.getBytes(StandardCharsets.UTF_8);
+        int size = Math.min(chunkSize, bytes.length);
+        List<DataBuffer> parts = new ArrayList<>();
+        for (int i = 0; i < bytes.length; i += size) {
+            parts.add(DefaultDataBufferFactory.sharedInstance.wrap(
+                    Arrays.copyOfRange(bytes, i, Math.min(bytes.length, i + size))));
+        }
+        return parts;
+    }
+}
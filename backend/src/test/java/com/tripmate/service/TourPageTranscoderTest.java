@@ -0,0 +1,154 @@
+package com.tripmate.service;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.tripmate.dto.ApiResponse;
+import com.tripmate.dto.TourApiDto.PageResponse;
+import com.tripmate.dto.TourApiDto.TourPlace;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+import org.mockito.Answers;
+import org.springframework.core.io.buffer.DataBuffer;
+import org.springframework.core.io.buffer.DefaultDataBufferFactory;
+import org.springframework.data.redis.core.ReactiveStringRedisTemplate;
+import org.springframework.http.converter.json.Jackson2ObjectMapperBuilder;
+import org.springframework.util.unit.DataSize;
+import reactor.core.publisher.Flux;
+import reactor.core.publisher.Mono;
+
+import java.io.ByteArrayOutputStream;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Path;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.Set;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.when;
+
+class TourPageTranscoderTest {
+
+    private static final String PAGE = """
+            {"response":{"header":{"resultCode":"0000","resultMsg":"OK"},
+            "body":{"items":{"item":[
+              {"addr1":"서울특별시 종로구 사직로 161","addr2":"","areacode":"1","cat1":"A02","cat2":"A0201","cat3":"A02010100",
+               "contentid":"126508","contenttypeid":"12","firstimage":"http://tong.visitkorea.or.kr/cms/resource/33/2678633_image2_1.jpg",
+               "firstimage2":"http://tong.visitkorea.or.kr/cms/resource/33/2678633_image3_1.jpg","mapx":"126.9767375783","mapy":"37.5760836609",
+               "mlevel":"6","sigungucode":"23","tel":"02-3700-3900","title":"경복궁","zipcode":"03045","extra":{"title":"무시"}},
+              {"addr1":"서울특별시 중구 세종대로 99","areacode":"1","contentid":"126509","contenttypeid":"12","firstimage":"",
+               "mapx":"126.9751","mapy":"37.5658","title":"덕수궁 \\"석조전\\"","dist":"120.5"},
+              {"contentid":"126510","contenttypeid":"12","firstimage":"https://example.com/other.jpg","title":"외부 이미지"}
+            ]},"numOfRows":10,"pageNo":1,"totalCount":3}}}
+            """;
+
+    private static final String EMPTY_PAGE = """
+            {"response":{"header":{"resultCode":"0000","resultMsg":"OK"},
+            "body":{"items": "","numOfRows":10,"pageNo":2,"totalCount":0}}}
+            """;
+
+    private static final String ERROR_PAGE = """
+            {"response":{"header":{"resultCode":"22","resultMsg":"LIMITED_NUMBER_OF_SERVICE_REQUESTS_EXCEEDS_ERROR"}}}
+            """;
+
+    private final ObjectMapper objectMapper = Jackson2ObjectMapperBuilder.json().build();
+
+    @TempDir
+    Path cacheDir;
+
+    private TourImageService imageService;
+
+    @BeforeEach
+    void setUp() {
+        ReactiveStringRedisTemplate redisTemplate = mock(ReactiveStringRedisTemplate.class, Answers.RETURNS_DEEP_STUBS);
+        when(redisTemplate.opsForValue().set(anyString(), anyString(), any(Duration.class)))
+                .thenReturn(Mono.just(true));
+        imageService = new TourImageService(cacheDir, DataSize.ofMegabytes(1), Set.of("tong.visitkorea.or.kr"),
+                Duration.ofSeconds(1), redisTemplate, new SimpleMeterRegistry());
+    }
+
+    @AfterEach
+    void tearDown() {
+        imageService.shutdown();
+    }
+
+    @Test
+    void streamedPageMatchesBufferedResponse() throws Exception {
+        for (int chunkSize : new int[]{1, 7, 64, Integer.MAX_VALUE}) {
+            assertThat(streamed(PAGE, 1, chunkSize))
+                    .as("chunk size %d", chunkSize)
+                    .isEqualTo(buffered(PAGE, 1, chunkSize));
+        }
+        assertThat(streamed(PAGE, 1, 7))
+                .contains("\"thumbnail\":\"/api/tour/images/")
+                .contains("\"title\":\"덕수궁 \\\"석조전\\\"\"");
+    }
+
+    @Test
+    void emptyItemsMatchBufferedResponse() throws Exception {
+        String streamed = streamed(EMPTY_PAGE, 2, 5);
+
+        assertThat(streamed).isEqualTo(buffered(EMPTY_PAGE, 2, 5));
+        assertThat(streamed).startsWith("{\"success\":true,\"data\":{\"items\":[],\"totalCount\":0,");
+    }
+
+    @Test
+    void errorResultFailsBeforeWritingAnything() {
+        List<String> written = new ArrayList<>();
+
+        assertThatThrownBy(() -> transcoder(1)
+                .transcode(chunks(ERROR_PAGE, 9))
+                .doOnNext(buffer -> written.add(buffer.toString(StandardCharsets.UTF_8)))
+                .blockLast())
+                .isInstanceOf(TourApiResultException.class);
+        assertThat(written).isEmpty();
+    }
+
+    private String streamed(String page, int pageNo, int chunkSize) {
+        ByteArrayOutputStream out = new ByteArrayOutputStream();
+        transcoder(pageNo).transcode(chunks(page, chunkSize))
+                .doOnNext(buffer -> {
+                    byte[] bytes = new byte[buffer.readableByteCount()];
+                    buffer.read(bytes);
+                    out.writeBytes(bytes);
+                })
+                .blockLast();
+        return out.toString(StandardCharsets.UTF_8);
+    }
+
+    /**
+     * 목록 조회(/places)와 같은 경로: 디코딩 → 썸네일 → ApiResponse 직렬화
+     */
+    private String buffered(String page, int pageNo, int chunkSize) throws Exception {
+        TourPageDecoder decoder = new TourPageDecoder(pageNo, 10);
+        chunks(page, chunkSize).toIterable().forEach(decoder::feed);
+        PageResponse<TourPlace> places = imageService.withThumbnails(decoder.finish());
+        return objectMapper.writeValueAsString(ApiResponse.success(places));
+    }
+
+    private TourPageTranscoder transcoder(int pageNo) {
+        return new TourPageTranscoder(pageNo, 10,
+                source -> imageService.thumbnailUrl(source, TourImageService.LIST_WIDTH),
+                objectMapper, DefaultDataBufferFactory.sharedInstance);
+    }
+
+    /**
+     * 본문을 chunkSize 바이트씩 나눈다. (여러 바이트 문자 중간에서도 자른다)
+     */
+    private static Flux<DataBuffer> chunks(String page, int chunkSize) {
+        byte[] bytes = page.getBytes(StandardCharsets.UTF_8);
+        List<byte[]> parts = new ArrayList<>();
+        int size = Math.min(chunkSize, bytes.length);
+        for (int i = 0; i < bytes.length; i += size) {
+            parts.add(Arrays.copyOfRange(bytes, i, Math.min(bytes.length, i + size)));
+        }
+        return Flux.fromIterable(parts).map(DefaultDataBufferFactory.sharedInstance::wrap);
+    }
+}
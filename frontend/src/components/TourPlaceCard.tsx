@@ -17,7 +17,8 @@ export default function TourPlaceCard({ place }: TourPlaceCardProps) {
         <div className="flex">
           {place.firstImage ? (
             <img
-              src={place.firstImage}
+              src={place.thumbnail ?? place.firstImage}
+              loading="lazy"
               alt={place.title}
               className="w-28 h-28 object-cover flex-shrink-0"
             />
@@ -69,6 +69,17 @@ export function useTourDetail(contentId: string, contentTypeId?: number) {
   })
 }
 
+export function useAreaOverview(areaCode: string, params: {
+  sigunguCode?: string
+  numOfRows?: number
+} = {}) {
+  return useQuery({
+    queryKey: ['tour', 'overview', areaCode, params],
+    queryFn: () => tourService.getAreaOverview(areaCode, params),
+    enabled: !!areaCode,
+  })
+}
+
 export function useAttractions(params: {
   areaCode?: string
   sigunguCode?: string
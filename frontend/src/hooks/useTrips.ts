@@ -60,7 +60,8 @@ export function useDeleteTrip() {
 
 export function useAIRecommendation() {
   return useMutation({
-    mutationFn: tripService.getAIRecommendation,
+    mutationFn: ({ tripId, regenerate }: { tripId: number; regenerate?: boolean }) =>
+      tripService.getAIRecommendation(tripId, regenerate),
   })
 }
 
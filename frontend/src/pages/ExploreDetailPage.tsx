@@ -41,7 +41,7 @@ export default function ExploreDetailPage() {
       <div className="relative">
         {detail.firstImage ? (
           <img
-            src={detail.firstImage}
+            src={detail.thumbnail ?? detail.firstImage}
             alt={detail.title}
             className="w-full h-56 object-cover"
           />
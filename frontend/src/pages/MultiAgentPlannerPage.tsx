@@ -181,7 +181,7 @@ export default function MultiAgentPlannerPage() {
     simulateAgentProgress()
 
     try {
-      const response = await api.post('/ai/multi-agent-plan', {
+      const submitted = await api.post('/ai/multi-agent-plan/jobs', {
         destination,
         startDate,
         endDate,
@@ -190,7 +190,19 @@ export default function MultiAgentPlannerPage() {
         preferences,
       })
 
-      setResult(response.data.data)
+      // 작업이 끝날 때까지 상태 조회
+      let job = submitted.data.data
+      while (job.status === 'QUEUED' || job.status === 'RUNNING') {
+        await new Promise(resolve => setTimeout(resolve, 2000))
+        const response = await api.get(`/ai/multi-agent-plan/jobs/${job.jobId}`)
+        job = response.data.data
+      }
+      if (job.status === 'FAILED') {
+        setError(job.result?.errors?.[0] || '계획 생성 중 오류가 발생했습니다.')
+        return
+      }
+
+      setResult(job.result)
       setCurrentAgent(null)
       setExpandedDay(1)
     } catch (err: any) {
@@ -67,7 +67,8 @@ export default function TripDetailPage() {
   }
 
   const handleAIRecommend = async () => {
-    const result = await aiRecommendMutation.mutateAsync(Number(id))
+    // 이미 추천을 받았으면 같은 조건의 캐시 대신 새 추천을 요청
+    const result = await aiRecommendMutation.mutateAsync({ tripId: Number(id), regenerate: !!aiSummary })
     setSchedules(result.schedules)
     setAiSummary(result.summary)
   }
@@ -190,7 +191,7 @@ export default function TripDetailPage() {
           className="flex-1 flex items-center justify-center gap-2"
         >
           <Sparkles className="w-5 h-5" />
-          AI 일정 추천
+          {aiSummary ? 'AI 일정 다시 추천' : 'AI 일정 추천'}
         </Button>
         <Link to={`/companions/create?tripId=${trip.id}`} className="flex-1">
           <Button variant="outline" className="w-full flex items-center justify-center gap-2">
@@ -19,6 +19,7 @@ export interface TourPlace {
   tel: string | null
   overview: string | null
   dist: number | null
+  thumbnail: string | null
 }
 
 export interface TourDetail extends TourPlace {
@@ -49,6 +50,14 @@ export interface TourPageResponse<T> {
   numOfRows: number
 }
 
+export interface AreaOverview {
+  attractions: TourPageResponse<TourPlace> | null
+  restaurants: TourPageResponse<TourPlace> | null
+  accommodations: TourPageResponse<TourPlace> | null
+  festivals: TourPageResponse<TourPlace> | null
+  unavailableTypes: number[]
+}
+
 export const CONTENT_TYPES = {
   ATTRACTION: 12,
   CULTURE: 14,
@@ -130,6 +139,15 @@ export const tourService = {
     return response.data.data
   },
 
+  // 지역 개요 (관광지/음식점/숙박/축제 한 번에)
+  getAreaOverview: async (areaCode: string, params: {
+    sigunguCode?: string
+    numOfRows?: number
+  } = {}): Promise<AreaOverview> => {
+    const response = await api.get<ApiResponse<AreaOverview>>(`/tour/areas/${areaCode}/overview`, { params })
+    return response.data.data
+  },
+
   // 관광지 목록
   getAttractions: async (params: {
     areaCode?: string
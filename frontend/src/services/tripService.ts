@@ -56,8 +56,10 @@ export const tripService = {
     return response.data.data
   },
 
-  getAIRecommendation: async (tripId: number): Promise<AIRecommendation> => {
-    const response = await api.post<ApiResponse<AIRecommendation>>(`/trips/${tripId}/ai-recommend`)
+  getAIRecommendation: async (tripId: number, regenerate = false): Promise<AIRecommendation> => {
+    const response = await api.post<ApiResponse<AIRecommendation>>(`/trips/${tripId}/ai-recommend`, null, {
+      params: regenerate ? { regenerate } : undefined,
+    })
     return response.data.data
   },
 }